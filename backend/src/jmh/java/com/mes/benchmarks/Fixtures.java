@@ -0,0 +1,142 @@
+package com.mes.benchmarks;
+
+import com.mes.adapter.out.persistence.entity.Issue;
+import com.mes.adapter.out.persistence.entity.Role;
+import com.mes.adapter.out.persistence.entity.User;
+import com.mes.adapter.out.persistence.entity.WorkLog;
+import com.mes.adapter.out.persistence.entity.WorkOrder;
+import com.mes.adapter.out.persistence.entity.enums.IssueStatus;
+import com.mes.adapter.out.persistence.entity.enums.LogAction;
+import com.mes.adapter.out.persistence.entity.enums.Priority;
+import com.mes.adapter.out.persistence.entity.enums.WorkStatus;
+import com.mes.adapter.out.persistence.repository.projection.IssueView;
+import com.mes.adapter.out.persistence.repository.projection.WorkLogView;
+import com.mes.adapter.out.persistence.repository.projection.WorkOrderView;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Fully populated entities and projections. Views are map-backed projection proxies, the same
+ * kind of object Spring Data hands the controllers for tuple queries.
+ */
+final class Fixtures {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 14, 9, 30);
+    private static final SpelAwareProxyProjectionFactory PROJECTIONS = new SpelAwareProxyProjectionFactory();
+
+    private Fixtures() {
+    }
+
+    static User user() {
+        User user = new User();
+        user.setId(7L);
+        user.setEmail("worker@mes.com");
+        user.setName("작업자");
+        user.setRole(Role.WORKER);
+        user.setIsActive(true);
+        return user;
+    }
+
+    static WorkOrder workOrder() {
+        WorkOrder workOrder = new WorkOrder();
+        workOrder.setId(1001L);
+        workOrder.setOrderNumber("WO-2025-001001");
+        workOrder.setProductName("브라켓 A형");
+        workOrder.setProductCode("BRK-A");
+        workOrder.setQuantity(500);
+        workOrder.setDueDate(NOW.plusDays(3));
+        workOrder.setPriority(Priority.HIGH);
+        workOrder.setStatus(WorkStatus.IN_PROGRESS);
+        workOrder.setInstructions("도면 Rev.3 기준으로 가공");
+        workOrder.setProgress(40);
+        workOrder.setAssignedTo(user());
+        workOrder.setStartedAt(NOW.minusHours(2));
+        workOrder.setCreatedAt(NOW.minusDays(1));
+        workOrder.setUpdatedAt(NOW);
+        workOrder.setVersion(3L);
+        return workOrder;
+    }
+
+    static Issue issue() {
+        Issue issue = new Issue();
+        issue.setId(301L);
+        issue.setWorkOrder(workOrder());
+        issue.setTitle("설비 진동");
+        issue.setDescription("2번 라인 CNC 진동 발생");
+        issue.setPriority(Priority.HIGH);
+        issue.setStatus(IssueStatus.OPEN);
+        issue.setReporter(user());
+        issue.setCreatedAt(NOW);
+        return issue;
+    }
+
+    static WorkLog workLog() {
+        WorkLog workLog = new WorkLog();
+        workLog.setId(5001L);
+        workLog.setWorkOrder(workOrder());
+        workLog.setWorker(user());
+        workLog.setAction(LogAction.START);
+        workLog.setNotes("작업 시작");
+        workLog.setProgress(0);
+        workLog.setCreatedAt(NOW);
+        workLog.setLoggedAt(NOW);
+        return workLog;
+    }
+
+    static WorkOrderView workOrderView() {
+        WorkOrder source = workOrder();
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", source.getId());
+        row.put("orderNumber", source.getOrderNumber());
+        row.put("productName", source.getProductName());
+        row.put("productCode", source.getProductCode());
+        row.put("quantity", source.getQuantity());
+        row.put("dueDate", source.getDueDate());
+        row.put("priority", source.getPriority());
+        row.put("status", source.getStatus());
+        row.put("instructions", source.getInstructions());
+        row.put("progress", source.getProgress());
+        row.put("assignedToId", source.getAssignedTo().getId());
+        row.put("assignedToName", source.getAssignedTo().getName());
+        row.put("startedAt", source.getStartedAt());
+        row.put("createdAt", source.getCreatedAt());
+        row.put("updatedAt", source.getUpdatedAt());
+        row.put("version", source.getVersion());
+        return PROJECTIONS.createProjection(WorkOrderView.class, row);
+    }
+
+    static IssueView issueView() {
+        Issue source = issue();
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", source.getId());
+        row.put("workOrderId", source.getWorkOrder().getId());
+        row.put("workOrderNumber", source.getWorkOrder().getOrderNumber());
+        row.put("title", source.getTitle());
+        row.put("description", source.getDescription());
+        row.put("priority", source.getPriority());
+        row.put("status", source.getStatus());
+        row.put("reporterId", source.getReporter().getId());
+        row.put("reporterName", source.getReporter().getName());
+        row.put("createdAt", source.getCreatedAt());
+        return PROJECTIONS.createProjection(IssueView.class, row);
+    }
+
+    static WorkLogView workLogView() {
+        WorkLog source = workLog();
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", source.getId());
+        row.put("workOrderId", source.getWorkOrder().getId());
+        row.put("workOrderNumber", source.getWorkOrder().getOrderNumber());
+        row.put("workerId", source.getWorker().getId());
+        row.put("workerName", source.getWorker().getName());
+        row.put("action", source.getAction());
+        row.put("notes", source.getNotes());
+        row.put("progress", source.getProgress());
+        row.put("createdAt", source.getCreatedAt());
+        row.put("loggedAt", source.getLoggedAt());
+        return PROJECTIONS.createProjection(WorkLogView.class, row);
+    }
+}
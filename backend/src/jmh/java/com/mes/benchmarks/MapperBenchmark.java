@@ -0,0 +1,128 @@
+package com.mes.benchmarks;
+
+import com.mes.adapter.out.persistence.entity.Issue;
+import com.mes.adapter.out.persistence.entity.WorkLog;
+import com.mes.adapter.out.persistence.entity.WorkOrder;
+import com.mes.adapter.out.persistence.repository.projection.IssueView;
+import com.mes.adapter.out.persistence.repository.projection.WorkLogView;
+import com.mes.adapter.out.persistence.repository.projection.WorkOrderView;
+import com.mes.common.dto.issue.IssueDto;
+import com.mes.common.dto.worklog.WorkLogDto;
+import com.mes.common.dto.workorder.WorkOrderDto;
+import com.mes.common.mapper.IssueMapper;
+import com.mes.common.mapper.WorkLogMapper;
+import com.mes.common.mapper.WorkOrderMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/** Entity/domain/projection conversions done on every read and write path. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    private final WorkOrderMapper workOrderMapper = new WorkOrderMapper();
+    private final IssueMapper issueMapper = new IssueMapper();
+    private final WorkLogMapper workLogMapper = new WorkLogMapper();
+
+    private WorkOrder workOrderEntity;
+    private com.mes.domain.model.WorkOrder workOrderDomain;
+    private WorkOrderView workOrderView;
+    private Issue issueEntity;
+    private com.mes.domain.model.Issue issueDomain;
+    private IssueView issueView;
+    private WorkLog workLogEntity;
+    private com.mes.domain.model.WorkLog workLogDomain;
+    private WorkLogView workLogView;
+
+    @Setup
+    public void setUp() {
+        workOrderEntity = Fixtures.workOrder();
+        workOrderDomain = workOrderMapper.toDomain(workOrderEntity);
+        workOrderView = Fixtures.workOrderView();
+        issueEntity = Fixtures.issue();
+        issueDomain = issueMapper.toDomain(issueEntity);
+        issueView = Fixtures.issueView();
+        workLogEntity = Fixtures.workLog();
+        workLogDomain = workLogMapper.toDomain(workLogEntity);
+        workLogView = Fixtures.workLogView();
+    }
+
+    @Benchmark
+    public com.mes.domain.model.WorkOrder workOrderToDomain() {
+        return workOrderMapper.toDomain(workOrderEntity);
+    }
+
+    @Benchmark
+    public WorkOrder workOrderToEntity() {
+        return workOrderMapper.toEntity(workOrderDomain);
+    }
+
+    @Benchmark
+    public WorkOrderDto workOrderEntityToDto() {
+        return workOrderMapper.toDto(workOrderEntity);
+    }
+
+    @Benchmark
+    public WorkOrderDto workOrderDomainToDto() {
+        return workOrderMapper.toDto(workOrderDomain);
+    }
+
+    @Benchmark
+    public WorkOrderDto workOrderViewToDto() {
+        return workOrderMapper.toDto(workOrderView);
+    }
+
+    @Benchmark
+    public com.mes.domain.model.Issue issueToDomain() {
+        return issueMapper.toDomain(issueEntity);
+    }
+
+    @Benchmark
+    public Issue issueToEntity() {
+        return issueMapper.toEntity(issueDomain);
+    }
+
+    @Benchmark
+    public IssueDto issueEntityToDto() {
+        return issueMapper.toDto(issueEntity);
+    }
+
+    @Benchmark
+    public IssueDto issueViewToDto() {
+        return issueMapper.toDto(issueView);
+    }
+
+    @Benchmark
+    public com.mes.domain.model.WorkLog workLogToDomain() {
+        return workLogMapper.toDomain(workLogEntity);
+    }
+
+    @Benchmark
+    public WorkLog workLogToEntity() {
+        return workLogMapper.toEntity(workLogDomain);
+    }
+
+    @Benchmark
+    public WorkLogDto workLogEntityToDto() {
+        return workLogMapper.toDto(workLogEntity);
+    }
+
+    @Benchmark
+    public WorkLogDto workLogViewToDto() {
+        return workLogMapper.toDto(workLogView);
+    }
+}
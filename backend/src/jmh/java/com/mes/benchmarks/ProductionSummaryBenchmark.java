@@ -0,0 +1,140 @@
+package com.mes.benchmarks;
+
+import com.mes.adapter.in.web.controller.DashboardController;
+import com.mes.adapter.out.persistence.repository.projection.DailyProductionTotals;
+import com.mes.adapter.out.persistence.repository.projection.ProductProductionTotals;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The Java side of {@code GET /api/dashboard/production-summary} over synthetic order books.
+ *
+ * The endpoint groups by product and day in SQL, so {@link #summarizeGroupedRows} only folds the
+ * grouped rows; its cost follows the number of products and days, not orders. For comparison,
+ * {@link #aggregateRawOrders} does the same grouping in Java over every order row, which is what
+ * loading the orders into the JVM would cost before any transfer time. The catalog has one product
+ * per 100 orders, and the orders are spread over a year.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class ProductionSummaryBenchmark {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2025, 1, 1);
+    private static final int DAYS = 365;
+
+    @Param({"10000", "100000", "1000000"})
+    public int orders;
+
+    private OrderRow[] rows;
+    private List<ProductProductionTotals> productTotals;
+    private List<DailyProductionTotals> dailyTotals;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        int products = Math.max(1, orders / 100);
+        rows = new OrderRow[orders];
+        for (int i = 0; i < orders; i++) {
+            int quantity = 10 + random.nextInt(990);
+            boolean completed = random.nextInt(4) != 0;
+            rows[i] = new OrderRow("PRODUCT-" + random.nextInt(products), FIRST_DAY.plusDays(random.nextInt(DAYS)),
+                quantity, completed ? quantity - random.nextInt(5) : 0);
+        }
+        productTotals = new ArrayList<>(byProduct(rows).values());
+        dailyTotals = new ArrayList<>(byDay(rows).values());
+    }
+
+    @Benchmark
+    public Map<String, Object> summarizeGroupedRows() {
+        return DashboardController.summarize(productTotals, dailyTotals);
+    }
+
+    @Benchmark
+    public Map<String, Object> aggregateRawOrders() {
+        return DashboardController.summarize(new ArrayList<>(byProduct(rows).values()),
+            new ArrayList<>(byDay(rows).values()));
+    }
+
+    private static Map<String, Totals> byProduct(OrderRow[] rows) {
+        Map<String, Totals> totals = new TreeMap<>();
+        for (OrderRow row : rows) {
+            totals.computeIfAbsent(row.productName, name -> new Totals(name, null)).add(row);
+        }
+        return totals;
+    }
+
+    private static Map<LocalDate, Totals> byDay(OrderRow[] rows) {
+        Map<LocalDate, Totals> totals = new TreeMap<>();
+        for (OrderRow row : rows) {
+            totals.computeIfAbsent(row.date, date -> new Totals(null, date)).add(row);
+        }
+        return totals;
+    }
+
+    private static final class OrderRow {
+
+        private final String productName;
+        private final LocalDate date;
+        private final long ordered;
+        private final long produced;
+
+        private OrderRow(String productName, LocalDate date, long ordered, long produced) {
+            this.productName = productName;
+            this.date = date;
+            this.ordered = ordered;
+            this.produced = produced;
+        }
+    }
+
+    /** Stands in for both grouped projections returned by the repository. */
+    private static final class Totals implements ProductProductionTotals, DailyProductionTotals {
+
+        private final String productName;
+        private final LocalDate date;
+        private long ordered;
+        private long produced;
+
+        private Totals(String productName, LocalDate date) {
+            this.productName = productName;
+            this.date = date;
+        }
+
+        private void add(OrderRow row) {
+            ordered += row.ordered;
+            produced += row.produced;
+        }
+
+        @Override
+        public String getProductName() { return productName; }
+
+        @Override
+        public LocalDate getDate() { return date; }
+
+        @Override
+        public Long getOrdered() { return ordered; }
+
+        @Override
+        public Long getProduced() { return produced; }
+    }
+}
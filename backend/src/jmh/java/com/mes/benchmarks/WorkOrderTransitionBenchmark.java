@@ -0,0 +1,76 @@
+package com.mes.benchmarks;
+
+import com.mes.domain.model.WorkOrder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Domain-side status transitions. Every invocation builds its own order in the right status, so
+ * the accepted path is measured rather than the rejection; {@link #newOrder} is the baseline to
+ * subtract.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WorkOrderTransitionBenchmark {
+
+    private int tick;
+
+    @Benchmark
+    public WorkOrder newOrder() {
+        return inProgress();
+    }
+
+    @Benchmark
+    public WorkOrder startWork() {
+        WorkOrder workOrder = new WorkOrder();
+        workOrder.startWork();
+        return workOrder;
+    }
+
+    @Benchmark
+    public WorkOrder completeWork() {
+        WorkOrder workOrder = inProgress();
+        workOrder.completeWork();
+        return workOrder;
+    }
+
+    @Benchmark
+    public WorkOrder updateProgress() {
+        WorkOrder workOrder = inProgress();
+        workOrder.updateProgress(nextProgress());
+        return workOrder;
+    }
+
+    @Benchmark
+    public WorkOrder fullLifecycle() {
+        WorkOrder workOrder = new WorkOrder();
+        workOrder.startWork();
+        workOrder.updateProgress(nextProgress());
+        workOrder.completeWork();
+        return workOrder;
+    }
+
+    private static WorkOrder inProgress() {
+        WorkOrder workOrder = new WorkOrder();
+        workOrder.setStatus("IN_PROGRESS");
+        return workOrder;
+    }
+
+    private int nextProgress() {
+        tick = (tick + 7) % 101;
+        return tick;
+    }
+}
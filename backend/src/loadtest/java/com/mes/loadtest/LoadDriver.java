@@ -0,0 +1,444 @@
+package com.mes.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Replays a shop-floor request mix against a running server and records latency per endpoint.
+ *
+ * Workers tick progress on the orders assigned to them and check their own lists; managers poll
+ * the dashboard, page through orders, and open order details, logs and open issues. Sessions log
+ * in with the generator's accounts ({@link SyntheticDataGenerator#email}); id pools come from the
+ * API itself, so the driver works against any database the generator has loaded.
+ *
+ * With {@code rate > 0} requests are scheduled at a fixed arrival rate spread over the threads,
+ * and latency is measured from the scheduled start rather than the actual send: when the server
+ * stalls, requests that should have been sent during the stall count the wait, instead of the
+ * driver quietly slowing down with it (coordinated omission). With {@code rate == 0} each thread
+ * sends back to back and the result is the closed-loop throughput. Requests started during the
+ * warmup are not recorded.
+ */
+public class LoadDriver {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadDriver.class);
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final String[] LIST_STATUSES = {"PENDING", "IN_PROGRESS", "COMPLETED", "PAUSED"};
+
+    public enum Operation {
+        PROGRESS_TICK("progress-tick", 50),
+        WORK_ORDER_DETAIL("work-order-detail", 10),
+        WORK_ORDER_LIST("work-order-list", 15),
+        WORK_LOG_LIST("work-log-list", 5),
+        ISSUE_LIST("issue-list", 5),
+        DASHBOARD_STATS("dashboard-stats", 10),
+        RECENT_ACTIVITIES("recent-activities", 3),
+        PRODUCTION_SUMMARY("production-summary", 2),
+        // No database work: shows whether the server still answers while the database is saturated
+        HEALTH("health", 1);
+
+        private final String label;
+        private final int defaultWeight;
+
+        Operation(String label, int defaultWeight) {
+            this.label = label;
+            this.defaultWeight = defaultWeight;
+        }
+
+        public String label() { return label; }
+        public int defaultWeight() { return defaultWeight; }
+
+        public static Operation fromLabel(String label) {
+            for (Operation operation : values()) {
+                if (operation.label.equals(label)) {
+                    return operation;
+                }
+            }
+            throw new IllegalArgumentException("Unknown operation: " + label);
+        }
+    }
+
+    private final URI baseUrl;
+    private final int threads;
+    private final Duration warmup;
+    private final Duration duration;
+    private final double rate;
+    private final int workerSessions;
+    private final int managerSessions;
+    private final String password;
+    private final long seed;
+    private final Map<Operation, Integer> mix;
+
+    private final HttpClient client = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final List<Session> workers = new ArrayList<>();
+    private final List<Session> managers = new ArrayList<>();
+    private long[] orderIds = new long[0];
+
+    public LoadDriver(URI baseUrl, int threads, Duration warmup, Duration duration, double rate,
+                      int workerSessions, int managerSessions, String password, long seed,
+                      Map<Operation, Integer> mix) {
+        this.baseUrl = baseUrl;
+        this.threads = threads;
+        this.warmup = warmup;
+        this.duration = duration;
+        this.rate = rate;
+        this.workerSessions = workerSessions;
+        this.managerSessions = managerSessions;
+        this.password = password;
+        this.seed = seed;
+        this.mix = new EnumMap<>(mix);
+    }
+
+    public Report run() throws Exception {
+        prepare();
+
+        Report report = new Report(describe());
+        int[] weights = weights();
+        long start = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100);
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+
+        log.info("Running {} threads for {} (+{} warmup), {}", threads, duration, warmup,
+            rate > 0 ? rate + " req/s" : "closed loop");
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> loops = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                int index = i;
+                loops.add(executor.submit(() -> loop(index, weights, start, measureFrom, end, report)));
+            }
+            for (Future<?> loop : loops) {
+                loop.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        report.finish(duration);
+        return report;
+    }
+
+    private void loop(int index, int[] weights, long start, long measureFrom, long end, Report report) {
+        SplittableRandom random = new SplittableRandom(seed + index);
+        double interval = rate > 0 ? TimeUnit.SECONDS.toNanos(1) * threads / rate : 0;
+        double offset = rate > 0 ? TimeUnit.SECONDS.toNanos(1) * index / rate : 0;
+        for (long k = 0; ; k++) {
+            long intended = rate > 0 ? start + (long) (offset + k * interval) : Math.max(start, System.nanoTime());
+            if (intended >= end) {
+                return;
+            }
+            for (long wait; (wait = intended - System.nanoTime()) > 0; ) {
+                LockSupport.parkNanos(wait);
+            }
+
+            Operation operation = pick(weights, random);
+            boolean ok;
+            try {
+                HttpResponse<Void> response = client.send(request(operation, random), HttpResponse.BodyHandlers.discarding());
+                ok = response.statusCode() < 400;
+            } catch (IOException e) {
+                ok = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (intended >= measureFrom) {
+                report.record(operation, System.nanoTime() - intended, ok);
+            }
+        }
+    }
+
+    private HttpRequest request(Operation operation, SplittableRandom random) {
+        Session manager = managers.get(random.nextInt(managers.size()));
+        switch (operation) {
+            case PROGRESS_TICK -> {
+                Session worker = workers.get(random.nextInt(workers.size()));
+                long id = worker.orderIds[random.nextInt(worker.orderIds.length)];
+                return authorized(worker, "/api/work-orders/" + id + "/progress")
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString("{\"progress\":" + random.nextInt(1, 100) + "}"))
+                    .build();
+            }
+            case WORK_ORDER_DETAIL -> {
+                return authorized(manager, "/api/work-orders/" + orderIds[random.nextInt(orderIds.length)]).GET().build();
+            }
+            case WORK_ORDER_LIST -> {
+                // Half are workers opening their own queue, half managers filtering the floor
+                if (random.nextBoolean()) {
+                    return authorized(workers.get(random.nextInt(workers.size())), "/api/work-orders?status=IN_PROGRESS")
+                        .GET().build();
+                }
+                return authorized(manager, "/api/work-orders?status=" + LIST_STATUSES[random.nextInt(LIST_STATUSES.length)])
+                    .GET().build();
+            }
+            case WORK_LOG_LIST -> {
+                return authorized(manager, "/api/work-logs?workOrderId=" + orderIds[random.nextInt(orderIds.length)])
+                    .GET().build();
+            }
+            case ISSUE_LIST -> {
+                return authorized(manager, "/api/issues?status=OPEN&priority=URGENT").GET().build();
+            }
+            case DASHBOARD_STATS -> {
+                return authorized(manager, "/api/dashboard/stats").GET().build();
+            }
+            case RECENT_ACTIVITIES -> {
+                return authorized(manager, "/api/dashboard/recent-activities?limit=20").GET().build();
+            }
+            case PRODUCTION_SUMMARY -> {
+                return authorized(manager, "/api/dashboard/production-summary").GET().build();
+            }
+            case HEALTH -> {
+                return HttpRequest.newBuilder(baseUrl.resolve("/api/test/health")).timeout(REQUEST_TIMEOUT).GET().build();
+            }
+            default -> throw new IllegalStateException("Unhandled operation " + operation);
+        }
+    }
+
+    private HttpRequest.Builder authorized(Session session, String path) {
+        return HttpRequest.newBuilder(baseUrl.resolve(path))
+            .timeout(REQUEST_TIMEOUT)
+            .header("Authorization", "Bearer " + session.token);
+    }
+
+    private Operation pick(int[] weights, SplittableRandom random) {
+        int roll = random.nextInt(weights[weights.length - 1]);
+        for (int i = 0; i < weights.length; i++) {
+            if (roll < weights[i]) {
+                return Operation.values()[i];
+            }
+        }
+        throw new IllegalStateException("Weights do not cover " + roll);
+    }
+
+    /** Cumulative weights in {@link Operation} order. */
+    private int[] weights() {
+        int[] cumulative = new int[Operation.values().length];
+        int total = 0;
+        for (Operation operation : Operation.values()) {
+            total += mix.getOrDefault(operation, 0);
+            cumulative[operation.ordinal()] = total;
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("The request mix has no weight");
+        }
+        return cumulative;
+    }
+
+    private void prepare() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, 16));
+        try {
+            List<Future<Session>> managerLogins = new ArrayList<>();
+            for (int n = 1; n <= managerSessions; n++) {
+                String email = SyntheticDataGenerator.email("MANAGER", n);
+                managerLogins.add(executor.submit(() -> login(email)));
+            }
+            List<Future<Session>> workerLogins = new ArrayList<>();
+            for (int n = 1; n <= workerSessions; n++) {
+                String email = SyntheticDataGenerator.email("WORKER", n);
+                workerLogins.add(executor.submit(() -> {
+                    Session session = login(email);
+                    if (session != null) {
+                        session.orderIds = ids(session, "/api/work-orders?status=IN_PROGRESS&size=200", 1);
+                    }
+                    return session;
+                }));
+            }
+            for (Future<Session> login : managerLogins) {
+                if (login.get() != null) {
+                    managers.add(login.get());
+                }
+            }
+            for (Future<Session> login : workerLogins) {
+                Session session = login.get();
+                // Workers with nothing in progress have nothing to tick
+                if (session != null && session.orderIds.length > 0) {
+                    workers.add(session);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        if (managers.isEmpty() || workers.isEmpty()) {
+            throw new IllegalStateException("Need at least one manager and one worker with orders in progress; "
+                + "load data with SyntheticDataGenerator first (logged in " + managers.size() + " managers, "
+                + workers.size() + " workers)");
+        }
+        orderIds = ids(managers.get(0), "/api/work-orders?size=200", 25);
+        log.info("Sessions: {} managers, {} workers with orders in progress; {} order ids for detail views",
+            managers.size(), workers.size(), orderIds.length);
+    }
+
+    private Session login(String email) throws IOException, InterruptedException {
+        String body = objectMapper.writeValueAsString(Map.of("email", email, "password", password));
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(baseUrl.resolve("/api/auth/login"))
+            .timeout(REQUEST_TIMEOUT)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            log.warn("Login failed for {}: HTTP {}", email, response.statusCode());
+            return null;
+        }
+        return new Session(objectMapper.readTree(response.body()).get("token").asText());
+    }
+
+    /** Ids from up to {@code pages} keyset pages of a work order list. */
+    private long[] ids(Session session, String path, int pages) throws IOException, InterruptedException {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        for (int page = 0; page < pages; page++) {
+            String url = cursor == null ? path : path + "&cursor=" + cursor;
+            HttpResponse<String> response = client.send(authorized(session, url).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("GET " + url + " returned HTTP " + response.statusCode());
+            }
+            JsonNode body = objectMapper.readTree(response.body());
+            body.get("data").forEach(order -> ids.add(order.get("id").asLong()));
+            JsonNode next = body.get("nextCursor");
+            if (next == null || next.isNull()) {
+                break;
+            }
+            cursor = next.asText();
+        }
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private Map<String, Object> describe() {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("baseUrl", baseUrl.toString());
+        settings.put("threads", threads);
+        settings.put("warmup", warmup.toString());
+        settings.put("duration", duration.toString());
+        settings.put("rate", rate > 0 ? rate : "closed-loop");
+        settings.put("workerSessions", workers.size());
+        settings.put("managerSessions", managers.size());
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        mix.forEach((operation, weight) -> weights.put(operation.label(), weight));
+        settings.put("mix", weights);
+        return settings;
+    }
+
+    private static final class Session {
+
+        private final String token;
+        private long[] orderIds = new long[0];
+
+        private Session(String token) {
+            this.token = token;
+        }
+    }
+
+    /** Latency histograms (microseconds) and error counts per operation. */
+    public static final class Report {
+
+        private final Map<String, Object> settings;
+        private final Map<Operation, Histogram> latencies = new EnumMap<>(Operation.class);
+        private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+        private double seconds;
+
+        private Report(Map<String, Object> settings) {
+            this.settings = settings;
+            for (Operation operation : Operation.values()) {
+                latencies.put(operation, new ConcurrentHistogram(3));
+                errors.put(operation, new LongAdder());
+            }
+        }
+
+        private void record(Operation operation, long nanos, boolean ok) {
+            latencies.get(operation).recordValue(Math.max(1, nanos / 1_000));
+            if (!ok) {
+                errors.get(operation).increment();
+            }
+        }
+
+        private void finish(Duration measured) {
+            seconds = measured.toNanos() / 1e9;
+        }
+
+        public Map<String, Object> toMap() {
+            Map<String, Object> operations = new LinkedHashMap<>();
+            Histogram total = new Histogram(3);
+            long totalErrors = 0;
+            for (Operation operation : Operation.values()) {
+                Histogram histogram = latencies.get(operation);
+                if (histogram.getTotalCount() == 0) {
+                    continue;
+                }
+                long operationErrors = errors.get(operation).sum();
+                operations.put(operation.label(), summary(histogram, operationErrors));
+                total.add(histogram);
+                totalErrors += operationErrors;
+            }
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("settings", settings);
+            result.put("measuredSeconds", seconds);
+            result.put("operations", operations);
+            result.put("total", summary(total, totalErrors));
+            return result;
+        }
+
+        private Map<String, Object> summary(Histogram histogram, long errorCount) {
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("count", histogram.getTotalCount());
+            summary.put("errors", errorCount);
+            summary.put("throughput", round(histogram.getTotalCount() / seconds));
+            summary.put("p50Ms", millis(histogram.getValueAtPercentile(50)));
+            summary.put("p99Ms", millis(histogram.getValueAtPercentile(99)));
+            summary.put("p999Ms", millis(histogram.getValueAtPercentile(99.9)));
+            summary.put("maxMs", millis(histogram.getMaxValue()));
+            return summary;
+        }
+
+        @SuppressWarnings("unchecked")
+        public String toTable() {
+            Map<String, Object> map = toMap();
+            StringBuilder table = new StringBuilder(String.format("%-20s %9s %7s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms"));
+            Map<String, Object> rows = new LinkedHashMap<>((Map<String, Object>) map.get("operations"));
+            rows.put("TOTAL", map.get("total"));
+            rows.forEach((name, value) -> {
+                Map<String, Object> row = (Map<String, Object>) value;
+                table.append(String.format("%-20s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n", name,
+                    row.get("count"), row.get("errors"), row.get("throughput"), row.get("p50Ms"),
+                    row.get("p99Ms"), row.get("p999Ms"), row.get("maxMs")));
+            });
+            return table.toString();
+        }
+
+        private static double millis(long micros) {
+            return round(micros / 1_000.0);
+        }
+
+        private static double round(double value) {
+            return Math.round(value * 100) / 100.0;
+        }
+    }
+}
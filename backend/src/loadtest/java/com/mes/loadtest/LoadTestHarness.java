@@ -0,0 +1,210 @@
+package com.mes.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mes.MesInnoApplication;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generates data, starts the application on it and drives load; see README "부하 테스트".
+ *
+ * By default everything runs in one JVM against an in-memory H2 database. {@code --jdbc-url}
+ * points the generator and the application at another database (a local MySQL), and
+ * {@code --skip-generate} reuses data loaded by an earlier run. {@code --target} skips both
+ * and drives a server that is already running.
+ *
+ * {@code --execution-modes=platform,virtual} restarts the application once per request thread
+ * model on the same data and reports them side by side, e.g. with {@code --threads=2000} for
+ * 2,000 terminals. The virtual thread run needs Java 21+ and is skipped on older runtimes.
+ *
+ * Options ({@code --name=value}):
+ * users (500), work-orders (200000), logs-per-order (10), issues-per-order (0.3), days (180),
+ * seed (42), password (loadtest123), jdbc-url, jdbc-username, jdbc-password, skip-generate,
+ * target, execution-modes, threads (32), warmup (PT15S), duration (PT60S), rate (0 = closed loop),
+ * worker-sessions (100), manager-sessions (5), mix (e.g. progress-tick=50,dashboard-stats=10),
+ * report (target/loadtest-report.json).
+ */
+public final class LoadTestHarness {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTestHarness.class);
+
+    private static final String H2_URL = "jdbc:h2:mem:loadtest;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    private LoadTestHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        String password = options.getOrDefault("password", "loadtest123");
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+
+        if (options.containsKey("target")) {
+            if (options.containsKey("execution-modes")) {
+                throw new IllegalArgumentException("--execution-modes restarts the application, so it cannot be combined with --target");
+            }
+            System.exit(drive(URI.create(options.get("target")), options, password, seed, null));
+        }
+
+        String jdbcUrl = options.getOrDefault("jdbc-url", H2_URL);
+        String username = options.getOrDefault("jdbc-username", jdbcUrl.startsWith("jdbc:h2:") ? "sa" : "admin");
+        String jdbcPassword = options.getOrDefault("jdbc-password", jdbcUrl.startsWith("jdbc:h2:") ? "" : "inno0000");
+
+        if (!options.containsKey("skip-generate")) {
+            SyntheticDataGenerator generator = new SyntheticDataGenerator(
+                Integer.parseInt(options.getOrDefault("users", "500")),
+                Integer.parseInt(options.getOrDefault("work-orders", "200000")),
+                Double.parseDouble(options.getOrDefault("logs-per-order", "10")),
+                Double.parseDouble(options.getOrDefault("issues-per-order", "0.3")),
+                Integer.parseInt(options.getOrDefault("days", "180")),
+                password, seed);
+            // DB_CLOSE_DELAY=-1 keeps the in-memory database after this connection closes
+            try (Connection connection = DriverManager.getConnection(jdbcUrl, username, jdbcPassword)) {
+                generator.generate(connection);
+            }
+        }
+
+        if (!options.containsKey("execution-modes")) {
+            ConfigurableApplicationContext context = start(jdbcUrl, username, jdbcPassword, List.of());
+            System.exit(drive(baseUrl(context), options, password, seed, context));
+        }
+
+        Map<String, Object> results = new LinkedHashMap<>();
+        StringBuilder tables = new StringBuilder();
+        for (String mode : options.get("execution-modes").split(",")) {
+            mode = mode.trim();
+            if (!mode.equals("platform") && !mode.equals("virtual")) {
+                throw new IllegalArgumentException("Execution modes are platform and virtual, got: " + mode);
+            }
+            if (mode.equals("virtual") && Runtime.version().feature() < 21) {
+                log.warn("Skipping the virtual thread run: it needs Java 21+, this is Java {}", Runtime.version());
+                continue;
+            }
+            ConfigurableApplicationContext context = start(jdbcUrl, username, jdbcPassword,
+                List.of("--spring.threads.virtual.enabled=" + mode.equals("virtual")));
+            try {
+                LoadDriver.Report report = driver(baseUrl(context), options, password, seed).run();
+                results.put(mode, report.toMap());
+                tables.append(System.lineSeparator()).append("== ").append(mode).append(" threads ==")
+                    .append(System.lineSeparator()).append(report.toTable());
+            } catch (Exception e) {
+                log.error("Load test with {} threads failed", mode, e);
+                System.exit(1);
+            } finally {
+                context.close();
+            }
+        }
+        File output = write(options, Map.of("executionModes", results));
+        System.out.print(tables);
+        System.out.println("Report written to " + output.getAbsolutePath());
+        System.exit(0);
+    }
+
+    private static int drive(URI baseUrl, Map<String, String> options, String password, long seed,
+                             ConfigurableApplicationContext context) {
+        try {
+            LoadDriver.Report report = driver(baseUrl, options, password, seed).run();
+            File output = write(options, report.toMap());
+            System.out.println();
+            System.out.print(report.toTable());
+            System.out.println("Report written to " + output.getAbsolutePath());
+            return 0;
+        } catch (Exception e) {
+            log.error("Load test failed", e);
+            return 1;
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    private static LoadDriver driver(URI baseUrl, Map<String, String> options, String password, long seed) {
+        return new LoadDriver(baseUrl,
+            Integer.parseInt(options.getOrDefault("threads", "32")),
+            Duration.parse(options.getOrDefault("warmup", "PT15S")),
+            Duration.parse(options.getOrDefault("duration", "PT60S")),
+            Double.parseDouble(options.getOrDefault("rate", "0")),
+            Integer.parseInt(options.getOrDefault("worker-sessions", "100")),
+            Integer.parseInt(options.getOrDefault("manager-sessions", "5")),
+            password, seed, mix(options.get("mix")));
+    }
+
+    private static File write(Map<String, String> options, Map<String, Object> report) throws IOException {
+        File output = new File(options.getOrDefault("report", "target/loadtest-report.json"));
+        if (output.getParentFile() != null) {
+            output.getParentFile().mkdirs();
+        }
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(output, report);
+        return output;
+    }
+
+    private static URI baseUrl(ConfigurableApplicationContext context) {
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        return URI.create("http://localhost:" + port);
+    }
+
+    private static ConfigurableApplicationContext start(String jdbcUrl, String username, String password,
+                                                        List<String> extraProperties) {
+        List<String> properties = new ArrayList<>(List.of(
+            "--spring.datasource.url=" + jdbcUrl,
+            "--spring.datasource.username=" + username,
+            "--spring.datasource.password=" + password,
+            "--server.port=0"));
+        properties.addAll(extraProperties);
+        if (jdbcUrl.startsWith("jdbc:h2:")) {
+            properties.add("--spring.datasource.driver-class-name=org.h2.Driver");
+            properties.add("--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect");
+        }
+        // devtools would restart main(), generating the data a second time
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        return new SpringApplicationBuilder(MesInnoApplication.class)
+            .profiles("loadtest")
+            .run(properties.toArray(String[]::new));
+    }
+
+    private static Map<LoadDriver.Operation, Integer> mix(String spec) {
+        Map<LoadDriver.Operation, Integer> mix = new EnumMap<>(LoadDriver.Operation.class);
+        if (spec == null || spec.isBlank()) {
+            for (LoadDriver.Operation operation : LoadDriver.Operation.values()) {
+                mix.put(operation, operation.defaultWeight());
+            }
+            return mix;
+        }
+        for (String entry : spec.split(",")) {
+            String[] pair = entry.split("=", 2);
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Mix entries look like progress-tick=50, got: " + entry);
+            }
+            mix.put(LoadDriver.Operation.fromLabel(pair[0].trim()), Integer.parseInt(pair[1].trim()));
+        }
+        return mix;
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Options look like --name=value, got: " + arg);
+            }
+            String[] pair = arg.substring(2).split("=", 2);
+            options.put(pair[0], pair.length == 2 ? pair[1] : "true");
+        }
+        return options;
+    }
+}
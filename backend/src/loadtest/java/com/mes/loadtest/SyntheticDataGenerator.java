@@ -0,0 +1,497 @@
+package com.mes.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Bulk-loads a shop floor: users in every role, work orders spread over the last {@code days}
+ * days, their work logs and issues.
+ *
+ * Rows go straight in over JDBC with explicit ids and batched INSERTs, so hundreds of thousands
+ * of orders load in seconds rather than the hours the API would take. The tables are created
+ * from the CREATE statements in schema.sql; ids continue from the current MAX(id), so an existing
+ * database keeps its rows and the application's PooledIdAligner moves the pooled sequences past
+ * the new ones at startup. Everything derives from {@code seed}, so two runs with the same
+ * options produce the same data.
+ *
+ * Orders are created mostly on weekdays and in the day and swing shifts. Age decides status:
+ * orders older than two weeks are almost all completed or cancelled, recent ones are pending or
+ * in progress. Logs follow the order's life (START, progress ticks, PAUSE/RESUME, COMPLETE or
+ * CANCEL) and issues resolve as they age.
+ */
+public class SyntheticDataGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    public static final String EMAIL_DOMAIN = "factory.mes";
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final int COMMIT_INTERVAL = 10_000;
+
+    private static final String[] PRODUCT_FAMILIES = {
+        "브라켓", "샤프트", "하우징", "기어", "플랜지", "커버", "베어링 홀더", "커넥터", "밸브 바디", "프레임"
+    };
+    private static final String[] ISSUE_TYPES = {"QUALITY", "EQUIPMENT", "MATERIAL", "SAFETY", "OTHER"};
+    private static final String[] ISSUE_TITLES = {
+        "치수 불량", "설비 진동", "자재 부족", "공구 마모", "도면 불일치", "표면 스크래치", "센서 오류", "안전 커버 파손"
+    };
+
+    private final int users;
+    private final int workOrders;
+    private final double logsPerOrder;
+    private final double issuesPerOrder;
+    private final int days;
+    private final int products;
+    private final String password;
+    private final SplittableRandom random;
+    private final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+    private long[] managerIds;
+    private long[] workerIds;
+
+    public SyntheticDataGenerator(int users, int workOrders, double logsPerOrder, double issuesPerOrder,
+                                  int days, String password, long seed) {
+        if (users < 3) {
+            throw new IllegalArgumentException("At least 3 users are needed (one per role)");
+        }
+        this.users = users;
+        this.workOrders = workOrders;
+        this.logsPerOrder = logsPerOrder;
+        this.issuesPerOrder = issuesPerOrder;
+        this.days = days;
+        this.products = Math.max(10, workOrders / 500);
+        this.password = password;
+        this.random = new SplittableRandom(seed);
+    }
+
+    public static String email(String role, int n) {
+        return role.toLowerCase() + n + "@" + EMAIL_DOMAIN;
+    }
+
+    public void generate(Connection connection) throws SQLException {
+        long started = System.nanoTime();
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            createSchema(connection);
+            insertUsers(connection);
+            Counts counts;
+            boolean mysql = connection.getMetaData().getDatabaseProductName().equals("MySQL");
+            if (mysql) {
+                // Parents are always written before their children, so skipping the per-row checks is safe
+                execute(connection, "SET SESSION foreign_key_checks = 0, unique_checks = 0");
+            }
+            try {
+                counts = insertWorkOrders(connection);
+            } finally {
+                if (mysql) {
+                    execute(connection, "SET SESSION foreign_key_checks = 1, unique_checks = 1");
+                }
+            }
+            restartIdentities(connection);
+            connection.commit();
+            log.info("Generated {} users, {} work orders, {} work logs, {} issues in {} ms",
+                users, workOrders, counts.workLogs, counts.issues, (System.nanoTime() - started) / 1_000_000);
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private void createSchema(Connection connection) throws SQLException {
+        String script;
+        try {
+            script = StreamUtils.copyToString(new ClassPathResource("schema.sql").getInputStream(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("schema.sql is not on the classpath", e);
+        }
+        try (Statement statement = connection.createStatement()) {
+            // Only the DDL: the trailing seed INSERT carries a plaintext password
+            for (String sql : script.split(";")) {
+                String body = sql.replaceAll("(?m)^\\s*--.*$", "").trim();
+                if (body.toUpperCase().startsWith("CREATE")) {
+                    statement.execute(body);
+                }
+            }
+            // Columns the entity has but schema.sql predates (ddl-auto: update would add them later)
+            addColumnIfMissing(connection, statement, "issues", "resolution", "TEXT");
+            addColumnIfMissing(connection, statement, "issues", "type", "VARCHAR(255)");
+        }
+        connection.commit();
+    }
+
+    private static void addColumnIfMissing(Connection connection, Statement statement, String table,
+                                           String column, String type) throws SQLException {
+        try (ResultSet columns = connection.getMetaData().getColumns(connection.getCatalog(), null, table, column)) {
+            if (columns.next()) {
+                return;
+            }
+        }
+        statement.execute("ALTER TABLE " + table + " ADD COLUMN " + column + " " + type);
+    }
+
+    private void insertUsers(Connection connection) throws SQLException {
+        int admins = Math.max(1, users / 100);
+        int managers = Math.max(1, users / 20);
+        int workers = users - admins - managers;
+        managerIds = new long[managers];
+        workerIds = new long[workers];
+
+        // One hash for every account: BCrypt at strength 10 is ~100 ms per call
+        String hash = new BCryptPasswordEncoder().encode(password);
+        long id = nextId(connection, "users");
+        Timestamp createdAt = Timestamp.valueOf(now.minusDays(days + 30L));
+        String sql = "INSERT INTO users (id, email, name, role, password, is_active, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, TRUE, ?, ?)";
+        try (Batch batch = new Batch(connection, sql, null)) {
+            for (int i = 0; i < users; i++, id++) {
+                String role;
+                int n;
+                if (i < admins) {
+                    role = "ADMIN";
+                    n = i + 1;
+                } else if (i < admins + managers) {
+                    role = "MANAGER";
+                    n = i - admins + 1;
+                    managerIds[n - 1] = id;
+                } else {
+                    role = "WORKER";
+                    n = i - admins - managers + 1;
+                    workerIds[n - 1] = id;
+                }
+                PreparedStatement insert = batch.statement();
+                insert.setLong(1, id);
+                insert.setString(2, email(role, n));
+                insert.setString(3, role.charAt(0) + role.substring(1).toLowerCase() + " " + n);
+                insert.setString(4, role);
+                insert.setString(5, hash);
+                insert.setTimestamp(6, createdAt);
+                insert.setTimestamp(7, createdAt);
+                batch.add();
+            }
+            batch.flush();
+        }
+        connection.commit();
+        log.info("Inserted {} users ({} admins, {} managers, {} workers)", users, admins, managers, workers);
+    }
+
+    private Counts insertWorkOrders(Connection connection) throws SQLException {
+        long orderId = nextId(connection, "work_orders");
+        long logId = nextId(connection, "work_logs");
+        long issueId = nextId(connection, "issues");
+        Counts counts = new Counts();
+
+        String orderSql = "INSERT INTO work_orders (id, order_number, product_name, product_code, quantity, due_date, "
+            + "priority, status, instructions, progress, assigned_to_id, started_at, completed_at, actual_quantity, "
+            + "version, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?)";
+        String logSql = "INSERT INTO work_logs (id, work_order_id, worker_id, action, notes, description, progress, "
+            + "created_at, logged_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        String issueSql = "INSERT INTO issues (id, work_order_id, title, description, priority, status, reported_by, "
+            + "created_at, resolved_at, resolution, type) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+        try (Batch orders = new Batch(connection, orderSql, null);
+             Batch logs = new Batch(connection, logSql, orders);
+             Batch issues = new Batch(connection, issueSql, orders)) {
+            for (int i = 0; i < workOrders; i++, orderId++) {
+                Order order = nextOrder(orderId);
+                bindOrder(orders.statement(), order);
+                orders.add();
+
+                logId = addLogs(logs, order, logId, counts);
+                issueId = addIssues(issues, order, issueId, counts);
+
+                if ((i + 1) % COMMIT_INTERVAL == 0) {
+                    logs.flush();
+                    issues.flush();
+                    connection.commit();
+                    if ((i + 1) % (COMMIT_INTERVAL * 10) == 0) {
+                        log.info("... {} / {} work orders", i + 1, workOrders);
+                    }
+                }
+            }
+            logs.flush();
+            issues.flush();
+            orders.flush();
+        }
+        connection.commit();
+        return counts;
+    }
+
+    private Order nextOrder(long id) {
+        Order order = new Order();
+        order.id = id;
+        order.createdAt = nextCreatedAt();
+        order.assignedTo = workerIds[random.nextInt(workerIds.length)];
+        int product = random.nextInt(products);
+        order.productName = PRODUCT_FAMILIES[product % PRODUCT_FAMILIES.length] + " " + (char) ('A' + product / PRODUCT_FAMILIES.length % 26) + "형-" + product;
+        order.productCode = String.format("P-%05d", product);
+        order.quantity = 10 * (1 + random.nextInt(100));
+        order.dueDate = order.createdAt.plusDays(3 + random.nextInt(12));
+        order.priority = priority();
+
+        long ageDays = ChronoUnit.DAYS.between(order.createdAt, now);
+        int roll = random.nextInt(100);
+        if (ageDays > 14) {
+            order.status = roll < 90 ? "COMPLETED" : roll < 96 ? "CANCELLED" : roll < 98 ? "PAUSED" : "IN_PROGRESS";
+        } else if (ageDays > 3) {
+            order.status = roll < 45 ? "COMPLETED" : roll < 80 ? "IN_PROGRESS" : roll < 88 ? "PAUSED" : roll < 97 ? "PENDING" : "CANCELLED";
+        } else {
+            order.status = roll < 40 ? "PENDING" : roll < 85 ? "IN_PROGRESS" : roll < 93 ? "PAUSED" : "COMPLETED";
+        }
+
+        if (!order.status.equals("PENDING")) {
+            order.startedAt = before(order.createdAt.plusMinutes(30 + random.nextInt(48 * 60)));
+        }
+        switch (order.status) {
+            case "COMPLETED" -> {
+                order.completedAt = before(order.startedAt.plusMinutes(60 + random.nextInt(5 * 24 * 60)));
+                order.progress = 100;
+                order.actualQuantity = order.quantity - random.nextInt(Math.max(1, order.quantity / 50));
+            }
+            case "CANCELLED" -> order.progress = random.nextInt(60);
+            case "IN_PROGRESS", "PAUSED" -> order.progress = 5 + random.nextInt(90);
+            default -> order.progress = 0;
+        }
+        order.updatedAt = order.completedAt != null ? order.completedAt
+            : order.startedAt != null ? before(order.startedAt.plusHours(random.nextInt(72))) : order.createdAt;
+        return order;
+    }
+
+    private void bindOrder(PreparedStatement insert, Order order) throws SQLException {
+        insert.setLong(1, order.id);
+        insert.setString(2, String.format("WO-%d-%07d", order.createdAt.getYear(), order.id));
+        insert.setString(3, order.productName);
+        insert.setString(4, order.productCode);
+        insert.setInt(5, order.quantity);
+        insert.setTimestamp(6, Timestamp.valueOf(order.dueDate));
+        insert.setString(7, order.priority);
+        insert.setString(8, order.status);
+        insert.setString(9, "표준 작업 지시 (도면 Rev." + (1 + order.id % 5) + ")");
+        insert.setInt(10, order.progress);
+        insert.setLong(11, order.assignedTo);
+        insert.setTimestamp(12, timestamp(order.startedAt));
+        insert.setTimestamp(13, timestamp(order.completedAt));
+        if (order.actualQuantity != null) {
+            insert.setInt(14, order.actualQuantity);
+        } else {
+            insert.setNull(14, Types.INTEGER);
+        }
+        insert.setTimestamp(15, Timestamp.valueOf(order.createdAt));
+        insert.setTimestamp(16, Timestamp.valueOf(order.updatedAt));
+    }
+
+    private long addLogs(Batch logs, Order order, long id, Counts counts) throws SQLException {
+        if (order.startedAt == null) {
+            return id;
+        }
+        boolean finished = order.status.equals("COMPLETED") || order.status.equals("CANCELLED");
+        int ticks = Math.max(0, (int) Math.round(logsPerOrder - (finished ? 2 : 1) + random.nextDouble(-2, 2)));
+        LocalDateTime end = order.completedAt != null ? order.completedAt : order.updatedAt;
+        long span = Math.max(1, ChronoUnit.SECONDS.between(order.startedAt, end));
+
+        id = addLog(logs, order, id, "START", order.startedAt, 0, "작업 시작", counts);
+        long[] offsets = new long[ticks];
+        for (int t = 0; t < ticks; t++) {
+            offsets[t] = 1 + random.nextLong(span);
+        }
+        Arrays.sort(offsets);
+        for (int t = 0; t < ticks; t++) {
+            int progress = Math.max(1, order.progress * (t + 1) / (ticks + 1));
+            String action = t > 0 && random.nextInt(20) == 0 ? (random.nextBoolean() ? "PAUSE" : "RESUME") : "UPDATE_PROGRESS";
+            id = addLog(logs, order, id, action, order.startedAt.plusSeconds(offsets[t]), progress, "진행률 " + progress + "%", counts);
+        }
+        if (order.status.equals("COMPLETED")) {
+            id = addLog(logs, order, id, "COMPLETE", order.completedAt, 100, "작업 완료", counts);
+        } else if (order.status.equals("CANCELLED")) {
+            id = addLog(logs, order, id, "CANCEL", order.updatedAt, order.progress, "작업 취소", counts);
+        }
+        return id;
+    }
+
+    private long addLog(Batch logs, Order order, long id, String action, LocalDateTime at, int progress,
+                        String notes, Counts counts) throws SQLException {
+        PreparedStatement insert = logs.statement();
+        Timestamp timestamp = Timestamp.valueOf(at);
+        insert.setLong(1, id);
+        insert.setLong(2, order.id);
+        insert.setLong(3, order.assignedTo);
+        insert.setString(4, action);
+        insert.setString(5, notes);
+        insert.setString(6, action + " " + progress + "%");
+        insert.setInt(7, progress);
+        insert.setTimestamp(8, timestamp);
+        insert.setTimestamp(9, timestamp);
+        logs.add();
+        counts.workLogs++;
+        return id + 1;
+    }
+
+    private long addIssues(Batch issues, Order order, long id, Counts counts) throws SQLException {
+        int count = (int) issuesPerOrder + (random.nextDouble() < issuesPerOrder % 1 ? 1 : 0);
+        LocalDateTime from = order.startedAt != null ? order.startedAt : order.createdAt;
+        for (int n = 0; n < count; n++) {
+            LocalDateTime createdAt = before(from.plusMinutes(random.nextInt(3 * 24 * 60)));
+            long ageDays = ChronoUnit.DAYS.between(createdAt, now);
+            int roll = random.nextInt(100);
+            String status = ageDays > 7 ? (roll < 70 ? "CLOSED" : roll < 95 ? "RESOLVED" : "OPEN")
+                : roll < 45 ? "OPEN" : roll < 75 ? "IN_PROGRESS" : "RESOLVED";
+            boolean resolved = status.equals("RESOLVED") || status.equals("CLOSED");
+            int title = random.nextInt(ISSUE_TITLES.length);
+
+            PreparedStatement insert = issues.statement();
+            insert.setLong(1, id++);
+            insert.setLong(2, order.id);
+            insert.setString(3, ISSUE_TITLES[title]);
+            insert.setString(4, ISSUE_TITLES[title] + " 발생 - " + order.productName);
+            insert.setString(5, priority());
+            insert.setString(6, status);
+            insert.setLong(7, random.nextInt(4) == 0 ? managerIds[random.nextInt(managerIds.length)] : order.assignedTo);
+            insert.setTimestamp(8, Timestamp.valueOf(createdAt));
+            insert.setTimestamp(9, resolved ? Timestamp.valueOf(before(createdAt.plusMinutes(10 + random.nextInt(48 * 60)))) : null);
+            insert.setString(10, resolved ? "조치 완료" : null);
+            insert.setString(11, ISSUE_TYPES[title % ISSUE_TYPES.length]);
+            issues.add();
+            counts.issues++;
+        }
+        return id;
+    }
+
+    /** Uniform day in the window, thinned to 20% on weekends; hour weighted towards the 06-22 shifts. */
+    private LocalDateTime nextCreatedAt() {
+        LocalDateTime day;
+        do {
+            day = now.minusDays(random.nextInt(days)).toLocalDate().atStartOfDay();
+        } while (isWeekend(day) && random.nextInt(5) != 0);
+        int hour = random.nextInt(10) < 9 ? 6 + random.nextInt(16) : (22 + random.nextInt(8)) % 24;
+        return before(day.plusHours(hour).plusMinutes(random.nextInt(60)).plusSeconds(random.nextInt(60)));
+    }
+
+    private static boolean isWeekend(LocalDateTime day) {
+        return day.getDayOfWeek() == DayOfWeek.SATURDAY || day.getDayOfWeek() == DayOfWeek.SUNDAY;
+    }
+
+    private String priority() {
+        int roll = random.nextInt(100);
+        return roll < 20 ? "LOW" : roll < 70 ? "MEDIUM" : roll < 95 ? "HIGH" : "URGENT";
+    }
+
+    private LocalDateTime before(LocalDateTime time) {
+        return time.isAfter(now) ? now.minusSeconds(random.nextInt(3600)) : time;
+    }
+
+    private static Timestamp timestamp(LocalDateTime time) {
+        return time != null ? Timestamp.valueOf(time) : null;
+    }
+
+    private static long nextId(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("SELECT COALESCE(MAX(id), 0) + 1 FROM " + table)) {
+            result.next();
+            return result.getLong(1);
+        }
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    /** H2 does not move IDENTITY past explicit ids; MySQL's AUTO_INCREMENT already has. */
+    private static void restartIdentities(Connection connection) throws SQLException {
+        if (!connection.getMetaData().getDatabaseProductName().equals("H2")) {
+            return;
+        }
+        try (Statement statement = connection.createStatement()) {
+            for (String table : new String[] {"users", "work_orders"}) {
+                statement.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + nextId(connection, table));
+            }
+        }
+    }
+
+    private static final class Order {
+
+        private long id;
+        private LocalDateTime createdAt;
+        private LocalDateTime dueDate;
+        private LocalDateTime startedAt;
+        private LocalDateTime completedAt;
+        private LocalDateTime updatedAt;
+        private long assignedTo;
+        private String productName;
+        private String productCode;
+        private int quantity;
+        private Integer actualQuantity;
+        private String priority;
+        private String status;
+        private int progress;
+    }
+
+    private static final class Counts {
+
+        private long workLogs;
+        private long issues;
+    }
+
+    /**
+     * A prepared INSERT that sends every {@link #BATCH_SIZE} rows. A child batch sends its parent's
+     * pending rows first, so foreign keys hold whichever batch fills up first.
+     */
+    private static final class Batch implements AutoCloseable {
+
+        private final PreparedStatement statement;
+        private final Batch parent;
+        private int pending;
+
+        private Batch(Connection connection, String sql, Batch parent) throws SQLException {
+            this.statement = connection.prepareStatement(sql);
+            this.parent = parent;
+        }
+
+        private PreparedStatement statement() {
+            return statement;
+        }
+
+        private void add() throws SQLException {
+            statement.addBatch();
+            if (++pending == BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        private void flush() throws SQLException {
+            if (parent != null) {
+                parent.flush();
+            }
+            if (pending > 0) {
+                statement.executeBatch();
+                pending = 0;
+            }
+        }
+
+        @Override
+        public void close() throws SQLException {
+            statement.close();
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package com.mes.adapter.in.web.bulk;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.mes.application.port.in.WorkOrderUseCase;
+import com.mes.common.dto.workorder.CreateWorkOrderDto;
+import com.mes.common.dto.workorder.WorkOrderImportReportDto;
+import com.mes.common.dto.workorder.WorkOrderImportReportDto.RowResult;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Path;
+import jakarta.validation.TraversableResolver;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.annotation.ElementType;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk work order import from a CSV or JSON array request body.
+ *
+ * The body is parsed as it arrives. Each row is bound to {@link CreateWorkOrderDto} and validated
+ * like a single create; valid rows are handed to the use case in chunks, one transaction per
+ * chunk, so a 50k-row file never sits in memory as commands or entities. Every row ends up in
+ * the report as CREATED (with its id) or REJECTED (with the reason). Rejected rows do not stop
+ * the import, and because existing order numbers are rejected rather than failing the chunk,
+ * re-sending a partially imported file only creates the rows that are still missing.
+ */
+@Component
+public class WorkOrderImporter {
+    
+    private static final Logger log = LoggerFactory.getLogger(WorkOrderImporter.class);
+    
+    private static final Set<String> CSV_COLUMNS = Set.of(
+        "orderNumber", "productName", "productCode", "quantity", "dueDate", "priority", "instructions", "assignedToId");
+    
+    private final WorkOrderUseCase workOrderUseCase;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader dtoReader;
+    private final int chunkSize;
+    
+    public WorkOrderImporter(WorkOrderUseCase workOrderUseCase,
+                             ValidatorFactory validatorFactory,
+                             ObjectMapper objectMapper,
+                             @Value("${mes.work-orders.import.chunk-size:1000}") int chunkSize) {
+        this.workOrderUseCase = workOrderUseCase;
+        // The default resolver asks JPA whether each property is loaded, which was most of the
+        // per-row validation cost; the DTO is never an entity, so every property is reachable
+        this.validator = validatorFactory.usingContext()
+            .traversableResolver(new DtoTraversableResolver())
+            .getValidator();
+        this.objectMapper = objectMapper;
+        this.dtoReader = objectMapper.readerFor(CreateWorkOrderDto.class);
+        this.chunkSize = chunkSize;
+    }
+    
+    /**
+     * CSV with a header row naming the columns (any order, unknown names rejected). Empty cells
+     * are treated as absent. Rows are numbered from 1, not counting the header.
+     */
+    public WorkOrderImportReportDto importCsv(InputStream body) throws IOException {
+        CsvRecordReader csv = new CsvRecordReader(
+            new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8)));
+        List<String> header = csv.next();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV header row is required");
+        }
+        for (String column : header) {
+            if (!CSV_COLUMNS.contains(column.trim())) {
+                throw new IllegalArgumentException("Unknown CSV column: " + column);
+            }
+        }
+        
+        ImportRun run = new ImportRun();
+        int row = 0;
+        try {
+            for (List<String> record = csv.next(); record != null; record = csv.next()) {
+                row++;
+                if (record.size() != header.size()) {
+                    run.reject(row, null, "Expected " + header.size() + " fields but found " + record.size());
+                    continue;
+                }
+                // Bound from a tree rather than with convertValue, which serializes the row
+                // into a token buffer first
+                ObjectNode values = objectMapper.createObjectNode();
+                for (int i = 0; i < header.size(); i++) {
+                    if (!record.get(i).isBlank()) {
+                        values.put(header.get(i).trim(), record.get(i).trim());
+                    }
+                }
+                try {
+                    run.accept(row, dtoReader.readValue(values));
+                } catch (JsonProcessingException e) {
+                    run.reject(row, values.path("orderNumber").asText(null), bindingError(e));
+                }
+            }
+        } catch (IOException e) {
+            run.abort(row, e);
+        }
+        return run.finish();
+    }
+    
+    /** A JSON array of objects shaped like the single-create request. Rows are numbered from 1. */
+    public WorkOrderImportReportDto importJson(InputStream body) throws IOException {
+        JsonParser parser = objectMapper.createParser(body);
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            throw new IllegalArgumentException("Expected a JSON array of work orders");
+        }
+        
+        ImportRun run = new ImportRun();
+        int row = 0;
+        try {
+            for (JsonToken token = parser.nextToken(); token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+                if (token == null) {
+                    throw new IOException("Unexpected end of input");
+                }
+                row++;
+                if (token != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    run.reject(row, null, "Expected a JSON object");
+                    continue;
+                }
+                JsonNode node = parser.readValueAsTree();
+                try {
+                    run.accept(row, dtoReader.readValue(node));
+                } catch (JsonProcessingException e) {
+                    run.reject(row, node.path("orderNumber").asText(null), bindingError(e));
+                }
+            }
+        } catch (IOException e) {
+            run.abort(row, e);
+        }
+        return run.finish();
+    }
+    
+    private static String bindingError(Throwable e) {
+        if (e instanceof JsonMappingException && !((JsonMappingException) e).getPath().isEmpty()) {
+            List<JsonMappingException.Reference> path = ((JsonMappingException) e).getPath();
+            return "Invalid value for " + path.get(path.size() - 1).getFieldName();
+        }
+        return "Invalid row";
+    }
+    
+    private static final class DtoTraversableResolver implements TraversableResolver {
+        
+        @Override
+        public boolean isReachable(Object traversableObject, Path.Node traversableProperty, Class<?> rootBeanType,
+                                   Path pathToTraversableObject, ElementType elementType) {
+            return true;
+        }
+        
+        @Override
+        public boolean isCascadable(Object traversableObject, Path.Node traversableProperty, Class<?> rootBeanType,
+                                    Path pathToTraversableObject, ElementType elementType) {
+            return true;
+        }
+    }
+    
+    private final class ImportRun {
+        
+        private final WorkOrderImportReportDto report = new WorkOrderImportReportDto();
+        private final List<Integer> rows = new ArrayList<>();
+        private final List<WorkOrderUseCase.CreateWorkOrderCommand> commands = new ArrayList<>();
+        
+        void accept(int row, CreateWorkOrderDto dto) {
+            Set<ConstraintViolation<CreateWorkOrderDto>> violations = validator.validate(dto);
+            if (!violations.isEmpty()) {
+                reject(row, dto.getOrderNumber(), violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+                return;
+            }
+            rows.add(row);
+            commands.add(toCommand(dto));
+            if (commands.size() >= chunkSize) {
+                flush();
+            }
+        }
+        
+        void reject(int row, String orderNumber, String error) {
+            report.add(new RowResult(row, orderNumber, RowResult.REJECTED, null, error));
+        }
+        
+        void abort(int lastRow, IOException e) {
+            log.info("Work order import stopped after row {}: {}", lastRow, e.getMessage());
+            report.setError("Malformed payload after row " + lastRow + ": " + e.getMessage());
+        }
+        
+        WorkOrderImportReportDto finish() {
+            flush();
+            report.sortByRow();
+            return report;
+        }
+        
+        private void flush() {
+            if (commands.isEmpty()) {
+                return;
+            }
+            try {
+                List<WorkOrderUseCase.ImportResult> results = importChunk();
+                for (int i = 0; i < results.size(); i++) {
+                    WorkOrderUseCase.ImportResult result = results.get(i);
+                    report.add(new RowResult(rows.get(i), result.getOrderNumber(),
+                        result.isCreated() ? RowResult.CREATED : RowResult.REJECTED, result.getId(), result.getError()));
+                }
+            } catch (DataIntegrityViolationException e) {
+                // Not a race the retry could resolve; the chunk rolled back, so all of its rows are rejected
+                log.warn("Work order import chunk of {} rows rejected by the database: {}",
+                    commands.size(), e.getMostSpecificCause().getMessage());
+                for (int i = 0; i < commands.size(); i++) {
+                    reject(rows.get(i), commands.get(i).getOrderNumber(), "Rejected by a database constraint");
+                }
+            }
+            rows.clear();
+            commands.clear();
+        }
+        
+        private List<WorkOrderUseCase.ImportResult> importChunk() {
+            try {
+                return workOrderUseCase.importWorkOrders(commands);
+            } catch (DataIntegrityViolationException e) {
+                // Another writer took an order number between the chunk's check and its INSERT;
+                // the retry's check sees it and rejects just that row
+                return workOrderUseCase.importWorkOrders(commands);
+            }
+        }
+        
+        private WorkOrderUseCase.CreateWorkOrderCommand toCommand(CreateWorkOrderDto dto) {
+            WorkOrderUseCase.CreateWorkOrderCommand command = new WorkOrderUseCase.CreateWorkOrderCommand();
+            command.setOrderNumber(dto.getOrderNumber());
+            command.setProductName(dto.getProductName());
+            command.setProductCode(dto.getProductCode());
+            command.setQuantity(dto.getQuantity());
+            command.setDueDate(dto.getDueDate());
+            command.setPriority(dto.getPriority());
+            command.setInstructions(dto.getInstructions());
+            command.setAssignedToId(dto.getAssignedToId());
+            return command;
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.mes.adapter.in.web.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mes.application.event.IssueChangedEvent;
+import com.mes.application.event.WorkLogCreatedEvent;
+import com.mes.application.event.WorkOrderChangedEvent;
+import com.mes.application.event.WorkOrdersImportedEvent;
+import com.mes.config.datasource.ExecutionLane;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Shares dashboard query results between requests.
+ *
+ * Wall boards on the shop floor refresh together, so dozens of identical requests arrive at
+ * once. Results are keyed by endpoint and normalised parameters, and concurrent misses for a
+ * key wait for one load (single flight) instead of each running the query. A result is served
+ * as is for {@code fresh-for}; for a further {@code stale-for} it is still served while one
+ * background load replaces it (stale-while-revalidate). Past that, or with nothing cached,
+ * callers wait for a load. Committed work order, issue and work log changes mark every result
+ * stale, so a change shows up one background load later.
+ *
+ * {@code mes.dashboard.cache.requests} (by endpoint and outcome) over
+ * {@code mes.dashboard.cache.loads} is the collapse ratio; {@code mes.dashboard.cache.age} is
+ * the age of the result each request was given.
+ */
+@Component
+public class DashboardResponseCache {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardResponseCache.class);
+
+    private final Cache<String, Entry> entries;
+    private final long freshForNanos;
+    private final long staleForNanos;
+    private final ThreadPoolExecutor revalidator;
+    private final MeterRegistry registry;
+    private volatile long invalidatedAt = System.nanoTime();
+
+    public DashboardResponseCache(@Value("${mes.dashboard.cache.fresh-for:PT10S}") Duration freshFor,
+                                  @Value("${mes.dashboard.cache.stale-for:PT1M}") Duration staleFor,
+                                  @Value("${mes.dashboard.cache.max-entries:500}") long maxEntries,
+                                  MeterRegistry registry) {
+        this.freshForNanos = freshFor.toNanos();
+        this.staleForNanos = staleFor.toNanos();
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterAccess(freshFor.plus(staleFor).plusMinutes(1))
+                .build();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.revalidator = new ThreadPoolExecutor(2, 2, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(100), runnable -> {
+                    Thread thread = new Thread(runnable, "dashboard-revalidate-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.registry = registry;
+    }
+
+    /**
+     * Returns the cached result for {@code endpoint} and {@code key}, loading it with
+     * {@code loader} when needed. The result is shared between callers and must not be modified.
+     * A failed load is not cached; its exception reaches every caller that waited for it.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String endpoint, String key, Supplier<T> loader) {
+        Entry entry = entries.get(endpoint + " " + key, k -> new Entry());
+        Loaded current = entry.loaded;
+        if (current != null) {
+            long age = System.nanoTime() - current.startedAt;
+            if (age < freshForNanos && current.startedAt - invalidatedAt > 0) {
+                served(endpoint, "fresh", age);
+                return (T) current.value;
+            }
+            if (age < freshForNanos + staleForNanos) {
+                revalidate(endpoint, entry, loader);
+                served(endpoint, "stale", age);
+                return (T) current.value;
+            }
+        }
+
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = entry.inFlight.compareAndExchange(null, flight);
+        if (existing != null) {
+            served(endpoint, "coalesced", 0);
+            return (T) join(existing);
+        }
+        load(endpoint, entry, flight, loader, "request");
+        served(endpoint, "loaded", 0);
+        return (T) join(flight);
+    }
+
+    /**
+     * Marks every cached result stale; the next request for each is served the old result and
+     * triggers a reload.
+     */
+    public void invalidateAll() {
+        invalidatedAt = System.nanoTime();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWorkOrderChanged(WorkOrderChangedEvent event) {
+        invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWorkOrdersImported(WorkOrdersImportedEvent event) {
+        invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIssueChanged(IssueChangedEvent event) {
+        invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWorkLogCreated(WorkLogCreatedEvent event) {
+        invalidateAll();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        revalidator.shutdownNow();
+    }
+
+    private void revalidate(String endpoint, Entry entry, Supplier<?> loader) {
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        if (!entry.inFlight.compareAndSet(null, flight)) {
+            return;
+        }
+        try {
+            // The request's lane does not follow the work to the revalidation thread
+            revalidator.execute(() -> ExecutionLane.analytical(() -> {
+                load(endpoint, entry, flight, loader, "background");
+                return null;
+            }));
+        } catch (RejectedExecutionException e) {
+            // Callers may already be waiting on this flight, so it has to run somewhere
+            load(endpoint, entry, flight, loader, "background");
+        }
+    }
+
+    private void load(String endpoint, Entry entry, CompletableFuture<Object> flight, Supplier<?> loader, String mode) {
+        long startedAt = System.nanoTime();
+        try {
+            Object value = loader.get();
+            entry.loaded = new Loaded(value, startedAt);
+            entry.inFlight.set(null);
+            flight.complete(value);
+        } catch (RuntimeException | Error e) {
+            entry.inFlight.set(null);
+            flight.completeExceptionally(e);
+            if (mode.equals("background")) {
+                log.warn("Reloading dashboard {} failed, serving the previous result", endpoint, e);
+            }
+        } finally {
+            Counter.builder("mes.dashboard.cache.loads")
+                .description("Dashboard queries actually run")
+                .tag("endpoint", endpoint)
+                .tag("mode", mode)
+                .register(registry)
+                .increment();
+        }
+    }
+
+    private void served(String endpoint, String outcome, long ageNanos) {
+        Counter.builder("mes.dashboard.cache.requests")
+            .description("Dashboard requests by how they were answered")
+            .tag("endpoint", endpoint)
+            .tag("outcome", outcome)
+            .register(registry)
+            .increment();
+        Timer.builder("mes.dashboard.cache.age")
+            .description("Age of the dashboard result served")
+            .tag("endpoint", endpoint)
+            .register(registry)
+            .record(ageNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static Object join(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private static final class Entry {
+        private volatile Loaded loaded;
+        private final AtomicReference<CompletableFuture<Object>> inFlight = new AtomicReference<>();
+    }
+
+    private static final class Loaded {
+        private final Object value;
+        private final long startedAt;
+
+        private Loaded(Object value, long startedAt) {
+            this.value = value;
+            this.startedAt = startedAt;
+        }
+    }
+}
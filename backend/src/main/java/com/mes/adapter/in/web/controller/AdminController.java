@@ -0,0 +1,100 @@
+package com.mes.adapter.in.web.controller;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.mes.adapter.in.web.security.CustomUserDetailsService;
+import com.mes.application.service.ProgressWriteBuffer;
+import com.mes.config.datasource.ReadWriteRoutingDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+@RestController
+@RequestMapping("/api/admin")
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:5173"})
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminController {
+    
+    private final CustomUserDetailsService customUserDetailsService;
+    private final ProgressWriteBuffer progressWriteBuffer;
+    private final Statistics hibernateStatistics;
+    private final ObjectProvider<ReadWriteRoutingDataSource> routingDataSource;
+    
+    public AdminController(CustomUserDetailsService customUserDetailsService,
+                           ProgressWriteBuffer progressWriteBuffer,
+                           EntityManagerFactory entityManagerFactory,
+                           ObjectProvider<ReadWriteRoutingDataSource> routingDataSource) {
+        this.customUserDetailsService = customUserDetailsService;
+        this.progressWriteBuffer = progressWriteBuffer;
+        this.routingDataSource = routingDataSource;
+        this.hibernateStatistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+    
+    @GetMapping("/caches")
+    public ResponseEntity<Map<String, Object>> getCacheStats() {
+        Map<String, Object> caches = new LinkedHashMap<>();
+        caches.put("userPrincipals", toMap(customUserDetailsService.cacheStats(), customUserDetailsService.cacheSize()));
+        
+        Map<String, Object> regions = new TreeMap<>();
+        for (String region : hibernateStatistics.getSecondLevelCacheRegionNames()) {
+            regions.put(region, toMap(hibernateStatistics.getCacheRegionStatistics(region)));
+        }
+        caches.put("secondLevelRegions", regions);
+        
+        Map<String, Object> queryCache = new HashMap<>();
+        queryCache.put("hitCount", hibernateStatistics.getQueryCacheHitCount());
+        queryCache.put("missCount", hibernateStatistics.getQueryCacheMissCount());
+        queryCache.put("putCount", hibernateStatistics.getQueryCachePutCount());
+        caches.put("queryCache", queryCache);
+        return ResponseEntity.ok(caches);
+    }
+    
+    @GetMapping("/write-buffers")
+    public ResponseEntity<Map<String, Object>> getWriteBufferStats() {
+        Map<String, Object> buffers = new LinkedHashMap<>();
+        buffers.put("workOrderProgress", progressWriteBuffer.stats());
+        return ResponseEntity.ok(buffers);
+    }
+    
+    @GetMapping("/datasources")
+    public ResponseEntity<Map<String, Object>> getDataSourceRouting() {
+        ReadWriteRoutingDataSource routing = routingDataSource.getIfAvailable();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("replicaRouting", routing != null);
+        if (routing != null) {
+            result.putAll(routing.stats());
+        }
+        return ResponseEntity.ok(result);
+    }
+    
+    private Map<String, Object> toMap(CacheStats stats, long size) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("size", size);
+        result.put("hitCount", stats.hitCount());
+        result.put("missCount", stats.missCount());
+        result.put("hitRate", Math.round(stats.hitRate() * 1000) / 1000.0);
+        result.put("evictionCount", stats.evictionCount());
+        result.put("loadFailureCount", stats.loadFailureCount());
+        return result;
+    }
+    
+    private Map<String, Object> toMap(CacheRegionStatistics stats) {
+        Map<String, Object> result = new HashMap<>();
+        long lookups = stats.getHitCount() + stats.getMissCount();
+        result.put("size", stats.getElementCountInMemory());
+        result.put("hitCount", stats.getHitCount());
+        result.put("missCount", stats.getMissCount());
+        result.put("putCount", stats.getPutCount());
+        result.put("hitRate", lookups == 0 ? 0.0 : Math.round(stats.getHitCount() * 1000.0 / lookups) / 1000.0);
+        return result;
+    }
+}
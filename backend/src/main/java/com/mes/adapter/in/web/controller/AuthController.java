@@ -22,14 +22,7 @@ public class AuthController {
     
     @PostMapping("/login")
     public ResponseEntity<LoginResponseDto> login(@Valid @RequestBody LoginRequestDto loginRequest) {
-        System.out.println("=== Login Request Received ===");
-        System.out.println("Email: " + loginRequest.getEmail());
-        System.out.println("Password: " + (loginRequest.getPassword() != null ? "***" : "null"));
-        System.out.println("Timestamp: " + java.time.LocalDateTime.now());
-        
         LoginResponseDto response = authUseCase.login(loginRequest);
-        
-        System.out.println("Login successful for: " + loginRequest.getEmail());
         return ResponseEntity.ok(response);
     }
     
@@ -41,9 +34,13 @@ public class AuthController {
     }
     
     @PostMapping("/logout")
-    public ResponseEntity<Map<String, String>> logout(@RequestBody Map<String, String> request) {
-        String email = request.get("email");
-        authUseCase.logout(email);
+    public ResponseEntity<Map<String, String>> logout(
+            @RequestHeader(value = "Authorization", required = false) String authorization,
+            @RequestBody(required = false) Map<String, String> request) {
+        String accessToken = authorization != null && authorization.startsWith("Bearer ")
+            ? authorization.substring(7) : null;
+        String refreshToken = request != null ? request.get("refreshToken") : null;
+        authUseCase.logout(accessToken, refreshToken);
         return ResponseEntity.ok(Map.of("message", "Logout successful"));
     }
 }
\ No newline at end of file
@@ -1,113 +1,81 @@
 package com.mes.adapter.in.web.controller;
 
-import com.mes.adapter.out.persistence.entity.Issue;
+import com.mes.adapter.in.web.cache.DashboardResponseCache;
 import com.mes.adapter.out.persistence.entity.User;
-import com.mes.adapter.out.persistence.entity.WorkLog;
-import com.mes.adapter.out.persistence.entity.WorkOrder;
-import com.mes.adapter.out.persistence.entity.enums.IssueStatus;
 import com.mes.adapter.out.persistence.entity.enums.Priority;
 import com.mes.adapter.out.persistence.entity.enums.WorkStatus;
 import com.mes.adapter.out.persistence.repository.IssueRepository;
 import com.mes.adapter.out.persistence.repository.UserRepository;
 import com.mes.adapter.out.persistence.repository.WorkLogRepository;
 import com.mes.adapter.out.persistence.repository.WorkOrderRepository;
+import com.mes.adapter.out.persistence.repository.projection.DailyProductionTotals;
+import com.mes.adapter.out.persistence.repository.projection.ProductProductionTotals;
+import com.mes.application.service.DashboardStatistics;
+import com.mes.application.service.ProgressWriteBuffer;
 import com.mes.common.dto.dashboard.DashboardSummaryDto;
+import com.mes.config.datasource.AnalyticalLane;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
 
 @RestController
 @RequestMapping("/api/dashboard")
 @CrossOrigin(origins = {"http://localhost:3000", "http://localhost:5173"})
+@AnalyticalLane
 public class DashboardController {
     
+    private static final int MAX_FEED_SIZE = 100;
+    
     private final WorkOrderRepository workOrderRepository;
     private final IssueRepository issueRepository;
     private final UserRepository userRepository;
     private final WorkLogRepository workLogRepository;
+    private final DashboardStatistics dashboardStatistics;
+    private final ProgressWriteBuffer progressBuffer;
+    private final DashboardResponseCache responseCache;
     
     public DashboardController(WorkOrderRepository workOrderRepository,
                               IssueRepository issueRepository,
                               UserRepository userRepository,
-                              WorkLogRepository workLogRepository) {
+                              WorkLogRepository workLogRepository,
+                              DashboardStatistics dashboardStatistics,
+                              ProgressWriteBuffer progressBuffer,
+                              DashboardResponseCache responseCache) {
         this.workOrderRepository = workOrderRepository;
         this.issueRepository = issueRepository;
         this.userRepository = userRepository;
         this.workLogRepository = workLogRepository;
+        this.dashboardStatistics = dashboardStatistics;
+        this.progressBuffer = progressBuffer;
+        this.responseCache = responseCache;
     }
     
     
     
     
+    // Already an in-memory aggregate, so not routed through the response cache
     @GetMapping("/stats")
     public ResponseEntity<Map<String, Object>> getDashboardStats() {
-        Map<String, Object> stats = new HashMap<>();
-        
-        // Work Order Statistics
-        List<WorkOrder> allWorkOrders = workOrderRepository.findAll();
-        stats.put("totalWorkOrders", allWorkOrders.size());
-        stats.put("pendingWorkOrders", workOrderRepository.countByStatus(WorkStatus.PENDING));
-        stats.put("inProgressWorkOrders", workOrderRepository.countByStatus(WorkStatus.IN_PROGRESS));
-        stats.put("completedWorkOrders", workOrderRepository.countByStatus(WorkStatus.COMPLETED));
-        
-        // Issue Statistics  
-        List<Issue> allIssues = issueRepository.findAll();
-        stats.put("totalIssues", allIssues.size());
-        stats.put("openIssues", allIssues.stream()
-            .filter(i -> i.getStatus() == IssueStatus.OPEN || i.getStatus() == IssueStatus.IN_PROGRESS)
-            .count());
-        stats.put("resolvedIssues", allIssues.stream()
-            .filter(i -> i.getStatus() == IssueStatus.RESOLVED || i.getStatus() == IssueStatus.CLOSED)
-            .count());
-        
-        // Today's Statistics
-        LocalDateTime todayStart = LocalDateTime.now().toLocalDate().atStartOfDay();
-        LocalDateTime todayEnd = todayStart.plusDays(1);
-        
-        List<WorkOrder> todayOrders = workOrderRepository.findByCreatedAtBetween(todayStart, todayEnd);
-        stats.put("todayWorkOrders", todayOrders.size());
-        
-        long todayCompleted = todayOrders.stream()
-            .filter(wo -> wo.getStatus() == WorkStatus.COMPLETED)
-            .count();
-        stats.put("todayCompletedOrders", todayCompleted);
-        
-        // Performance Metrics
-        double completionRate = allWorkOrders.isEmpty() ? 0 : 
-            (workOrderRepository.countByStatus(WorkStatus.COMPLETED) * 100.0) / allWorkOrders.size();
-        stats.put("averageCompletionRate", Math.round(completionRate * 10) / 10.0);
-        
-        // On-time delivery rate
-        List<WorkOrder> completedOrders = allWorkOrders.stream()
-            .filter(wo -> wo.getStatus() == WorkStatus.COMPLETED)
-            .toList();
-        
-        long onTimeCount = completedOrders.stream()
-            .filter(wo -> wo.getCompletedAt() != null && wo.getDueDate() != null 
-                && wo.getCompletedAt().isBefore(wo.getDueDate()))
-            .count();
-        
-        double onTimeRate = completedOrders.isEmpty() ? 0 : (onTimeCount * 100.0) / completedOrders.size();
-        stats.put("onTimeDeliveryRate", Math.round(onTimeRate * 10) / 10.0);
-        
-        return ResponseEntity.ok(stats);
+        return ResponseEntity.ok(dashboardStatistics.snapshot());
     }
     
     @GetMapping("/recent-work-orders")
     public ResponseEntity<List<Map<String, Object>>> getRecentWorkOrders(
             @RequestParam(defaultValue = "10") int limit) {
         
-        List<WorkOrder> recentOrders = workOrderRepository.findAll().stream()
-            .sorted((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()))
-            .limit(limit)
-            .toList();
-        
-        List<Map<String, Object>> result = recentOrders.stream()
+        Limit feedLimit = feedLimit(limit);
+        List<Map<String, Object>> recentOrders = responseCache.get("recent-work-orders", String.valueOf(feedLimit.max()),
+            () -> workOrderRepository.findAllByOrderByCreatedAtDescIdDesc(feedLimit).stream()
             .map(wo -> {
                 Map<String, Object> orderMap = new HashMap<>();
                 orderMap.put("id", wo.getId());
@@ -121,6 +89,15 @@ public class DashboardController {
                 orderMap.put("createdAt", wo.getCreatedAt());
                 return orderMap;
             })
+            .toList());
+        
+        // Progress still pending in the write-behind buffer is newer than any cached row
+        List<Map<String, Object>> result = recentOrders.stream()
+            .map(order -> {
+                Map<String, Object> orderMap = new HashMap<>(order);
+                orderMap.put("progress", progressBuffer.progressOf((Long) order.get("id"), (Integer) order.get("progress")));
+                return orderMap;
+            })
             .toList();
         
         return ResponseEntity.ok(result);
@@ -130,12 +107,9 @@ public class DashboardController {
     public ResponseEntity<List<Map<String, Object>>> getRecentIssues(
             @RequestParam(defaultValue = "10") int limit) {
         
-        List<Issue> recentIssues = issueRepository.findAll().stream()
-            .sorted((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()))
-            .limit(limit)
-            .toList();
-        
-        List<Map<String, Object>> result = recentIssues.stream()
+        Limit feedLimit = feedLimit(limit);
+        List<Map<String, Object>> result = responseCache.get("recent-issues", String.valueOf(feedLimit.max()),
+            () -> issueRepository.findAllByOrderByCreatedAtDescIdDesc(feedLimit).stream()
             .map(issue -> {
                 Map<String, Object> issueMap = new HashMap<>();
                 issueMap.put("id", issue.getId());
@@ -149,7 +123,7 @@ public class DashboardController {
                 issueMap.put("createdAt", issue.getCreatedAt());
                 return issueMap;
             })
-            .toList();
+            .toList());
         
         return ResponseEntity.ok(result);
     }
@@ -157,55 +131,47 @@ public class DashboardController {
     @GetMapping("/recent-activities")
     public ResponseEntity<List<Map<String, Object>>> getRecentActivities(
             @RequestParam(defaultValue = "20") int limit) {
-        
-        List<Map<String, Object>> activities = new java.util.ArrayList<>();
-        
-        // Get recent work logs
-        List<WorkLog> recentLogs = workLogRepository.findAll().stream()
-            .sorted((a, b) -> b.getLoggedAt().compareTo(a.getLoggedAt()))
-            .limit(limit / 2)
+        Limit feedLimit = feedLimit(limit);
+        return ResponseEntity.ok(responseCache.get("recent-activities", String.valueOf(feedLimit.max()),
+            () -> loadRecentActivities(feedLimit)));
+    }
+    
+    private List<Map<String, Object>> loadRecentActivities(Limit limit) {
+        // Each source is read newest-first and bounded, so the merge never sees more than
+        // 2 * limit rows regardless of table size
+        List<Map<String, Object>> logActivities = workLogRepository.findAllByOrderByLoggedAtDescIdDesc(limit)
+            .stream()
+            .map(log -> {
+                Map<String, Object> activity = new HashMap<>();
+                activity.put("id", log.getId());
+                activity.put("type", "WORK_LOG");
+                activity.put("action", log.getAction().toString());
+                activity.put("description", String.format("작업 로그: %s - %s", 
+                    log.getWorkOrder() != null ? log.getWorkOrder().getOrderNumber() : "N/A",
+                    log.getDescription()));
+                activity.put("userId", log.getUser() != null ? log.getUser().getId() : null);
+                activity.put("userName", log.getUser() != null ? log.getUser().getName() : null);
+                activity.put("timestamp", log.getLoggedAt());
+                return activity;
+            })
             .toList();
         
-        for (WorkLog log : recentLogs) {
-            Map<String, Object> activity = new HashMap<>();
-            activity.put("id", log.getId());
-            activity.put("type", "WORK_LOG");
-            activity.put("action", log.getAction().toString());
-            activity.put("description", String.format("작업 로그: %s - %s", 
-                log.getWorkOrder() != null ? log.getWorkOrder().getOrderNumber() : "N/A",
-                log.getDescription()));
-            activity.put("userId", log.getUser() != null ? log.getUser().getId() : null);
-            activity.put("userName", log.getUser() != null ? log.getUser().getName() : null);
-            activity.put("timestamp", log.getLoggedAt());
-            activities.add(activity);
-        }
-        
-        // Get recent work order creations
-        List<WorkOrder> recentOrders = workOrderRepository.findAll().stream()
-            .sorted((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()))
-            .limit(limit / 2)
+        List<Map<String, Object>> orderActivities = workOrderRepository.findAllByOrderByCreatedAtDescIdDesc(limit)
+            .stream()
+            .map(order -> {
+                Map<String, Object> activity = new HashMap<>();
+                activity.put("id", order.getId());
+                activity.put("type", "WORK_ORDER");
+                activity.put("action", "CREATED");
+                activity.put("description", String.format("작업 지시서 %s 생성됨", order.getOrderNumber()));
+                activity.put("userId", null);
+                activity.put("userName", "시스템");
+                activity.put("timestamp", order.getCreatedAt());
+                return activity;
+            })
             .toList();
         
-        for (WorkOrder order : recentOrders) {
-            Map<String, Object> activity = new HashMap<>();
-            activity.put("id", order.getId());
-            activity.put("type", "WORK_ORDER");
-            activity.put("action", "CREATED");
-            activity.put("description", String.format("작업 지시서 %s 생성됨", order.getOrderNumber()));
-            activity.put("userId", null);
-            activity.put("userName", "시스템");
-            activity.put("timestamp", order.getCreatedAt());
-            activities.add(activity);
-        }
-        
-        // Sort all activities by timestamp
-        activities.sort((a, b) -> {
-            LocalDateTime timeA = (LocalDateTime) a.get("timestamp");
-            LocalDateTime timeB = (LocalDateTime) b.get("timestamp");
-            return timeB.compareTo(timeA);
-        });
-        
-        return ResponseEntity.ok(activities.stream().limit(limit).toList());
+        return mergeNewestFirst(limit.max(), logActivities, orderActivities);
     }
     
     @GetMapping("/production-summary")
@@ -213,75 +179,115 @@ public class DashboardController {
             @RequestParam(required = false) String startDate,
             @RequestParam(required = false) String endDate) {
         
-        LocalDateTime start = startDate != null ? LocalDateTime.parse(startDate + "T00:00:00") 
+        // Parsed up front: a bad date fails only this request, and the cache key does not
+        // depend on how the date was written
+        LocalDate startDay = startDate != null ? LocalDate.parse(startDate) : null;
+        LocalDate endDay = endDate != null ? LocalDate.parse(endDate) : null;
+        
+        return ResponseEntity.ok(responseCache.get("production-summary", startDay + ".." + endDay,
+            () -> loadProductionSummary(startDay, endDay)));
+    }
+    
+    private Map<String, Object> loadProductionSummary(LocalDate startDay, LocalDate endDay) {
+        // Half-open [start, end) so orders created exactly at midnight land in their own day
+        LocalDateTime start = startDay != null ? startDay.atStartOfDay() 
             : LocalDateTime.now().minusMonths(1);
-        LocalDateTime end = endDate != null ? LocalDateTime.parse(endDate + "T23:59:59") 
+        LocalDateTime end = endDay != null ? endDay.plusDays(1).atStartOfDay() 
             : LocalDateTime.now();
         
-        List<WorkOrder> periodOrders = workOrderRepository.findByCreatedAtBetween(start, end);
+        List<ProductProductionTotals> productTotals = 
+            workOrderRepository.sumProductionByProduct(start, end, WorkStatus.COMPLETED);
+        List<DailyProductionTotals> dailyTotals = 
+            workOrderRepository.sumProductionByDay(start, end, WorkStatus.COMPLETED);
         
+        return summarize(productTotals, dailyTotals);
+    }
+    
+    /**
+     * Folds the grouped rows into the summary body. Static and database-free so the benchmarks
+     * can drive it with synthetic totals.
+     */
+    public static Map<String, Object> summarize(List<ProductProductionTotals> productTotals,
+                                                List<DailyProductionTotals> dailyTotals) {
         Map<String, Object> summary = new HashMap<>();
         
-        // Total quantities
-        int totalOrdered = periodOrders.stream()
-            .mapToInt(WorkOrder::getQuantity)
-            .sum();
-        summary.put("totalQuantityOrdered", totalOrdered);
-        
-        int totalProduced = periodOrders.stream()
-            .filter(wo -> wo.getStatus() == WorkStatus.COMPLETED)
-            .mapToInt(wo -> wo.getActualQuantity() != null ? wo.getActualQuantity() : wo.getQuantity())
-            .sum();
-        summary.put("totalQuantityProduced", totalProduced);
-        
-        double productionRate = totalOrdered == 0 ? 0 : (totalProduced * 100.0) / totalOrdered;
-        summary.put("productionRate", Math.round(productionRate * 100) / 100.0);
+        // Total quantities (summed from the per-product rows)
+        long totalOrdered = 0;
+        long totalProduced = 0;
         
         // By product
-        Map<String, Map<String, Object>> byProduct = new HashMap<>();
-        periodOrders.stream()
-            .collect(java.util.stream.Collectors.groupingBy(WorkOrder::getProductName))
-            .forEach((productName, orders) -> {
-                Map<String, Object> productStats = new HashMap<>();
-                int ordered = orders.stream().mapToInt(WorkOrder::getQuantity).sum();
-                int produced = orders.stream()
-                    .filter(wo -> wo.getStatus() == WorkStatus.COMPLETED)
-                    .mapToInt(wo -> wo.getActualQuantity() != null ? wo.getActualQuantity() : wo.getQuantity())
-                    .sum();
-                double rate = ordered == 0 ? 0 : (produced * 100.0) / ordered;
-                
-                productStats.put("productName", productName);
-                productStats.put("ordered", ordered);
-                productStats.put("produced", produced);
-                productStats.put("rate", Math.round(rate * 100) / 100.0);
-                byProduct.put(productName, productStats);
-            });
-        summary.put("byProduct", new java.util.ArrayList<>(byProduct.values()));
-        
-        // By date
-        List<Map<String, Object>> byDate = new java.util.ArrayList<>();
-        LocalDateTime current = start.toLocalDate().atStartOfDay();
-        while (current.isBefore(end)) {
-            final LocalDateTime dayStart = current;
-            final LocalDateTime dayEnd = current.plusDays(1);
-            List<WorkOrder> dayOrders = periodOrders.stream()
-                .filter(wo -> wo.getCreatedAt().isAfter(dayStart) && wo.getCreatedAt().isBefore(dayEnd))
-                .toList();
+        List<Map<String, Object>> byProduct = new ArrayList<>();
+        for (ProductProductionTotals totals : productTotals) {
+            long ordered = totals.getOrdered() != null ? totals.getOrdered() : 0;
+            long produced = totals.getProduced() != null ? totals.getProduced() : 0;
+            totalOrdered += ordered;
+            totalProduced += produced;
             
-            if (!dayOrders.isEmpty()) {
-                Map<String, Object> dayStats = new HashMap<>();
-                dayStats.put("date", current.toLocalDate().toString());
-                dayStats.put("ordered", dayOrders.stream().mapToInt(WorkOrder::getQuantity).sum());
-                dayStats.put("produced", dayOrders.stream()
-                    .filter(wo -> wo.getStatus() == WorkStatus.COMPLETED)
-                    .mapToInt(wo -> wo.getActualQuantity() != null ? wo.getActualQuantity() : wo.getQuantity())
-                    .sum());
-                byDate.add(dayStats);
-            }
-            current = dayEnd;
+            Map<String, Object> productStats = new HashMap<>();
+            productStats.put("productName", totals.getProductName());
+            productStats.put("ordered", ordered);
+            productStats.put("produced", produced);
+            productStats.put("rate", percentage(produced, ordered));
+            byProduct.add(productStats);
+        }
+        
+        summary.put("totalQuantityOrdered", totalOrdered);
+        summary.put("totalQuantityProduced", totalProduced);
+        summary.put("productionRate", percentage(totalProduced, totalOrdered));
+        summary.put("byProduct", byProduct);
+        
+        // By date (only days with orders, ascending)
+        List<Map<String, Object>> byDate = new ArrayList<>();
+        for (DailyProductionTotals totals : dailyTotals) {
+            Map<String, Object> dayStats = new HashMap<>();
+            dayStats.put("date", totals.getDate().toString());
+            dayStats.put("ordered", totals.getOrdered() != null ? totals.getOrdered() : 0L);
+            dayStats.put("produced", totals.getProduced() != null ? totals.getProduced() : 0L);
+            byDate.add(dayStats);
         }
         summary.put("byDate", byDate);
         
-        return ResponseEntity.ok(summary);
+        return summary;
+    }
+    
+    private static double percentage(long part, long whole) {
+        double rate = whole == 0 ? 0 : (part * 100.0) / whole;
+        return Math.round(rate * 100) / 100.0;
+    }
+    
+    private static Limit feedLimit(int limit) {
+        return Limit.of(Math.max(1, Math.min(limit, MAX_FEED_SIZE)));
+    }
+    
+    /**
+     * K-way merge of feeds that are each already sorted by descending {@code timestamp};
+     * stops after {@code limit} entries.
+     */
+    @SafeVarargs
+    private static List<Map<String, Object>> mergeNewestFirst(int limit, List<Map<String, Object>>... feeds) {
+        Comparator<int[]> newestFirst = Comparator.comparing(
+            (int[] cursor) -> timestampOf(feeds[cursor[0]].get(cursor[1])),
+            Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()));
+        PriorityQueue<int[]> heads = new PriorityQueue<>(newestFirst);
+        for (int i = 0; i < feeds.length; i++) {
+            if (!feeds[i].isEmpty()) {
+                heads.add(new int[] {i, 0});
+            }
+        }
+        
+        List<Map<String, Object>> merged = new ArrayList<>(limit);
+        while (merged.size() < limit && !heads.isEmpty()) {
+            int[] cursor = heads.poll();
+            List<Map<String, Object>> feed = feeds[cursor[0]];
+            merged.add(feed.get(cursor[1]));
+            if (cursor[1] + 1 < feed.size()) {
+                heads.add(new int[] {cursor[0], cursor[1] + 1});
+            }
+        }
+        return merged;
+    }
+    
+    private static LocalDateTime timestampOf(Map<String, Object> activity) {
+        return (LocalDateTime) activity.get("timestamp");
     }
-}
\ No newline at end of file
+}
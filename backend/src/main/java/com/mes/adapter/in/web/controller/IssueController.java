@@ -1,8 +1,14 @@
 package com.mes.adapter.in.web.controller;
 
+import com.mes.adapter.in.web.export.ExportColumn;
+import com.mes.adapter.in.web.export.ExportFormat;
+import com.mes.adapter.in.web.export.ExportRange;
+import com.mes.adapter.in.web.export.ExportResponses;
 import com.mes.adapter.in.web.security.CustomUserDetailsService;
 import com.mes.adapter.out.persistence.entity.Issue;
 import com.mes.adapter.out.persistence.repository.IssueRepository;
+import com.mes.adapter.out.persistence.repository.projection.IssueView;
+import com.mes.adapter.out.persistence.repository.specification.IssueSpecifications;
 import com.mes.application.port.in.IssueUseCase;
 import com.mes.common.dto.issue.CreateIssueDto;
 import com.mes.common.dto.issue.IssueDto;
@@ -10,13 +16,18 @@ import com.mes.common.dto.issue.ResolveIssueDto;
 import com.mes.common.dto.issue.UpdateIssueDto;
 import com.mes.common.exception.ResourceNotFoundException;
 import com.mes.common.mapper.IssueMapper;
+import com.mes.config.datasource.AnalyticalLane;
 import jakarta.validation.Valid;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -26,16 +37,33 @@ import java.util.stream.Collectors;
 @CrossOrigin(origins = {"http://localhost:3000", "http://localhost:5173"})
 public class IssueController {
     
+    private static final List<ExportColumn<IssueView>> EXPORT_COLUMNS = List.of(
+        ExportColumn.of("id", IssueView::getId),
+        ExportColumn.of("workOrderId", IssueView::getWorkOrderId),
+        ExportColumn.of("workOrderNumber", IssueView::getWorkOrderNumber),
+        ExportColumn.of("title", IssueView::getTitle),
+        ExportColumn.of("description", IssueView::getDescription),
+        ExportColumn.of("priority", IssueView::getPriority),
+        ExportColumn.of("status", IssueView::getStatus),
+        ExportColumn.of("reporterId", IssueView::getReporterId),
+        ExportColumn.of("reporterName", IssueView::getReporterName),
+        ExportColumn.of("createdAt", IssueView::getCreatedAt),
+        ExportColumn.of("resolvedAt", IssueView::getResolvedAt)
+    );
+    
     private final IssueUseCase issueUseCase;
     private final IssueRepository issueRepository;
     private final IssueMapper issueMapper;
+    private final ExportResponses exportResponses;
     
     public IssueController(IssueUseCase issueUseCase,
                           IssueRepository issueRepository,
-                          IssueMapper issueMapper) {
+                          IssueMapper issueMapper,
+                          ExportResponses exportResponses) {
         this.issueUseCase = issueUseCase;
         this.issueRepository = issueRepository;
         this.issueMapper = issueMapper;
+        this.exportResponses = exportResponses;
     }
     
     @PostMapping
@@ -52,46 +80,27 @@ public class IssueController {
         command.setReporterId(userDetails.getId());
         
         com.mes.domain.model.Issue issue = issueUseCase.createIssue(command);
-        Issue entity = issueRepository.findById(issue.getId())
+        IssueView view = issueRepository.findViewById(issue.getId())
             .orElseThrow(() -> new ResourceNotFoundException("Issue", issue.getId()));
         
-        IssueDto dto = issueMapper.toDto(entity);
+        IssueDto dto = issueMapper.toDto(view);
         return new ResponseEntity<>(dto, HttpStatus.CREATED);
     }
     
     @GetMapping
+    @AnalyticalLane
     public ResponseEntity<List<IssueDto>> getAllIssues(
             @RequestParam(required = false) String status,
             @RequestParam(required = false) String priority,
             @RequestParam(required = false) String type,
             @RequestParam(required = false) Long reportedBy) {
         
-        List<Issue> issues = issueRepository.findAll();
-        
-        // Apply filters
-        if (status != null) {
-            issues = issues.stream()
-                .filter(issue -> issue.getStatus() != null && issue.getStatus().toString().equals(status))
-                .collect(Collectors.toList());
-        }
-        
-        if (priority != null) {
-            issues = issues.stream()
-                .filter(issue -> issue.getPriority() != null && issue.getPriority().toString().equals(priority))
-                .collect(Collectors.toList());
-        }
-        
-        if (type != null) {
-            issues = issues.stream()
-                .filter(issue -> issue.getType() != null && issue.getType().equals(type))
-                .collect(Collectors.toList());
-        }
-        
-        if (reportedBy != null) {
-            issues = issues.stream()
-                .filter(issue -> issue.getReporter() != null && issue.getReporter().getId().equals(reportedBy))
-                .collect(Collectors.toList());
-        }
+        List<Issue> issues = issueRepository.findAll(Specification.allOf(
+            IssueSpecifications.hasStatus(status),
+            IssueSpecifications.hasPriority(priority),
+            IssueSpecifications.hasType(type),
+            IssueSpecifications.reportedBy(reportedBy)
+        ));
         
         List<IssueDto> dtos = issues.stream()
             .map(issueMapper::toDto)
@@ -100,9 +109,27 @@ public class IssueController {
         return ResponseEntity.ok(dtos);
     }
     
+    @GetMapping("/export")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    @AnalyticalLane
+    public ResponseEntity<StreamingResponseBody> exportIssues(
+            @RequestParam(required = false) String format,
+            @RequestParam(required = false) String startDate,
+            @RequestParam(required = false) String endDate,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        
+        // Issue history by report day, streamed in created_at order
+        ExportRange range = ExportRange.of(
+            startDate != null ? LocalDate.parse(startDate) : null,
+            endDate != null ? LocalDate.parse(endDate) : null);
+        
+        return exportResponses.stream("issues", ExportFormat.of(format), acceptEncoding,
+            () -> issueRepository.streamViewsCreatedBetween(range.getStart(), range.getEnd()), EXPORT_COLUMNS);
+    }
+    
     @GetMapping("/{id}")
     public ResponseEntity<IssueDto> getIssueById(@PathVariable Long id) {
-        Issue issue = issueRepository.findById(id)
+        IssueView issue = issueRepository.findViewById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Issue", id));
         
         IssueDto dto = issueMapper.toDto(issue);
@@ -123,10 +150,10 @@ public class IssueController {
         command.setStatus(updateDto.getStatus());
         
         com.mes.domain.model.Issue issue = issueUseCase.updateIssue(id, command);
-        Issue entity = issueRepository.findById(issue.getId())
+        IssueView view = issueRepository.findViewById(issue.getId())
             .orElseThrow(() -> new ResourceNotFoundException("Issue", issue.getId()));
         
-        IssueDto dto = issueMapper.toDto(entity);
+        IssueDto dto = issueMapper.toDto(view);
         return ResponseEntity.ok(dto);
     }
     
@@ -0,0 +1,46 @@
+package com.mes.adapter.in.web.controller;
+
+import com.mes.adapter.in.web.security.CustomUserDetailsService;
+import com.mes.adapter.in.web.stream.LiveUpdateHub;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/live")
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:5173"})
+public class LiveUpdateController {
+    
+    private final LiveUpdateHub liveUpdateHub;
+    
+    public LiveUpdateController(LiveUpdateHub liveUpdateHub) {
+        this.liveUpdateHub = liveUpdateHub;
+    }
+    
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+                             @RequestParam(required = false) Long lastEventId,
+                             Authentication authentication) {
+        CustomUserDetailsService.CustomUserDetails userDetails = 
+            (CustomUserDetailsService.CustomUserDetails) authentication.getPrincipal();
+        
+        // Workers only receive events for work orders assigned to them
+        Long restrictTo = null;
+        if (authentication.getAuthorities().stream()
+                .anyMatch(a -> a.getAuthority().equals("ROLE_WORKER"))) {
+            restrictTo = userDetails.getId();
+        }
+        
+        Long resumeFrom = lastEventId;
+        if (lastEventIdHeader != null && !lastEventIdHeader.isBlank()) {
+            try {
+                resumeFrom = Long.parseLong(lastEventIdHeader.trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid Last-Event-ID: " + lastEventIdHeader);
+            }
+        }
+        
+        return liveUpdateHub.subscribe(resumeFrom, restrictTo);
+    }
+}
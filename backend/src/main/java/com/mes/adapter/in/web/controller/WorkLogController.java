@@ -1,22 +1,35 @@
 package com.mes.adapter.in.web.controller;
 
+import com.mes.adapter.in.web.export.ExportColumn;
+import com.mes.adapter.in.web.export.ExportFormat;
+import com.mes.adapter.in.web.export.ExportRange;
+import com.mes.adapter.in.web.export.ExportResponses;
 import com.mes.adapter.in.web.security.CustomUserDetailsService;
 import com.mes.adapter.out.persistence.entity.WorkLog;
 import com.mes.adapter.out.persistence.repository.WorkLogRepository;
+import com.mes.adapter.out.persistence.repository.projection.WorkLogView;
+import com.mes.adapter.out.persistence.repository.specification.WorkLogQuery;
 import com.mes.application.port.in.WorkLogUseCase;
+import com.mes.common.dto.page.CursorPageDto;
+import com.mes.common.dto.page.KeysetCursor;
+import com.mes.common.dto.worklog.BatchCreateWorkLogDto;
 import com.mes.common.dto.worklog.CreateWorkLogDto;
 import com.mes.common.dto.worklog.WorkLogDto;
 import com.mes.common.mapper.WorkLogMapper;
+import com.mes.config.datasource.AnalyticalLane;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @RestController
@@ -24,71 +37,81 @@ import java.util.stream.Collectors;
 @CrossOrigin(origins = {"http://localhost:3000", "http://localhost:5173"})
 public class WorkLogController {
     
+    private static final List<ExportColumn<WorkLogView>> EXPORT_COLUMNS = List.of(
+        ExportColumn.of("id", WorkLogView::getId),
+        ExportColumn.of("workOrderId", WorkLogView::getWorkOrderId),
+        ExportColumn.of("workOrderNumber", WorkLogView::getWorkOrderNumber),
+        ExportColumn.of("workerId", WorkLogView::getWorkerId),
+        ExportColumn.of("workerName", WorkLogView::getWorkerName),
+        ExportColumn.of("action", WorkLogView::getAction),
+        ExportColumn.of("progress", WorkLogView::getProgress),
+        ExportColumn.of("notes", WorkLogView::getNotes),
+        ExportColumn.of("loggedAt", WorkLogView::getLoggedAt),
+        ExportColumn.of("createdAt", WorkLogView::getCreatedAt)
+    );
+    
     private final WorkLogUseCase workLogUseCase;
     private final WorkLogRepository workLogRepository;
     private final WorkLogMapper workLogMapper;
+    private final ExportResponses exportResponses;
     
     public WorkLogController(WorkLogUseCase workLogUseCase,
                             WorkLogRepository workLogRepository,
-                            WorkLogMapper workLogMapper) {
+                            WorkLogMapper workLogMapper,
+                            ExportResponses exportResponses) {
         this.workLogUseCase = workLogUseCase;
         this.workLogRepository = workLogRepository;
         this.workLogMapper = workLogMapper;
+        this.exportResponses = exportResponses;
     }
     
     @GetMapping
-    public ResponseEntity<List<WorkLogDto>> getAllWorkLogs(
+    @AnalyticalLane
+    public ResponseEntity<CursorPageDto<WorkLogDto>> getAllWorkLogs(
             @RequestParam(required = false) Long workOrderId,
             @RequestParam(required = false) Long userId,
             @RequestParam(required = false) String action,
             @RequestParam(required = false) String startDate,
-            @RequestParam(required = false) String endDate) {
-        
-        List<WorkLog> workLogs = workLogRepository.findAll();
-        
-        // Apply filters
-        if (workOrderId != null) {
-            workLogs = workLogs.stream()
-                .filter(log -> log.getWorkOrder() != null && log.getWorkOrder().getId().equals(workOrderId))
-                .collect(Collectors.toList());
-        }
+            @RequestParam(required = false) String endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
         
-        if (userId != null) {
-            workLogs = workLogs.stream()
-                .filter(log -> log.getUser() != null && log.getUser().getId().equals(userId))
-                .collect(Collectors.toList());
-        }
+        int pageSize = KeysetCursor.pageSize(size);
+        WorkLogQuery query = new WorkLogQuery()
+            .workOrder(workOrderId)
+            .worker(userId)
+            .action(action)
+            .from(startDate != null ? LocalDate.parse(startDate) : null)
+            .to(endDate != null ? LocalDate.parse(endDate) : null)
+            .after(KeysetCursor.decode(cursor));
         
-        if (action != null) {
-            workLogs = workLogs.stream()
-                .filter(log -> log.getAction() != null && log.getAction().toString().equals(action))
-                .collect(Collectors.toList());
-        }
+        List<WorkLog> workLogs = workLogRepository.findPage(query, pageSize + 1);
         
-        if (startDate != null) {
-            LocalDateTime start = LocalDateTime.parse(startDate + "T00:00:00");
-            workLogs = workLogs.stream()
-                .filter(log -> log.getLoggedAt() != null && log.getLoggedAt().isAfter(start))
-                .collect(Collectors.toList());
-        }
-        
-        if (endDate != null) {
-            LocalDateTime end = LocalDateTime.parse(endDate + "T23:59:59");
-            workLogs = workLogs.stream()
-                .filter(log -> log.getLoggedAt() != null && log.getLoggedAt().isBefore(end))
-                .collect(Collectors.toList());
-        }
+        return ResponseEntity.ok(CursorPageDto.of(workLogs, pageSize, workLogMapper::toDto,
+            log -> new KeysetCursor(log.getLoggedAt(), log.getId())));
+    }
+    
+    @GetMapping("/export")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    @AnalyticalLane
+    public ResponseEntity<StreamingResponseBody> exportWorkLogs(
+            @RequestParam(required = false) String format,
+            @RequestParam(required = false) String startDate,
+            @RequestParam(required = false) String endDate,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         
-        List<WorkLogDto> dtos = workLogs.stream()
-            .map(workLogMapper::toDto)
-            .collect(Collectors.toList());
+        // Full history for reconciliation, streamed in logged_at order
+        ExportRange range = ExportRange.of(
+            startDate != null ? LocalDate.parse(startDate) : null,
+            endDate != null ? LocalDate.parse(endDate) : null);
         
-        return ResponseEntity.ok(dtos);
+        return exportResponses.stream("work-logs", ExportFormat.of(format), acceptEncoding,
+            () -> workLogRepository.streamViewsLoggedBetween(range.getStart(), range.getEnd()), EXPORT_COLUMNS);
     }
     
     @GetMapping("/{id}")
     public ResponseEntity<WorkLogDto> getWorkLogById(@PathVariable Long id) {
-        WorkLog workLog = workLogRepository.findById(id)
+        WorkLogView workLog = workLogRepository.findViewById(id)
             .orElseThrow(() -> new com.mes.common.exception.ResourceNotFoundException("WorkLog", id));
         
         WorkLogDto dto = workLogMapper.toDto(workLog);
@@ -110,17 +133,42 @@ public class WorkLogController {
         
         com.mes.domain.model.WorkLog workLog = workLogUseCase.createWorkLog(command);
         
-        // Fetch the entity to get full details
-        List<WorkLog> logs = workLogRepository.findByWorkOrderIdOrderByCreatedAtDesc(workLog.getWorkOrderId());
-        WorkLog savedEntity = logs.stream()
-            .filter(log -> log.getId().equals(workLog.getId()))
-            .findFirst()
-            .orElse(null);
+        WorkLogView saved = workLogRepository.findViewById(workLog.getId())
+            .orElseThrow(() -> new com.mes.common.exception.ResourceNotFoundException("WorkLog", workLog.getId()));
         
-        WorkLogDto dto = workLogMapper.toDto(savedEntity);
+        WorkLogDto dto = workLogMapper.toDto(saved);
         return new ResponseEntity<>(dto, HttpStatus.CREATED);
     }
     
+    @PostMapping("/batch")
+    public ResponseEntity<Map<String, Object>> createWorkLogs(@Valid @RequestBody BatchCreateWorkLogDto batchDto,
+                                                              Authentication authentication) {
+        CustomUserDetailsService.CustomUserDetails userDetails = 
+            (CustomUserDetailsService.CustomUserDetails) authentication.getPrincipal();
+        
+        List<WorkLogUseCase.CreateWorkLogCommand> commands = batchDto.getLogs().stream()
+            .map(createDto -> {
+                WorkLogUseCase.CreateWorkLogCommand command = new WorkLogUseCase.CreateWorkLogCommand();
+                command.setWorkOrderId(createDto.getWorkOrderId());
+                command.setWorkerId(userDetails.getId());
+                command.setAction(createDto.getAction());
+                command.setNotes(createDto.getNotes());
+                command.setProgress(createDto.getProgress());
+                return command;
+            })
+            .collect(Collectors.toList());
+        
+        // Terminals only need the assigned ids back, so the batch skips the per-row read-back
+        List<Long> ids = workLogUseCase.createWorkLogs(commands).stream()
+            .map(com.mes.domain.model.WorkLog::getId)
+            .collect(Collectors.toList());
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("created", ids.size());
+        response.put("ids", ids);
+        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    }
+    
     @GetMapping("/work-order/{workOrderId}")
     public ResponseEntity<List<WorkLogDto>> getWorkLogsByWorkOrder(@PathVariable Long workOrderId) {
         List<WorkLog> workLogs = workLogRepository.findByWorkOrderIdOrderByCreatedAtDesc(workOrderId);
@@ -1,25 +1,43 @@
 package com.mes.adapter.in.web.controller;
 
+import com.mes.adapter.in.web.bulk.WorkOrderImporter;
+import com.mes.adapter.in.web.export.ExportColumn;
+import com.mes.adapter.in.web.export.ExportFormat;
+import com.mes.adapter.in.web.export.ExportRange;
+import com.mes.adapter.in.web.export.ExportResponses;
 import com.mes.adapter.in.web.security.CustomUserDetailsService;
 import com.mes.adapter.out.persistence.entity.WorkOrder;
 import com.mes.adapter.out.persistence.repository.WorkOrderRepository;
+import com.mes.adapter.out.persistence.repository.projection.WorkOrderView;
+import com.mes.adapter.out.persistence.repository.specification.WorkOrderSpecifications;
 import com.mes.application.port.in.WorkOrderUseCase;
+import com.mes.application.service.ProgressWriteBuffer;
+import com.mes.common.dto.page.CursorPageDto;
+import com.mes.common.dto.page.KeysetCursor;
 import com.mes.common.dto.workorder.CompleteWorkOrderDto;
 import com.mes.common.dto.workorder.CreateWorkOrderDto;
+import com.mes.common.dto.workorder.WorkOrderImportReportDto;
 import com.mes.common.dto.workorder.WorkOrderDto;
 import com.mes.common.exception.ResourceNotFoundException;
 import com.mes.common.exception.UnauthorizedException;
 import com.mes.common.mapper.WorkOrderMapper;
+import com.mes.config.datasource.AnalyticalLane;
 import jakarta.validation.Valid;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/work-orders")
@@ -29,13 +47,43 @@ public class WorkOrderController {
     private final WorkOrderUseCase workOrderUseCase;
     private final WorkOrderRepository workOrderRepository;
     private final WorkOrderMapper workOrderMapper;
+    private final ProgressWriteBuffer progressBuffer;
+    private final ExportResponses exportResponses;
+    private final WorkOrderImporter workOrderImporter;
+    private final List<ExportColumn<WorkOrderView>> exportColumns;
     
     public WorkOrderController(WorkOrderUseCase workOrderUseCase,
                               WorkOrderRepository workOrderRepository,
-                              WorkOrderMapper workOrderMapper) {
+                              WorkOrderMapper workOrderMapper,
+                              ProgressWriteBuffer progressBuffer,
+                              ExportResponses exportResponses,
+                              WorkOrderImporter workOrderImporter) {
         this.workOrderUseCase = workOrderUseCase;
         this.workOrderRepository = workOrderRepository;
         this.workOrderMapper = workOrderMapper;
+        this.progressBuffer = progressBuffer;
+        this.exportResponses = exportResponses;
+        this.workOrderImporter = workOrderImporter;
+        this.exportColumns = List.of(
+            ExportColumn.of("id", WorkOrderView::getId),
+            ExportColumn.of("orderNumber", WorkOrderView::getOrderNumber),
+            ExportColumn.of("productName", WorkOrderView::getProductName),
+            ExportColumn.of("productCode", WorkOrderView::getProductCode),
+            ExportColumn.of("quantity", WorkOrderView::getQuantity),
+            ExportColumn.of("actualQuantity", WorkOrderView::getActualQuantity),
+            ExportColumn.of("status", WorkOrderView::getStatus),
+            ExportColumn.of("priority", WorkOrderView::getPriority),
+            ExportColumn.of("progress", view -> progressBuffer.progressOf(view.getId(), view.getProgress())),
+            ExportColumn.of("assignedToId", WorkOrderView::getAssignedToId),
+            ExportColumn.of("assignedToName", WorkOrderView::getAssignedToName),
+            ExportColumn.of("dueDate", WorkOrderView::getDueDate),
+            ExportColumn.of("startedAt", WorkOrderView::getStartedAt),
+            ExportColumn.of("completedAt", WorkOrderView::getCompletedAt),
+            ExportColumn.of("createdAt", WorkOrderView::getCreatedAt),
+            ExportColumn.of("updatedAt", WorkOrderView::getUpdatedAt),
+            ExportColumn.of("instructions", WorkOrderView::getInstructions),
+            ExportColumn.of("notes", WorkOrderView::getNotes)
+        );
     }
     
     @PostMapping
@@ -52,58 +100,81 @@ public class WorkOrderController {
         command.setAssignedToId(createDto.getAssignedToId());
         
         com.mes.domain.model.WorkOrder workOrder = workOrderUseCase.createWorkOrder(command);
-        WorkOrder entity = workOrderRepository.findById(workOrder.getId())
-            .orElseThrow(() -> new ResourceNotFoundException("WorkOrder", workOrder.getId()));
         
-        WorkOrderDto dto = workOrderMapper.toDto(entity);
+        WorkOrderDto dto = workOrderMapper.toDto(workOrder);
         return new ResponseEntity<>(dto, HttpStatus.CREATED);
     }
     
+    @PostMapping(value = "/import", consumes = "text/csv")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<WorkOrderImportReportDto> importWorkOrdersCsv(InputStream body) throws IOException {
+        return ResponseEntity.ok(workOrderImporter.importCsv(body));
+    }
+    
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<WorkOrderImportReportDto> importWorkOrdersJson(InputStream body) throws IOException {
+        return ResponseEntity.ok(workOrderImporter.importJson(body));
+    }
+    
     @GetMapping
-    public ResponseEntity<List<WorkOrderDto>> getAllWorkOrders(
+    @AnalyticalLane
+    public ResponseEntity<CursorPageDto<WorkOrderDto>> getAllWorkOrders(
             @RequestParam(required = false) String status,
             @RequestParam(required = false) String priority,
             @RequestParam(required = false) Long assignedTo,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
             Authentication authentication) {
         
         CustomUserDetailsService.CustomUserDetails userDetails = 
             (CustomUserDetailsService.CustomUserDetails) authentication.getPrincipal();
         
-        List<WorkOrder> workOrders;
-        
         // Workers can only see their assigned work orders
         if (authentication.getAuthorities().stream()
                 .anyMatch(a -> a.getAuthority().equals("ROLE_WORKER"))) {
-            workOrders = workOrderRepository.findByAssignedToId(userDetails.getId());
-        } else {
-            // Apply filters for ADMIN and MANAGER
-            if (status != null || priority != null || assignedTo != null) {
-                workOrders = filterWorkOrders(status, priority, assignedTo);
-            } else {
-                workOrders = workOrderRepository.findAll();
-            }
+            assignedTo = userDetails.getId();
         }
         
-        List<WorkOrderDto> dtos = workOrders.stream()
-            .map(workOrderMapper::toDto)
-            .collect(Collectors.toList());
+        int pageSize = KeysetCursor.pageSize(size);
+        Specification<WorkOrder> spec = Specification.allOf(
+            WorkOrderSpecifications.hasStatus(status),
+            WorkOrderSpecifications.hasPriority(priority),
+            WorkOrderSpecifications.assignedTo(assignedTo),
+            WorkOrderSpecifications.after(KeysetCursor.decode(cursor))
+        );
         
-        return ResponseEntity.ok(dtos);
+        List<WorkOrder> workOrders = workOrderRepository.findBy(spec, query -> query
+            .sortBy(WorkOrderSpecifications.KEYSET_SORT)
+            .project("assignedTo")
+            .limit(pageSize + 1)
+            .all());
+        
+        return ResponseEntity.ok(CursorPageDto.of(workOrders, pageSize, wo -> withPendingProgress(workOrderMapper.toDto(wo)),
+            wo -> new KeysetCursor(wo.getCreatedAt(), wo.getId())));
     }
     
-    private List<WorkOrder> filterWorkOrders(String status, String priority, Long assignedTo) {
-        List<WorkOrder> allOrders = workOrderRepository.findAll();
+    @GetMapping("/export")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    @AnalyticalLane
+    public ResponseEntity<StreamingResponseBody> exportWorkOrders(
+            @RequestParam(required = false) String format,
+            @RequestParam(required = false) String startDate,
+            @RequestParam(required = false) String endDate,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
         
-        return allOrders.stream()
-            .filter(wo -> status == null || wo.getStatus().toString().equals(status))
-            .filter(wo -> priority == null || wo.getPriority().toString().equals(priority))
-            .filter(wo -> assignedTo == null || (wo.getAssignedTo() != null && wo.getAssignedTo().getId().equals(assignedTo)))
-            .collect(Collectors.toList());
+        // Production history by creation day, streamed in created_at order
+        ExportRange range = ExportRange.of(
+            startDate != null ? LocalDate.parse(startDate) : null,
+            endDate != null ? LocalDate.parse(endDate) : null);
+        
+        return exportResponses.stream("work-orders", ExportFormat.of(format), acceptEncoding,
+            () -> workOrderRepository.streamViewsCreatedBetween(range.getStart(), range.getEnd()), exportColumns);
     }
     
     @GetMapping("/{id}")
     public ResponseEntity<WorkOrderDto> getWorkOrderById(@PathVariable Long id, Authentication authentication) {
-        WorkOrder workOrder = workOrderRepository.findById(id)
+        WorkOrderView workOrder = workOrderRepository.findViewById(id)
             .orElseThrow(() -> new ResourceNotFoundException("WorkOrder", id));
         
         // Check authorization for workers
@@ -112,12 +183,12 @@ public class WorkOrderController {
         
         if (authentication.getAuthorities().stream()
                 .anyMatch(a -> a.getAuthority().equals("ROLE_WORKER"))) {
-            if (workOrder.getAssignedTo() == null || !workOrder.getAssignedTo().getId().equals(userDetails.getId())) {
+            if (workOrder.getAssignedToId() == null || !workOrder.getAssignedToId().equals(userDetails.getId())) {
                 throw new UnauthorizedException("You can only view work orders assigned to you");
             }
         }
         
-        WorkOrderDto dto = workOrderMapper.toDto(workOrder);
+        WorkOrderDto dto = withPendingProgress(workOrderMapper.toDto(workOrder));
         return ResponseEntity.ok(dto);
     }
     
@@ -128,10 +199,8 @@ public class WorkOrderController {
     public ResponseEntity<WorkOrderDto> updateWorkOrder(@PathVariable Long id, 
                                                         @Valid @RequestBody WorkOrderUseCase.UpdateWorkOrderCommand command) {
         com.mes.domain.model.WorkOrder workOrder = workOrderUseCase.updateWorkOrder(id, command);
-        WorkOrder entity = workOrderRepository.findById(workOrder.getId())
-            .orElseThrow(() -> new ResourceNotFoundException("WorkOrder", workOrder.getId()));
         
-        WorkOrderDto dto = workOrderMapper.toDto(entity);
+        WorkOrderDto dto = workOrderMapper.toDto(workOrder);
         return ResponseEntity.ok(dto);
     }
     
@@ -155,19 +224,8 @@ public class WorkOrderController {
                                                            Authentication authentication) {
         checkWorkOrderAuthorization(id, authentication);
         
-        // Update work order with actual quantity and notes
-        WorkOrder workOrder = workOrderRepository.findById(id)
-            .orElseThrow(() -> new ResourceNotFoundException("WorkOrder", id));
-        
-        if (completeDto.getActualQuantity() != null) {
-            workOrder.setActualQuantity(completeDto.getActualQuantity());
-        }
-        if (completeDto.getNotes() != null) {
-            workOrder.setNotes(completeDto.getNotes());
-        }
-        workOrderRepository.save(workOrder);
-        
-        workOrderUseCase.completeWork(id);
+        // Actual quantity and notes are written by the same guarded UPDATE as the status change
+        workOrderUseCase.completeWork(id, completeDto.getActualQuantity(), completeDto.getNotes());
         
         Map<String, Object> response = new java.util.HashMap<>();
         response.put("message", "Work completed successfully");
@@ -197,18 +255,23 @@ public class WorkOrderController {
         CustomUserDetailsService.CustomUserDetails userDetails = 
             (CustomUserDetailsService.CustomUserDetails) authentication.getPrincipal();
         
-        WorkOrder workOrder = workOrderRepository.findById(workOrderId)
-            .orElseThrow(() -> new ResourceNotFoundException("WorkOrder", workOrderId));
-        
-        // Admins and Managers can always access
+        // Admins and Managers can always access; the use case reports missing orders itself
         if (authentication.getAuthorities().stream()
                 .anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN") || a.getAuthority().equals("ROLE_MANAGER"))) {
             return;
         }
         
+        WorkOrder workOrder = workOrderRepository.findById(workOrderId)
+            .orElseThrow(() -> new ResourceNotFoundException("WorkOrder", workOrderId));
+        
         // Workers can only access their assigned work orders
         if (workOrder.getAssignedTo() == null || !workOrder.getAssignedTo().getId().equals(userDetails.getId())) {
             throw new UnauthorizedException("You can only modify work orders assigned to you");
         }
     }
-}
\ No newline at end of file
+    
+    private WorkOrderDto withPendingProgress(WorkOrderDto dto) {
+        dto.setProgress(progressBuffer.progressOf(dto.getId(), dto.getProgress()));
+        return dto;
+    }
+}
@@ -0,0 +1,27 @@
+package com.mes.adapter.in.web.export;
+
+import java.util.function.Function;
+
+/**
+ * One exported field: the CSV header / NDJSON key and how to read it from a row.
+ */
+public class ExportColumn<T> {
+    
+    private final String name;
+    private final Function<T, ?> value;
+    
+    private ExportColumn(String name, Function<T, ?> value) {
+        this.name = name;
+        this.value = value;
+    }
+    
+    public static <T> ExportColumn<T> of(String name, Function<T, ?> value) {
+        return new ExportColumn<>(name, value);
+    }
+    
+    public String getName() { return name; }
+    
+    Object valueOf(T row) {
+        return value.apply(row);
+    }
+}
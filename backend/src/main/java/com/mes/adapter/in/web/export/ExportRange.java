@@ -0,0 +1,35 @@
+package com.mes.adapter.in.web.export;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Inclusive day range of an export as a half-open {@code [start, end)} timestamp interval.
+ * Open ends are replaced by fixed bounds so the range queries stay plain index range scans.
+ */
+public class ExportRange {
+    
+    private static final LocalDateTime EARLIEST = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime LATEST = LocalDateTime.of(9999, 12, 31, 0, 0);
+    
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+    
+    private ExportRange(LocalDateTime start, LocalDateTime end) {
+        this.start = start;
+        this.end = end;
+    }
+    
+    public static ExportRange of(LocalDate startDate, LocalDate endDate) {
+        if (startDate != null && endDate != null && endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("endDate must not be before startDate");
+        }
+        return new ExportRange(
+            startDate != null ? startDate.atStartOfDay() : EARLIEST,
+            endDate != null ? endDate.plusDays(1).atStartOfDay() : LATEST
+        );
+    }
+    
+    public LocalDateTime getStart() { return start; }
+    public LocalDateTime getEnd() { return end; }
+}
@@ -0,0 +1,184 @@
+package com.mes.adapter.in.web.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mes.config.datasource.DatabaseConcurrencyLimiter;
+import com.mes.config.datasource.ExecutionLane;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Builds streaming export responses. Rows are pulled one at a time from a repository
+ * {@link Stream} (a forward-only cursor) and written straight to the response, so memory use
+ * does not depend on the number of rows. The body runs after the controller returns, on the
+ * MVC async executor, inside its own read-only transaction that keeps the cursor open until
+ * the last row is written. That transaction runs in the analytical lane and holds one of its
+ * database permits throughout, so long exports queue behind each other rather than taking
+ * connections from shop-floor work.
+ */
+@Component
+public class ExportResponses {
+    
+    private static final Logger log = LoggerFactory.getLogger(ExportResponses.class);
+    
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+    private final DatabaseConcurrencyLimiter databaseLimiter;
+    
+    public ExportResponses(PlatformTransactionManager transactionManager, ObjectMapper objectMapper,
+                           DatabaseConcurrencyLimiter databaseLimiter) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.databaseLimiter = databaseLimiter;
+    }
+    
+    /**
+     * @param name           base file name for Content-Disposition, without extension
+     * @param acceptEncoding the request's Accept-Encoding header; gzip is used when it allows it
+     * @param rows           opens the row stream; called inside the export transaction
+     */
+    public <T> ResponseEntity<StreamingResponseBody> stream(String name, ExportFormat format, String acceptEncoding,
+                                                            Supplier<Stream<T>> rows, List<ExportColumn<T>> columns) {
+        boolean gzip = acceptsGzip(acceptEncoding);
+        
+        StreamingResponseBody body = out -> analytical(() -> readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<T> stream = rows.get()) {
+                write(gzip ? new GZIPOutputStream(out, WRITE_BUFFER_SIZE) : out, format, stream, columns);
+            } catch (IOException e) {
+                // Usually the client went away; the rest of the export is abandoned
+                log.info("Export {} aborted: {}", name, e.toString());
+                throw new UncheckedIOException(e);
+            }
+        }));
+        
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .contentType(format.getMediaType())
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(name + "." + format.getExtension())
+                .build()
+                .toString())
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+    
+    private void analytical(Runnable export) {
+        try {
+            databaseLimiter.call(ExecutionLane.ANALYTICAL, () -> {
+                export.run();
+                return null;
+            });
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    private <T> void write(OutputStream out, ExportFormat format, Stream<T> rows,
+                           List<ExportColumn<T>> columns) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        if (format == ExportFormat.CSV) {
+            writeCsv(writer, rows, columns);
+        } else {
+            writeNdjson(writer, rows, columns);
+        }
+        writer.flush();
+        if (out instanceof GZIPOutputStream) {
+            ((GZIPOutputStream) out).finish();
+        }
+    }
+    
+    private <T> void writeCsv(Writer writer, Stream<T> rows, List<ExportColumn<T>> columns) throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(columns.get(i).getName());
+        }
+        writer.write("\r\n");
+        
+        for (T row : (Iterable<T>) rows::iterator) {
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                Object value = columns.get(i).valueOf(row);
+                if (value != null) {
+                    writeCsvField(writer, value.toString());
+                }
+            }
+            writer.write("\r\n");
+        }
+    }
+    
+    /** RFC 4180 quoting: fields containing a delimiter, quote or line break are quoted. */
+    private void writeCsvField(Writer writer, String value) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+    
+    private <T> void writeNdjson(Writer writer, Stream<T> rows, List<ExportColumn<T>> columns) throws IOException {
+        JsonGenerator generator = objectMapper.createGenerator(writer);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+        
+        for (T row : (Iterable<T>) rows::iterator) {
+            generator.writeStartObject();
+            for (ExportColumn<T> column : columns) {
+                generator.writeFieldName(column.getName());
+                generator.writeObject(column.valueOf(row));
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+        generator.flush();
+    }
+    
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+}
@@ -1,37 +1,102 @@
 package com.mes.adapter.in.web.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.mes.adapter.out.persistence.entity.User;
 import com.mes.adapter.out.persistence.repository.UserRepository;
+import com.mes.application.event.UserChangedEvent;
+import com.mes.application.port.in.UserUseCase;
+import com.mes.config.datasource.ReadWriteRoutingDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
 
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
-    private final UserRepository userRepository;
+    private static final Logger log = LoggerFactory.getLogger(CustomUserDetailsService.class);
 
-    public CustomUserDetailsService(UserRepository userRepository) {
+    private final UserRepository userRepository;
+    private final UserUseCase userUseCase;
+    
+    // Principals by email; dropped when UserService commits a change to the account
+    private final Cache<String, CustomUserDetails> principalsByEmail;
+
+    public CustomUserDetailsService(UserRepository userRepository,
+                                    UserUseCase userUseCase,
+                                    @Value("${mes.security.user-cache.max-size:1000}") long maxSize,
+                                    @Value("${mes.security.user-cache.ttl:PT10M}") Duration ttl) {
         this.userRepository = userRepository;
+        this.userUseCase = userUseCase;
+        this.principalsByEmail = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
     }
 
     @Override
-    @Transactional
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = userRepository.findByEmail(email)
+        // Unknown emails throw out of the loader and are not cached
+        return principalsByEmail.get(email, this::loadFromDatabase);
+    }
+
+    /**
+     * Stores a rehashed password. The authentication provider calls this after a successful
+     * login whose stored hash used a different BCrypt cost than the configured one.
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        CustomUserDetails details = (CustomUserDetails) user;
+        try {
+            UserUseCase.UpdateUserCommand command = new UserUseCase.UpdateUserCommand();
+            command.setPassword(newPassword);
+            // Publishes UserChangedEvent, which drops the cached principal with the old hash
+            userUseCase.updateUser(details.getId(), command);
+        } catch (RuntimeException e) {
+            // The old hash still verifies; the next login tries again
+            log.warn("Could not rehash password for user {}", details.getId(), e);
+            return details;
+        }
+        return new CustomUserDetails(details.getId(), details.getUsername(), newPassword, details.getName(),
+                details.getAuthorities(), details.isEnabled());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        principalsByEmail.invalidate(event.getEmail());
+    }
+
+    public CacheStats cacheStats() {
+        return principalsByEmail.stats();
+    }
+
+    public long cacheSize() {
+        return principalsByEmail.estimatedSize();
+    }
+
+    private CustomUserDetails loadFromDatabase(String email) {
+        // Read from the primary: a lagging replica would put a just-changed account back into the cache
+        User user = ReadWriteRoutingDataSource.onPrimary(() -> userRepository.findByEmail(email))
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
 
         return createUserDetails(user);
     }
 
-    private UserDetails createUserDetails(User user) {
+    private CustomUserDetails createUserDetails(User user) {
         return new CustomUserDetails(
                 user.getId(),
                 user.getEmail(),
@@ -73,6 +138,16 @@ public class CustomUserDetailsService implements UserDetailsService {
             return name;
         }
 
+        /** The role name without the {@code ROLE_} prefix, e.g. {@code WORKER}. */
+        public String getRole() {
+            return authorities.stream()
+                    .map(GrantedAuthority::getAuthority)
+                    .filter(authority -> authority.startsWith("ROLE_"))
+                    .map(authority -> authority.substring("ROLE_".length()))
+                    .findFirst()
+                    .orElse("WORKER");
+        }
+
         @Override
         public Collection<? extends GrantedAuthority> getAuthorities() {
             return authorities;
@@ -1,12 +1,12 @@
 package com.mes.adapter.in.web.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -19,11 +19,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
     private final CustomUserDetailsService customUserDetailsService;
+    private final JwtPrincipalCache principalCache;
+    private final TokenRevocationList revocations;
 
     public JwtAuthenticationFilter(JwtTokenProvider tokenProvider, 
-                                  CustomUserDetailsService customUserDetailsService) {
+                                  CustomUserDetailsService customUserDetailsService,
+                                  JwtPrincipalCache principalCache,
+                                  TokenRevocationList revocations) {
         this.tokenProvider = tokenProvider;
         this.customUserDetailsService = customUserDetailsService;
+        this.principalCache = principalCache;
+        this.revocations = revocations;
     }
 
     @Override
@@ -33,19 +39,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                String username = tokenProvider.getUsernameFromToken(jwt);
-                UserDetails userDetails = customUserDetailsService.loadUserByUsername(username);
+            if (StringUtils.hasText(jwt)) {
+                CustomUserDetailsService.CustomUserDetails userDetails = resolvePrincipal(jwt);
                 
-                UsernamePasswordAuthenticationToken authentication = 
-                        new UsernamePasswordAuthenticationToken(
-                                userDetails, 
-                                null, 
-                                userDetails.getAuthorities()
-                        );
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+                if (userDetails != null && userDetails.isEnabled()) {
+                    UsernamePasswordAuthenticationToken authentication = 
+                            new UsernamePasswordAuthenticationToken(
+                                    userDetails, 
+                                    null, 
+                                    userDetails.getAuthorities()
+                            );
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                }
             }
         } catch (Exception ex) {
             logger.error("Could not set user authentication in security context", ex);
@@ -54,11 +61,38 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private CustomUserDetailsService.CustomUserDetails resolvePrincipal(String jwt) {
+        JwtPrincipalCache.Entry cached = principalCache.get(jwt);
+        if (cached != null) {
+            // Checked on every hit: a token revoked after it was cached must stop working at once
+            return revocations.isRevoked(cached.getTokenId(), cached.getExpiresAtMillis()) ? null : cached.getPrincipal();
+        }
+        
+        long generation = principalCache.generation();
+        Claims claims = tokenProvider.parseClaims(jwt);
+        if (claims == null) {
+            return null;
+        }
+        String tokenId = tokenProvider.tokenId(jwt, claims);
+        if (revocations.isRevoked(tokenId, claims.getExpiration().getTime())) {
+            return null;
+        }
+        
+        CustomUserDetailsService.CustomUserDetails userDetails = (CustomUserDetailsService.CustomUserDetails)
+                customUserDetailsService.loadUserByUsername(claims.getSubject());
+        principalCache.put(jwt, userDetails, tokenId, claims.getExpiration(), generation);
+        return userDetails;
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
             return bearerToken.substring(7);
         }
+        // Browsers' EventSource cannot set headers, so the live stream also accepts a query token
+        if (request.getRequestURI().startsWith("/api/live/")) {
+            return request.getParameter("access_token");
+        }
         return null;
     }
 }
\ No newline at end of file
@@ -0,0 +1,106 @@
+package com.mes.adapter.in.web.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.mes.application.event.UserChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded cache of already verified bearer tokens and the principal they resolved to.
+ *
+ * A hit skips both the signature check and the user lookup. Entries expire after the
+ * configured TTL or when the token itself expires, whichever comes first, and every entry of
+ * a user is dropped once a change to that user commits. Revocation is not cached here: the
+ * caller checks each hit against {@link TokenRevocationList} using the entry's token id. The generation counter keeps a
+ * lookup that raced with such a change from re-caching the stale principal.
+ */
+@Component
+public class JwtPrincipalCache {
+
+    private final Cache<String, Entry> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    public JwtPrincipalCache(@Value("${mes.security.principal-cache.max-size:10000}") long maxSize,
+                             @Value("${mes.security.principal-cache.ttl:PT5M}") Duration ttl) {
+        long ttlNanos = ttl.toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, Entry>() {
+                    @Override
+                    public long expireAfterCreate(String token, Entry entry, long currentTime) {
+                        long untilTokenExpiry = TimeUnit.MILLISECONDS.toNanos(
+                                entry.expiresAtMillis - System.currentTimeMillis());
+                        return Math.max(0, Math.min(ttlNanos, untilTokenExpiry));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String token, Entry entry, long currentTime, long currentDuration) {
+                        return expireAfterCreate(token, entry, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String token, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    public Entry get(String token) {
+        return cache.getIfPresent(token);
+    }
+
+    /**
+     * Read before loading a principal and pass it back to {@link #put}.
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    public void put(String token, CustomUserDetailsService.CustomUserDetails principal, String tokenId,
+                    Date expiresAt, long loadedAtGeneration) {
+        if (expiresAt == null) {
+            return;
+        }
+        cache.put(token, new Entry(principal, tokenId, expiresAt.getTime()));
+        // Undo the put if an invalidation ran while the principal was being loaded
+        if (generation.get() != loadedAtGeneration) {
+            cache.invalidate(token);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        generation.incrementAndGet();
+        cache.asMap().values().removeIf(entry -> entry.principal.getId().equals(event.getUserId()));
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    public static final class Entry {
+        private final CustomUserDetailsService.CustomUserDetails principal;
+        private final String tokenId;
+        private final long expiresAtMillis;
+
+        private Entry(CustomUserDetailsService.CustomUserDetails principal, String tokenId, long expiresAtMillis) {
+            this.principal = principal;
+            this.tokenId = tokenId;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        public CustomUserDetailsService.CustomUserDetails getPrincipal() { return principal; }
+        public String getTokenId() { return tokenId; }
+        public long getExpiresAtMillis() { return expiresAtMillis; }
+    }
+}
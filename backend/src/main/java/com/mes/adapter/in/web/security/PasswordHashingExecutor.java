@@ -0,0 +1,88 @@
+package com.mes.adapter.in.web.security;
+
+import com.mes.common.exception.ServiceBusyException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs password hashing (BCrypt) on a small dedicated pool instead of request threads.
+ *
+ * A BCrypt check costs tens of milliseconds of CPU, so a burst of logins at shift change would
+ * otherwise occupy Tomcat threads and starve every other endpoint. Here at most {@code threads}
+ * hashes run at once, up to {@code queue-capacity} wait their turn, and anything beyond that, or
+ * still waiting after {@code wait-timeout}, fails fast with {@link ServiceBusyException} (503).
+ */
+@Component
+public class PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final long waitTimeoutMs;
+
+    public PasswordHashingExecutor(@Value("${mes.security.password-hashing.threads:4}") int threads,
+                                   @Value("${mes.security.password-hashing.queue-capacity:300}") int queueCapacity,
+                                   @Value("${mes.security.password-hashing.wait-timeout:PT10S}") Duration waitTimeout,
+                                   ObjectProvider<MeterRegistry> meterRegistry) {
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                Thread thread = new Thread(runnable, "password-hashing-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        this.waitTimeoutMs = waitTimeout.toMillis();
+        meterRegistry.ifAvailable(registry ->
+            new ExecutorServiceMetrics(executor, "password.hashing", List.of()).bindTo(registry));
+    }
+
+    /**
+     * Runs {@code task} on the pool and waits for it. Runtime exceptions thrown by the task
+     * (e.g. {@code BadCredentialsException}) propagate unchanged.
+     */
+    public <T> T run(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            throw new ServiceBusyException("Too many sign-in requests, please retry");
+        }
+        try {
+            return future.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            throw new ServiceBusyException("Sign-in timed out waiting for capacity, please retry");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceBusyException("Sign-in was interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,186 @@
+package com.mes.adapter.in.web.security;
+
+import com.mes.adapter.out.persistence.entity.RevokedToken;
+import com.mes.adapter.out.persistence.repository.RevokedTokenRepository;
+import com.mes.config.datasource.ReadWriteRoutingDataSource;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Tokens revoked before they expire (logout, used refresh tokens), checked on every
+ * authenticated request without a database round trip.
+ *
+ * Revoked ids are grouped into buckets by the token's expiry time, {@code bucket-width} wide.
+ * Each bucket puts a Bloom filter in front of an exact set, so a token that was never revoked
+ * (the usual case) costs a map lookup and a few bit tests, and a false positive is settled by
+ * the set, still in memory. A bucket is dropped as soon as every token in it has expired, so
+ * memory only holds revocations that can still matter.
+ *
+ * The revoked_tokens table is the source of truth. {@link #revoke} inserts there first, and
+ * its primary key makes a second revocation of the same token fail on any node, which is what
+ * makes refresh tokens single-use. The buckets are loaded from the table at startup and
+ * {@link #sync} picks up rows written by other nodes, so a revocation made elsewhere is
+ * honoured here within one {@code sync-interval}.
+ */
+@Component
+public class TokenRevocationList {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationList.class);
+
+    private static final int HASHES = 4;
+    // Rows committed late relative to their revoked_at (slow transactions, clock skew between nodes)
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final long bucketWidthMs;
+    private final int bloomBits;
+    private final ConcurrentHashMap<Long, Bucket> buckets = new ConcurrentHashMap<>();
+    private volatile LocalDateTime lastSync;
+
+    public TokenRevocationList(RevokedTokenRepository revokedTokenRepository,
+                               @Value("${mes.security.revocation.bucket-width:PT1H}") Duration bucketWidth,
+                               @Value("${mes.security.revocation.bloom-bits:65536}") int bloomBits) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.bucketWidthMs = bucketWidth.toMillis();
+        // A power of two so a hash can be reduced to a bit index with a mask
+        this.bloomBits = Integer.highestOneBit(Math.max(64, bloomBits - 1)) << 1;
+    }
+
+    @PostConstruct
+    public void load() {
+        LocalDateTime now = LocalDateTime.now();
+        List<RevokedToken> rows = ReadWriteRoutingDataSource.onPrimary(
+                () -> revokedTokenRepository.findByExpiresAtAfter(now));
+        rows.forEach(this::add);
+        lastSync = now;
+        log.info("Loaded {} unexpired token revocations", rows.size());
+    }
+
+    public boolean isRevoked(String tokenId, long expiresAtMillis) {
+        Bucket bucket = buckets.get(expiresAtMillis / bucketWidthMs);
+        return bucket != null && bucket.contains(tokenId);
+    }
+
+    /**
+     * Revokes a token until it expires.
+     *
+     * @return {@code false} if the token had already been revoked, here or on another node
+     */
+    public boolean revoke(String tokenId, Date expiresAt) {
+        boolean first;
+        try {
+            revokedTokenRepository.insert(tokenId,
+                    LocalDateTime.ofInstant(expiresAt.toInstant(), ZoneId.systemDefault()), LocalDateTime.now());
+            first = true;
+        } catch (DataIntegrityViolationException e) {
+            first = false;
+        }
+        add(tokenId, expiresAt.getTime());
+        return first;
+    }
+
+    @Scheduled(fixedDelayString = "${mes.security.revocation.sync-interval:PT5S}",
+               initialDelayString = "${mes.security.revocation.sync-interval:PT5S}")
+    public void sync() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = lastSync.minus(SYNC_OVERLAP);
+        List<RevokedToken> rows = ReadWriteRoutingDataSource.onPrimary(
+                () -> revokedTokenRepository.findByRevokedAtGreaterThanEqualAndExpiresAtAfter(since, now));
+        rows.forEach(this::add);
+        lastSync = now;
+
+        long currentBucket = System.currentTimeMillis() / bucketWidthMs;
+        buckets.keySet().removeIf(key -> key < currentBucket);
+    }
+
+    @Scheduled(fixedDelayString = "${mes.security.revocation.purge-interval:PT1H}",
+               initialDelayString = "${mes.security.revocation.purge-interval:PT1H}")
+    public void purgeExpired() {
+        // Every node runs this; deleting already deleted rows is harmless
+        int deleted = revokedTokenRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.debug("Purged {} expired token revocations", deleted);
+        }
+    }
+
+    private void add(RevokedToken row) {
+        add(row.getTokenId(), row.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    private void add(String tokenId, long expiresAtMillis) {
+        if (expiresAtMillis <= System.currentTimeMillis()) {
+            return;
+        }
+        buckets.computeIfAbsent(expiresAtMillis / bucketWidthMs, key -> new Bucket(bloomBits)).add(tokenId);
+    }
+
+    private static final class Bucket {
+        private final AtomicLongArray bits;
+        private final int mask;
+        private final Set<String> ids = ConcurrentHashMap.newKeySet();
+
+        private Bucket(int bloomBits) {
+            this.bits = new AtomicLongArray(bloomBits / Long.SIZE);
+            this.mask = bloomBits - 1;
+        }
+
+        private void add(String tokenId) {
+            // The set first: a reader that sees the bits must also find the id
+            ids.add(tokenId);
+            long h1 = hash(tokenId);
+            long h2 = mix(h1) | 1;
+            for (int i = 0; i < HASHES; i++) {
+                int bit = (int) ((h1 + i * h2) & mask);
+                long word = 1L << bit;
+                int index = bit >>> 6;
+                long current;
+                do {
+                    current = bits.get(index);
+                } while ((current & word) == 0 && !bits.compareAndSet(index, current, current | word));
+            }
+        }
+
+        private boolean contains(String tokenId) {
+            long h1 = hash(tokenId);
+            long h2 = mix(h1) | 1;
+            for (int i = 0; i < HASHES; i++) {
+                int bit = (int) ((h1 + i * h2) & mask);
+                if ((bits.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return ids.contains(tokenId);
+        }
+
+        // 64-bit FNV-1a
+        private static long hash(String value) {
+            long hash = 0xcbf29ce484222325L;
+            for (int i = 0; i < value.length(); i++) {
+                hash ^= value.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+            return hash;
+        }
+
+        // splitmix64 finalizer, the second hash for double hashing
+        private static long mix(long value) {
+            value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+            value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+            return value ^ (value >>> 31);
+        }
+    }
+}
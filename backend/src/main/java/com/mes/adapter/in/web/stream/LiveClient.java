@@ -0,0 +1,97 @@
+package com.mes.adapter.in.web.stream;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A connected subscriber. Events are buffered in a bounded queue and written by the hub's
+ * sender pool, so a slow connection only ever backs up its own queue. When the queue fills,
+ * it is discarded and replaced by a single {@code resync} frame telling the client to refetch.
+ */
+class LiveClient {
+    
+    private final SseEmitter emitter;
+    private final Long restrictToUserId;
+    private final BlockingQueue<LiveEvent> queue;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile boolean closed;
+    
+    LiveClient(SseEmitter emitter, Long restrictToUserId, int capacity) {
+        this.emitter = emitter;
+        this.restrictToUserId = restrictToUserId;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+    
+    /**
+     * @return {@code false} if the client fell behind and was switched to resync
+     */
+    boolean offer(LiveEvent event) {
+        if (!event.isVisibleTo(restrictToUserId)) {
+            return true;
+        }
+        if (queue.offer(event)) {
+            return true;
+        }
+        synchronized (queue) {
+            queue.clear();
+            queue.offer(LiveEvent.resync("overflow"));
+        }
+        return false;
+    }
+    
+    /**
+     * Claims the right to drain; only one sender thread works a client at a time.
+     */
+    boolean startDraining() {
+        return !closed && draining.compareAndSet(false, true);
+    }
+    
+    /**
+     * Writes queued events until the queue is empty.
+     *
+     * @return {@code true} if more events arrived after the drain released its claim
+     */
+    boolean drain() throws IOException {
+        try {
+            LiveEvent event;
+            while (!closed && (event = queue.poll()) != null) {
+                send(event);
+            }
+        } finally {
+            draining.set(false);
+        }
+        return !closed && !queue.isEmpty();
+    }
+    
+    private void send(LiveEvent event) throws IOException {
+        if (event.isHeartbeat()) {
+            emitter.send(SseEmitter.event().comment("heartbeat"));
+            return;
+        }
+        SseEmitter.SseEventBuilder builder = SseEmitter.event()
+            .name(event.getName())
+            .data(event.getData(), MediaType.APPLICATION_JSON);
+        if (event.getId() != null) {
+            builder.id(String.valueOf(event.getId()));
+        }
+        emitter.send(builder);
+    }
+    
+    void close() {
+        closed = true;
+        queue.clear();
+    }
+    
+    boolean isClosed() {
+        return closed;
+    }
+    
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+}
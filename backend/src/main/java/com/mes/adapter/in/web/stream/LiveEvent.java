@@ -0,0 +1,48 @@
+package com.mes.adapter.in.web.stream;
+
+import java.util.Set;
+
+/**
+ * One server-sent event. {@code id} is a hub-wide sequence number that clients echo back in
+ * {@code Last-Event-ID} on reconnect; control frames (heartbeat, resync) carry no id.
+ */
+public class LiveEvent {
+    
+    public static final String RESYNC = "resync";
+    
+    private final Long id;
+    private final String name;
+    private final Object data;
+    private final Set<Long> audience;
+    
+    LiveEvent(Long id, String name, Object data, Set<Long> audience) {
+        this.id = id;
+        this.name = name;
+        this.data = data;
+        this.audience = audience;
+    }
+    
+    static LiveEvent resync(String reason) {
+        return new LiveEvent(null, RESYNC, java.util.Map.of("reason", reason), null);
+    }
+    
+    static LiveEvent heartbeat() {
+        return new LiveEvent(null, null, null, null);
+    }
+    
+    boolean isHeartbeat() {
+        return name == null;
+    }
+    
+    /**
+     * Whether a client restricted to {@code userId} may see this event; {@code null} on
+     * either side means unrestricted.
+     */
+    boolean isVisibleTo(Long userId) {
+        return userId == null || audience == null || audience.contains(userId);
+    }
+    
+    public Long getId() { return id; }
+    public String getName() { return name; }
+    public Object getData() { return data; }
+}
@@ -0,0 +1,293 @@
+package com.mes.adapter.in.web.stream;
+
+import com.mes.application.event.IssueChangedEvent;
+import com.mes.application.event.WorkLogCreatedEvent;
+import com.mes.application.event.WorkOrderChangedEvent;
+import com.mes.application.event.WorkOrdersImportedEvent;
+import com.mes.application.service.DashboardStatistics;
+import com.mes.domain.model.Issue;
+import com.mes.domain.model.WorkLog;
+import com.mes.domain.model.WorkOrder;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fans committed work order, issue and work log changes out to SSE subscribers.
+ *
+ * Every event gets a sequence id and is kept in a fixed-size replay buffer, so a client that
+ * reconnects with {@code Last-Event-ID} receives exactly what it missed, or a {@code resync}
+ * frame when the gap is no longer buffered. Progress updates are coalesced per work order
+ * and flushed on a short tick together with a fresh dashboard stats snapshot; any other
+ * change to the same work order flushes its pending progress first so ordering holds.
+ */
+@Component
+public class LiveUpdateHub {
+    
+    private static final Logger log = LoggerFactory.getLogger(LiveUpdateHub.class);
+    
+    private final DashboardStatistics dashboardStatistics;
+    private final int clientQueueCapacity;
+    private final long emitterTimeoutMs;
+    
+    private final List<LiveClient> clients = new CopyOnWriteArrayList<>();
+    private final ExecutorService sender;
+    
+    // Replay ring buffer, guarded by this
+    private final LiveEvent[] history;
+    private long nextId = 1;
+    
+    private final Map<Long, WorkOrder> pendingProgress = new ConcurrentHashMap<>();
+    private final AtomicBoolean statsDirty = new AtomicBoolean();
+    
+    public LiveUpdateHub(DashboardStatistics dashboardStatistics,
+                         @Value("${mes.live.replay-buffer-size:1024}") int replayBufferSize,
+                         @Value("${mes.live.client-queue-capacity:256}") int clientQueueCapacity,
+                         @Value("${mes.live.sender-threads:2}") int senderThreads,
+                         @Value("${mes.live.emitter-timeout:PT30M}") Duration emitterTimeout) {
+        this.dashboardStatistics = dashboardStatistics;
+        this.history = new LiveEvent[replayBufferSize];
+        this.clientQueueCapacity = clientQueueCapacity;
+        this.emitterTimeoutMs = emitterTimeout.toMillis();
+        
+        AtomicInteger threadCount = new AtomicInteger();
+        this.sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "live-sse-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+    
+    /**
+     * Opens a stream, replaying everything after {@code lastEventId} when given.
+     *
+     * @param restrictToUserId limits work order events to those assigned to this user;
+     *                         {@code null} receives everything
+     */
+    public SseEmitter subscribe(Long lastEventId, Long restrictToUserId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        LiveClient client = new LiveClient(emitter, restrictToUserId, clientQueueCapacity);
+        emitter.onCompletion(() -> remove(client));
+        emitter.onTimeout(() -> remove(client));
+        emitter.onError(ex -> remove(client));
+        
+        // Replay and registration happen atomically with respect to publish()
+        synchronized (this) {
+            if (lastEventId != null) {
+                List<LiveEvent> missed = eventsAfter(lastEventId);
+                if (missed == null) {
+                    client.offer(LiveEvent.resync("replay-gap"));
+                } else {
+                    for (LiveEvent event : missed) {
+                        if (!client.offer(event)) {
+                            break;
+                        }
+                    }
+                }
+            }
+            clients.add(client);
+        }
+        schedule(client);
+        return emitter;
+    }
+    
+    public int getClientCount() {
+        return clients.size();
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWorkOrderChanged(WorkOrderChangedEvent event) {
+        statsDirty.set(true);
+        if (event.getType() == WorkOrderChangedEvent.Type.PROGRESS_UPDATED) {
+            pendingProgress.put(event.getWorkOrderId(), event.getCurrent());
+            return;
+        }
+        flushProgress(event.getWorkOrderId());
+        
+        WorkOrder state = event.getCurrent() != null ? event.getCurrent() : event.getPrevious();
+        publish("work-order." + event.getType().name().toLowerCase().replace('_', '-'),
+            workOrderPayload(state), audience(event.getPrevious(), event.getCurrent()));
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWorkOrdersImported(WorkOrdersImportedEvent event) {
+        statsDirty.set(true);
+        // One frame per chunk: a 50k-row import would otherwise overrun every client's replay buffer
+        Set<Long> audience = new HashSet<>();
+        event.getCreated().forEach(workOrder -> audience.addAll(audience(null, workOrder)));
+        publish("work-order.imported", Map.of("count", event.getCreated().size()), audience);
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIssueChanged(IssueChangedEvent event) {
+        statsDirty.set(true);
+        Issue state = event.getCurrent() != null ? event.getCurrent() : event.getPrevious();
+        publish("issue." + event.getType().name().toLowerCase(), issuePayload(state), null);
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWorkLogCreated(WorkLogCreatedEvent event) {
+        publish("work-log.created", workLogPayload(event.getWorkLog()), null);
+    }
+    
+    @Scheduled(fixedDelayString = "${mes.live.coalesce-interval:PT0.2S}")
+    public void flush() {
+        for (Long workOrderId : new ArrayList<>(pendingProgress.keySet())) {
+            flushProgress(workOrderId);
+        }
+        if (statsDirty.getAndSet(false) && !clients.isEmpty()) {
+            publish("dashboard.stats", dashboardStatistics.snapshot(), null);
+        }
+    }
+    
+    @Scheduled(fixedRateString = "${mes.live.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        LiveEvent heartbeat = LiveEvent.heartbeat();
+        for (LiveClient client : clients) {
+            client.offer(heartbeat);
+            schedule(client);
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        for (LiveClient client : clients) {
+            client.close();
+            client.getEmitter().complete();
+        }
+        clients.clear();
+        sender.shutdownNow();
+    }
+    
+    private void flushProgress(Long workOrderId) {
+        WorkOrder state = pendingProgress.remove(workOrderId);
+        if (state != null) {
+            publish("work-order.progress", workOrderPayload(state), audience(null, state));
+        }
+    }
+    
+    private void publish(String name, Object data, Set<Long> audience) {
+        synchronized (this) {
+            LiveEvent event = new LiveEvent(nextId, name, data, audience);
+            history[(int) (nextId % history.length)] = event;
+            nextId++;
+            for (LiveClient client : clients) {
+                if (!client.offer(event)) {
+                    log.debug("Live client fell behind; sent resync");
+                }
+            }
+        }
+        for (LiveClient client : clients) {
+            schedule(client);
+        }
+    }
+    
+    /**
+     * @return the buffered events after {@code lastEventId}, or {@code null} when some of them
+     *         have already been overwritten (or the id predates a restart)
+     */
+    private List<LiveEvent> eventsAfter(long lastEventId) {
+        long oldest = Math.max(1, nextId - history.length);
+        if (lastEventId >= nextId || lastEventId < oldest - 1) {
+            return null;
+        }
+        List<LiveEvent> missed = new ArrayList<>();
+        for (long id = lastEventId + 1; id < nextId; id++) {
+            missed.add(history[(int) (id % history.length)]);
+        }
+        return missed;
+    }
+    
+    private void schedule(LiveClient client) {
+        if (!client.startDraining()) {
+            return;
+        }
+        sender.execute(() -> {
+            try {
+                if (client.drain()) {
+                    schedule(client);
+                }
+            } catch (IOException | IllegalStateException ex) {
+                // Client went away mid-write
+                remove(client);
+                client.getEmitter().completeWithError(ex);
+            }
+        });
+    }
+    
+    private void remove(LiveClient client) {
+        client.close();
+        clients.remove(client);
+    }
+    
+    private static Set<Long> audience(WorkOrder previous, WorkOrder current) {
+        Set<Long> audience = new HashSet<>();
+        if (previous != null && previous.getAssignedToId() != null) {
+            audience.add(previous.getAssignedToId());
+        }
+        if (current != null && current.getAssignedToId() != null) {
+            audience.add(current.getAssignedToId());
+        }
+        return audience;
+    }
+    
+    private static Map<String, Object> workOrderPayload(WorkOrder workOrder) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("id", workOrder.getId());
+        data.put("orderNumber", workOrder.getOrderNumber());
+        data.put("productName", workOrder.getProductName());
+        data.put("status", workOrder.getStatus());
+        data.put("priority", workOrder.getPriority());
+        data.put("progress", workOrder.getProgress());
+        data.put("assignedToId", workOrder.getAssignedToId());
+        data.put("assignedToName", workOrder.getAssignedToName());
+        data.put("dueDate", workOrder.getDueDate());
+        data.put("updatedAt", workOrder.getUpdatedAt());
+        return data;
+    }
+    
+    private static Map<String, Object> issuePayload(Issue issue) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("id", issue.getId());
+        data.put("workOrderId", issue.getWorkOrderId());
+        data.put("title", issue.getTitle());
+        data.put("priority", issue.getPriority());
+        data.put("status", issue.getStatus());
+        data.put("reporterId", issue.getReporterId());
+        data.put("createdAt", issue.getCreatedAt());
+        data.put("resolvedAt", issue.getResolvedAt());
+        return data;
+    }
+    
+    private static Map<String, Object> workLogPayload(WorkLog workLog) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("id", workLog.getId());
+        data.put("workOrderId", workLog.getWorkOrderId());
+        data.put("workerId", workLog.getWorkerId());
+        data.put("action", workLog.getAction());
+        data.put("notes", workLog.getNotes());
+        data.put("progress", workLog.getProgress());
+        data.put("createdAt", workLog.getCreatedAt());
+        return data;
+    }
+}
@@ -7,7 +7,9 @@ import com.mes.common.mapper.IssueMapper;
 import com.mes.domain.model.Issue;
 import org.springframework.stereotype.Component;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -68,4 +70,13 @@ public class IssuePersistenceAdapter implements IssuePort {
     public void deleteById(Long id) {
         issueRepository.deleteById(id);
     }
+    
+    @Override
+    public Map<String, Long> countByStatus() {
+        Map<String, Long> counts = new HashMap<>();
+        for (Object[] row : issueRepository.countGroupByStatus()) {
+            counts.put(((IssueStatus) row[0]).name(), (Long) row[1]);
+        }
+        return counts;
+    }
 }
\ No newline at end of file
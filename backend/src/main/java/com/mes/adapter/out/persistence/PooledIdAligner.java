@@ -0,0 +1,77 @@
+package com.mes.adapter.out.persistence;
+
+import com.mes.adapter.out.persistence.entity.PooledIds;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Moves each pooled id sequence past the ids already present in its table.
+ *
+ * work_logs and issues were IDENTITY tables, so existing databases hold rows the generator
+ * table knows nothing about. The pooled optimizer hands out the block ending at the stored
+ * value, so the stored value must be at least MAX(id) + allocation size for the first block to
+ * start above the existing rows. The check only ever raises the value, so it is safe to run
+ * on every start.
+ *
+ * Instances starting together against an empty generator table may race to insert the same
+ * row; the loser falls back to the guarded UPDATE. Depending on the EntityManagerFactory
+ * guarantees that the schema is in place, and running during context refresh keeps the
+ * alignment ahead of the first request.
+ */
+@Component
+public class PooledIdAligner {
+
+    private static final Logger log = LoggerFactory.getLogger(PooledIdAligner.class);
+
+    private static final List<String> POOLED_TABLES = List.of("work_logs", "issues");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PooledIdAligner(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void align() {
+        for (String table : POOLED_TABLES) {
+            Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+            long required = maxId + PooledIds.ALLOCATION_SIZE;
+
+            List<Long> current = jdbcTemplate.queryForList(
+                "SELECT " + PooledIds.VALUE_COLUMN + " FROM " + PooledIds.TABLE
+                    + " WHERE " + PooledIds.NAME_COLUMN + " = ?", Long.class, table);
+            if (!current.isEmpty() && current.get(0) >= required) {
+                continue;
+            }
+            // A lost insert race falls through to the UPDATE, which only ever raises the value
+            boolean aligned = current.isEmpty() && insertSequence(table, required)
+                || raiseSequence(table, required);
+            if (aligned) {
+                log.info("Aligned id sequence {} to {} (max id {})", table, required, maxId);
+            }
+        }
+    }
+
+    private boolean insertSequence(String table, long required) {
+        try {
+            jdbcTemplate.update("INSERT INTO " + PooledIds.TABLE + " (" + PooledIds.NAME_COLUMN + ", "
+                + PooledIds.VALUE_COLUMN + ") VALUES (?, ?)", table, required);
+            return true;
+        } catch (DuplicateKeyException e) {
+            // Another instance inserted it since the SELECT
+            return false;
+        }
+    }
+
+    private boolean raiseSequence(String table, long required) {
+        return jdbcTemplate.update("UPDATE " + PooledIds.TABLE + " SET " + PooledIds.VALUE_COLUMN + " = ? WHERE "
+            + PooledIds.NAME_COLUMN + " = ? AND " + PooledIds.VALUE_COLUMN + " < ?", required, table, required) == 1;
+    }
+}
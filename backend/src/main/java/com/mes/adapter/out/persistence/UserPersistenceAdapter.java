@@ -7,8 +7,11 @@ import com.mes.common.mapper.UserMapper;
 import com.mes.domain.model.User;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Component
@@ -57,4 +60,9 @@ public class UserPersistenceAdapter implements UserPort {
     public boolean existsByEmail(String email) {
         return userRepository.existsByEmail(email);
     }
+    
+    @Override
+    public Set<Long> findExistingIds(Collection<Long> ids) {
+        return ids.isEmpty() ? Set.of() : new HashSet<>(userRepository.findExistingIds(ids));
+    }
 }
\ No newline at end of file
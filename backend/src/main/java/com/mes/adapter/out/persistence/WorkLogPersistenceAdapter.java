@@ -28,6 +28,17 @@ public class WorkLogPersistenceAdapter implements WorkLogPort {
         return workLogMapper.toDomain(saved);
     }
     
+    @Override
+    public List<WorkLog> saveAll(List<WorkLog> workLogs) {
+        // Pooled ids let Hibernate defer the INSERTs to flush and send them as JDBC batches
+        List<com.mes.adapter.out.persistence.entity.WorkLog> entities = workLogs.stream()
+            .map(workLogMapper::toEntity)
+            .collect(Collectors.toList());
+        return workLogRepository.saveAll(entities).stream()
+            .map(workLogMapper::toDomain)
+            .collect(Collectors.toList());
+    }
+    
     @Override
     public List<WorkLog> findByWorkOrderId(Long workOrderId) {
         return workLogRepository.findByWorkOrderIdOrderByCreatedAtDesc(workOrderId).stream()
@@ -1,38 +1,136 @@
 package com.mes.adapter.out.persistence;
 
 import com.mes.adapter.out.persistence.entity.enums.WorkStatus;
+import com.mes.adapter.out.persistence.repository.UserRepository;
 import com.mes.adapter.out.persistence.repository.WorkOrderRepository;
 import com.mes.application.port.out.WorkOrderPort;
 import com.mes.common.mapper.WorkOrderMapper;
 import com.mes.domain.model.WorkOrder;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Component
 public class WorkOrderPersistenceAdapter implements WorkOrderPort {
     
     private final WorkOrderRepository workOrderRepository;
+    private final UserRepository userRepository;
     private final WorkOrderMapper workOrderMapper;
+    private final JdbcTemplate jdbcTemplate;
     
     public WorkOrderPersistenceAdapter(WorkOrderRepository workOrderRepository, 
-                                       WorkOrderMapper workOrderMapper) {
+                                       UserRepository userRepository,
+                                       WorkOrderMapper workOrderMapper,
+                                       JdbcTemplate jdbcTemplate) {
         this.workOrderRepository = workOrderRepository;
+        this.userRepository = userRepository;
         this.workOrderMapper = workOrderMapper;
+        this.jdbcTemplate = jdbcTemplate;
     }
     
     @Override
     public WorkOrder save(WorkOrder workOrder) {
-        com.mes.adapter.out.persistence.entity.WorkOrder entity = workOrderMapper.toEntity(workOrder);
-        com.mes.adapter.out.persistence.entity.WorkOrder saved = workOrderRepository.save(entity);
+        // Update the managed row in place rather than merging a detached copy: a merge would
+        // cascade the copy's empty workLogs/issues and orphan-remove the existing children.
+        com.mes.adapter.out.persistence.entity.WorkOrder entity = workOrder.getId() != null
+            ? workOrderRepository.findById(workOrder.getId())
+                .orElseThrow(() -> new IllegalArgumentException("WorkOrder not found with id: " + workOrder.getId()))
+            : new com.mes.adapter.out.persistence.entity.WorkOrder();
+        // A caller-supplied version must match the row; Hibernate's own check then covers
+        // anything committed between this read and the UPDATE
+        if (workOrder.getVersion() != null && workOrder.getVersion() != entity.getVersion()) {
+            throw new ObjectOptimisticLockingFailureException(
+                com.mes.adapter.out.persistence.entity.WorkOrder.class, workOrder.getId());
+        }
+        workOrderMapper.updateEntity(workOrder, entity);
+        
+        // Both lookups resolve from the persistence context when the service loaded the row via
+        // findById, so the returned state carries the assignee name without a read-back
+        if (workOrder.getAssignedToId() == null) {
+            entity.setAssignedTo(null);
+        } else if (entity.getAssignedTo() == null || !workOrder.getAssignedToId().equals(entity.getAssignedTo().getId())) {
+            entity.setAssignedTo(userRepository.findById(workOrder.getAssignedToId())
+                .orElseThrow(() -> new IllegalArgumentException("User not found with id: " + workOrder.getAssignedToId())));
+        }
+        // Flush so the returned state carries the incremented version
+        com.mes.adapter.out.persistence.entity.WorkOrder saved = workOrderRepository.saveAndFlush(entity);
         return workOrderMapper.toDomain(saved);
     }
     
+    @Override
+    public List<WorkOrder> insertAll(List<WorkOrder> workOrders) {
+        if (workOrders.isEmpty()) {
+            return workOrders;
+        }
+        // Plain JDBC batch: work_orders keeps IDENTITY keys, which would make Hibernate insert
+        // row by row, and bulk rows never enter the persistence context
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(
+            "INSERT INTO work_orders (order_number, product_name, product_code, quantity, due_date, priority, " +
+            "status, instructions, progress, assigned_to_id, created_at, updated_at, version) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)", new String[] {"id"}),
+            new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    WorkOrder workOrder = workOrders.get(i);
+                    ps.setString(1, workOrder.getOrderNumber());
+                    ps.setString(2, workOrder.getProductName());
+                    ps.setString(3, workOrder.getProductCode());
+                    ps.setInt(4, workOrder.getQuantity());
+                    ps.setObject(5, workOrder.getDueDate());
+                    ps.setString(6, workOrder.getPriority());
+                    ps.setString(7, workOrder.getStatus());
+                    ps.setString(8, workOrder.getInstructions());
+                    ps.setInt(9, workOrder.getProgress());
+                    ps.setObject(10, workOrder.getAssignedToId(), Types.BIGINT);
+                    ps.setObject(11, workOrder.getCreatedAt());
+                    ps.setObject(12, workOrder.getUpdatedAt());
+                }
+                
+                @Override
+                public int getBatchSize() {
+                    return workOrders.size();
+                }
+            }, keys);
+        
+        List<Map<String, Object>> generated = keys.getKeyList();
+        for (int i = 0; i < workOrders.size(); i++) {
+            workOrders.get(i).setId(((Number) generated.get(i).values().iterator().next()).longValue());
+            workOrders.get(i).setVersion(0L);
+        }
+        return workOrders;
+    }
+    
+    @Override
+    public boolean existsById(Long id) {
+        return workOrderRepository.existsById(id);
+    }
+    
+    @Override
+    public Set<Long> findExistingIds(Collection<Long> ids) {
+        return new HashSet<>(workOrderRepository.findExistingIds(ids));
+    }
+    
     @Override
     public Optional<WorkOrder> findById(Long id) {
-        return workOrderRepository.findById(id)
+        return workOrderRepository.findWithAssigneeById(id)
             .map(workOrderMapper::toDomain);
     }
     
@@ -67,4 +165,69 @@ public class WorkOrderPersistenceAdapter implements WorkOrderPort {
     public boolean existsByOrderNumber(String orderNumber) {
         return workOrderRepository.existsByOrderNumber(orderNumber);
     }
-}
\ No newline at end of file
+    
+    @Override
+    public Set<String> findExistingOrderNumbers(Collection<String> orderNumbers) {
+        return orderNumbers.isEmpty() ? Set.of() : new HashSet<>(workOrderRepository.findExistingOrderNumbers(orderNumbers));
+    }
+    
+    @Override
+    public Map<String, Long> countByStatus() {
+        return toStatusCounts(workOrderRepository.countGroupByStatus());
+    }
+    
+    @Override
+    public Map<String, Long> countByStatusCreatedBetween(LocalDateTime start, LocalDateTime end) {
+        return toStatusCounts(workOrderRepository.countGroupByStatusCreatedBetween(start, end));
+    }
+    
+    @Override
+    public long countCompletedOnTime() {
+        return workOrderRepository.countByStatusAndCompletedBeforeDueDate(WorkStatus.COMPLETED);
+    }
+    
+    private Map<String, Long> toStatusCounts(List<Object[]> rows) {
+        Map<String, Long> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            counts.put(((WorkStatus) row[0]).name(), (Long) row[1]);
+        }
+        return counts;
+    }
+    
+    @Override
+    public boolean startWork(Long id, Integer progress, LocalDateTime startedAt) {
+        return workOrderRepository.startWork(id, progress, startedAt, WorkStatus.PENDING, WorkStatus.IN_PROGRESS) == 1;
+    }
+    
+    @Override
+    public boolean completeWork(Long id, Integer actualQuantity, String notes, LocalDateTime completedAt) {
+        return workOrderRepository.completeWork(id, actualQuantity, notes, completedAt,
+            WorkStatus.IN_PROGRESS, WorkStatus.COMPLETED) == 1;
+    }
+    
+    @Override
+    public boolean updateProgress(Long id, Integer progress, LocalDateTime updatedAt) {
+        return workOrderRepository.updateProgress(id, progress, updatedAt) == 1;
+    }
+    
+    @Override
+    public boolean[] updateProgress(List<ProgressUpdate> updates) {
+        // Plain JDBC batch: two columns per row, no entity load and no dirty checking.
+        // Guarded on version rather than updated_at, whose TIMESTAMP column drops sub-second precision.
+        int[] counts = jdbcTemplate.batchUpdate(
+            "UPDATE work_orders SET progress = ?, updated_at = ?, version = version + 1 " +
+            "WHERE id = ? AND version = ?",
+            updates, updates.size(), (ps, update) -> {
+                ps.setInt(1, update.getProgress());
+                ps.setObject(2, update.getUpdatedAt());
+                ps.setLong(3, update.getWorkOrderId());
+                ps.setLong(4, update.getExpectedVersion());
+            })[0];
+        boolean[] applied = new boolean[counts.length];
+        for (int i = 0; i < counts.length; i++) {
+            // The driver may report SUCCESS_NO_INFO (-2) for rewritten batches
+            applied[i] = counts[i] == Statement.SUCCESS_NO_INFO || counts[i] > 0;
+        }
+        return applied;
+    }
+}
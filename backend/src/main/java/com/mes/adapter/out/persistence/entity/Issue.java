@@ -6,10 +6,18 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "issues")
+@Table(name = "issues", indexes = {
+    @Index(name = "idx_issues_work_order", columnList = "work_order_id"),
+    @Index(name = "idx_issues_status", columnList = "status"),
+    @Index(name = "idx_issues_reported_by", columnList = "reported_by"),
+    @Index(name = "idx_issues_created_at", columnList = "created_at DESC, id DESC")
+})
 public class Issue {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "issues_id")
+    @TableGenerator(name = "issues_id", table = PooledIds.TABLE,
+        pkColumnName = PooledIds.NAME_COLUMN, valueColumnName = PooledIds.VALUE_COLUMN,
+        pkColumnValue = "issues", allocationSize = PooledIds.ALLOCATION_SIZE)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
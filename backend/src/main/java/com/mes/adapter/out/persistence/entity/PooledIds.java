@@ -0,0 +1,19 @@
+package com.mes.adapter.out.persistence.entity;
+
+/**
+ * Shared settings for the table-backed pooled id generators.
+ *
+ * IDENTITY columns force Hibernate to execute every INSERT immediately to learn the key, which
+ * rules out JDBC batching. Entities written in bursts (work logs, issues) instead reserve
+ * {@link #ALLOCATION_SIZE} ids per round trip from {@link #TABLE}, one row per entity table.
+ */
+public final class PooledIds {
+
+    public static final String TABLE = "id_sequences";
+    public static final String NAME_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    private PooledIds() {
+    }
+}
@@ -1,13 +1,21 @@
 package com.mes.adapter.out.persistence.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = User.CACHE_REGION)
 public class User {
+    public static final String CACHE_REGION = "users";
+    public static final String QUERY_CACHE_REGION = "user-queries";
+    
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -5,10 +5,17 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "work_logs")
+@Table(name = "work_logs", indexes = {
+    @Index(name = "idx_work_logs_work_order_logged_at", columnList = "work_order_id, logged_at"),
+    @Index(name = "idx_work_logs_worker", columnList = "worker_id"),
+    @Index(name = "idx_work_logs_logged_at", columnList = "logged_at DESC, id DESC")
+})
 public class WorkLog {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "work_logs_id")
+    @TableGenerator(name = "work_logs_id", table = PooledIds.TABLE,
+        pkColumnName = PooledIds.NAME_COLUMN, valueColumnName = PooledIds.VALUE_COLUMN,
+        pkColumnValue = "work_logs", allocationSize = PooledIds.ALLOCATION_SIZE)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
@@ -8,7 +8,14 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "work_orders")
+@Table(name = "work_orders", indexes = {
+    @Index(name = "idx_work_orders_status", columnList = "status"),
+    @Index(name = "idx_work_orders_due_date", columnList = "due_date"),
+    @Index(name = "idx_work_orders_assigned_to", columnList = "assigned_to_id"),
+    @Index(name = "idx_work_orders_created_at", columnList = "created_at DESC, id DESC"),
+    // Covers the production summary GROUP BY queries (index-only range scan)
+    @Index(name = "idx_work_orders_production", columnList = "created_at, product_name, status, quantity, actual_quantity")
+})
 public class WorkOrder {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -65,6 +72,10 @@ public class WorkOrder {
     @Column(columnDefinition = "TEXT")
     private String notes;
     
+    @Version
+    @Column(nullable = false)
+    private long version;
+    
     @OneToMany(mappedBy = "workOrder", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<WorkLog> workLogs = new ArrayList<>();
     
@@ -138,4 +149,7 @@ public class WorkOrder {
     
     public String getNotes() { return notes; }
     public void setNotes(String notes) { this.notes = notes; }
+    
+    public long getVersion() { return version; }
+    public void setVersion(long version) { this.version = version; }
 }
\ No newline at end of file
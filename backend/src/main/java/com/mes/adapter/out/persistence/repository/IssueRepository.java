@@ -3,16 +3,52 @@ package com.mes.adapter.out.persistence.repository;
 import com.mes.adapter.out.persistence.entity.Issue;
 import com.mes.adapter.out.persistence.entity.enums.IssueStatus;
 import com.mes.adapter.out.persistence.entity.enums.Priority;
+import com.mes.adapter.out.persistence.repository.projection.IssueView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface IssueRepository extends JpaRepository<Issue, Long> {
+@Transactional(readOnly = true)
+public interface IssueRepository extends JpaRepository<Issue, Long>, JpaSpecificationExecutor<Issue> {
+    
+    @Override
+    @EntityGraph(attributePaths = {"workOrder", "reporter"})
+    List<Issue> findAll(Specification<Issue> spec);
+    
+    @Query("SELECT i.id AS id, w.id AS workOrderId, w.orderNumber AS workOrderNumber, " +
+           "i.title AS title, i.description AS description, i.priority AS priority, " +
+           "i.status AS status, r.id AS reporterId, r.name AS reporterName, " +
+           "i.createdAt AS createdAt, i.resolvedAt AS resolvedAt " +
+           "FROM Issue i LEFT JOIN i.workOrder w LEFT JOIN i.reporter r WHERE i.id = :id")
+    Optional<IssueView> findViewById(@Param("id") Long id);
+    
+    // Export cursor over a created_at range, in idx_issues_created_at order
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQueries.FETCH_SIZE))
+    @Query("SELECT i.id AS id, w.id AS workOrderId, w.orderNumber AS workOrderNumber, " +
+           "i.title AS title, i.description AS description, i.priority AS priority, " +
+           "i.status AS status, r.id AS reporterId, r.name AS reporterName, " +
+           "i.createdAt AS createdAt, i.resolvedAt AS resolvedAt " +
+           "FROM Issue i LEFT JOIN i.workOrder w LEFT JOIN i.reporter r " +
+           "WHERE i.createdAt >= :start AND i.createdAt < :end ORDER BY i.createdAt, i.id")
+    Stream<IssueView> streamViewsCreatedBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+    
+    @EntityGraph(attributePaths = "reporter")
+    List<Issue> findAllByOrderByCreatedAtDescIdDesc(Limit limit);
     
     List<Issue> findByWorkOrderId(Long workOrderId);
     
@@ -40,4 +76,7 @@ public interface IssueRepository extends JpaRepository<Issue, Long> {
     
     @Query("SELECT i FROM Issue i WHERE i.status = :openStatus ORDER BY i.priority DESC, i.createdAt ASC")
     List<Issue> findOpenIssuesOrderedByPriority(@Param("openStatus") IssueStatus openStatus);
+    
+    @Query("SELECT i.status, COUNT(i) FROM Issue i GROUP BY i.status")
+    List<Object[]> countGroupByStatus();
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.mes.adapter.out.persistence.repository;
+
+/**
+ * Settings shared by the {@code Stream}-returning export queries.
+ *
+ * A stream query holds one forward-only result set open and hands rows out as it reads them.
+ * The fetch size bounds how many rows the driver buffers per round trip; with MySQL this needs
+ * {@code useCursorFetch=true} on the connection URL, otherwise Connector/J reads the whole
+ * result into memory before the first row is returned. Export queries select column
+ * projections, never entities, so nothing accumulates in the persistence context either.
+ */
+public final class StreamingQueries {
+
+    public static final String FETCH_SIZE = "1000";
+
+    private StreamingQueries() {
+    }
+}
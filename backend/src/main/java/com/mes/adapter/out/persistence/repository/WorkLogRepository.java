@@ -2,16 +2,31 @@ package com.mes.adapter.out.persistence.repository;
 
 import com.mes.adapter.out.persistence.entity.WorkLog;
 import com.mes.adapter.out.persistence.entity.enums.LogAction;
+import com.mes.adapter.out.persistence.repository.projection.WorkLogView;
+import com.mes.adapter.out.persistence.repository.specification.WorkLogQuery;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface WorkLogRepository extends JpaRepository<WorkLog, Long> {
+@Transactional(readOnly = true)
+public interface WorkLogRepository extends JpaRepository<WorkLog, Long>, JpaSpecificationExecutor<WorkLog> {
+    
+    @EntityGraph(attributePaths = {"workOrder", "worker"})
+    List<WorkLog> findAllByOrderByLoggedAtDescIdDesc(Limit limit);
     
     List<WorkLog> findByWorkOrderId(Long workOrderId);
     
@@ -19,6 +34,22 @@ public interface WorkLogRepository extends JpaRepository<WorkLog, Long> {
     
     List<WorkLog> findByAction(LogAction action);
     
+    @Query("SELECT l.id AS id, w.id AS workOrderId, w.orderNumber AS workOrderNumber, " +
+           "u.id AS workerId, u.name AS workerName, l.action AS action, l.notes AS notes, " +
+           "l.progress AS progress, l.createdAt AS createdAt, l.loggedAt AS loggedAt " +
+           "FROM WorkLog l LEFT JOIN l.workOrder w LEFT JOIN l.worker u WHERE l.id = :id")
+    Optional<WorkLogView> findViewById(@Param("id") Long id);
+    
+    // Export cursor over a logged_at range, in idx_work_logs_logged_at order
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQueries.FETCH_SIZE))
+    @Query("SELECT l.id AS id, w.id AS workOrderId, w.orderNumber AS workOrderNumber, " +
+           "u.id AS workerId, u.name AS workerName, l.action AS action, l.notes AS notes, " +
+           "l.progress AS progress, l.createdAt AS createdAt, l.loggedAt AS loggedAt " +
+           "FROM WorkLog l LEFT JOIN l.workOrder w LEFT JOIN l.worker u " +
+           "WHERE l.loggedAt >= :start AND l.loggedAt < :end ORDER BY l.loggedAt, l.id")
+    Stream<WorkLogView> streamViewsLoggedBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+    
+    @EntityGraph(attributePaths = {"workOrder", "worker"})
     @Query("SELECT w FROM WorkLog w WHERE w.workOrder.id = :workOrderId ORDER BY w.createdAt DESC")
     List<WorkLog> findByWorkOrderIdOrderByCreatedAtDesc(@Param("workOrderId") Long workOrderId);
     
@@ -30,4 +61,11 @@ public interface WorkLogRepository extends JpaRepository<WorkLog, Long> {
     @Query("SELECT w FROM WorkLog w WHERE w.workOrder.id = :workOrderId AND w.action = :action")
     List<WorkLog> findByWorkOrderIdAndAction(@Param("workOrderId") Long workOrderId, 
                                              @Param("action") LogAction action);
+    
+    default List<WorkLog> findPage(WorkLogQuery query, int limit) {
+        return findBy(query.toSpecification(), q -> q
+            .sortBy(WorkLogQuery.KEYSET_SORT)
+            .limit(limit)
+            .all());
+    }
 }
\ No newline at end of file
@@ -2,20 +2,95 @@ package com.mes.adapter.out.persistence.repository;
 
 import com.mes.adapter.out.persistence.entity.WorkOrder;
 import com.mes.adapter.out.persistence.entity.enums.WorkStatus;
+import com.mes.adapter.out.persistence.repository.projection.DailyProductionTotals;
+import com.mes.adapter.out.persistence.repository.projection.ProductProductionTotals;
+import com.mes.adapter.out.persistence.repository.projection.WorkOrderView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+// Declared finders run read-only (replica-eligible) like the inherited CRUD reads
 @Repository
-public interface WorkOrderRepository extends JpaRepository<WorkOrder, Long> {
+@Transactional(readOnly = true)
+public interface WorkOrderRepository extends JpaRepository<WorkOrder, Long>, JpaSpecificationExecutor<WorkOrder> {
     
     Optional<WorkOrder> findByOrderNumber(String orderNumber);
     
+    @EntityGraph(attributePaths = "assignedTo")
+    Optional<WorkOrder> findWithAssigneeById(Long id);
+    
+    @Query("SELECT w.id FROM WorkOrder w WHERE w.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+    
+    @Query("SELECT w.orderNumber FROM WorkOrder w WHERE w.orderNumber IN :orderNumbers")
+    List<String> findExistingOrderNumbers(@Param("orderNumbers") Collection<String> orderNumbers);
+    
+    @Query("SELECT w.id AS id, w.orderNumber AS orderNumber, w.productName AS productName, " +
+           "w.productCode AS productCode, w.quantity AS quantity, w.dueDate AS dueDate, " +
+           "w.priority AS priority, w.status AS status, w.instructions AS instructions, " +
+           "w.progress AS progress, a.id AS assignedToId, a.name AS assignedToName, " +
+           "w.startedAt AS startedAt, w.completedAt AS completedAt, " +
+           "w.createdAt AS createdAt, w.updatedAt AS updatedAt, " +
+           "w.actualQuantity AS actualQuantity, w.notes AS notes, w.version AS version " +
+           "FROM WorkOrder w LEFT JOIN w.assignedTo a WHERE w.id = :id")
+    Optional<WorkOrderView> findViewById(@Param("id") Long id);
+    
+    // Export cursor over a created_at range, in idx_work_orders_created_at order
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = StreamingQueries.FETCH_SIZE))
+    @Query("SELECT w.id AS id, w.orderNumber AS orderNumber, w.productName AS productName, " +
+           "w.productCode AS productCode, w.quantity AS quantity, w.dueDate AS dueDate, " +
+           "w.priority AS priority, w.status AS status, w.instructions AS instructions, " +
+           "w.progress AS progress, a.id AS assignedToId, a.name AS assignedToName, " +
+           "w.startedAt AS startedAt, w.completedAt AS completedAt, " +
+           "w.createdAt AS createdAt, w.updatedAt AS updatedAt, " +
+           "w.actualQuantity AS actualQuantity, w.notes AS notes, w.version AS version " +
+           "FROM WorkOrder w LEFT JOIN w.assignedTo a " +
+           "WHERE w.createdAt >= :start AND w.createdAt < :end ORDER BY w.createdAt, w.id")
+    Stream<WorkOrderView> streamViewsCreatedBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+    
+    // Guarded state transitions: one UPDATE each, matching 0 rows when the order is missing or
+    // not in the expected status. Bulk updates skip @PreUpdate/@Version, so both are set here.
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE WorkOrder w SET w.status = :started, w.startedAt = :now, w.updatedAt = :now, " +
+           "w.progress = COALESCE(:progress, w.progress), w.version = w.version + 1 " +
+           "WHERE w.id = :id AND w.status = :pending")
+    int startWork(@Param("id") Long id, @Param("progress") Integer progress, @Param("now") LocalDateTime now,
+                  @Param("pending") WorkStatus pending, @Param("started") WorkStatus started);
+    
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE WorkOrder w SET w.status = :completed, w.progress = 100, w.completedAt = :now, w.updatedAt = :now, " +
+           "w.actualQuantity = COALESCE(:actualQuantity, w.actualQuantity), w.notes = COALESCE(:notes, w.notes), " +
+           "w.version = w.version + 1 " +
+           "WHERE w.id = :id AND w.status = :inProgress")
+    int completeWork(@Param("id") Long id, @Param("actualQuantity") Integer actualQuantity, @Param("notes") String notes,
+                     @Param("now") LocalDateTime now,
+                     @Param("inProgress") WorkStatus inProgress, @Param("completed") WorkStatus completed);
+    
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE WorkOrder w SET w.progress = :progress, w.updatedAt = :now, w.version = w.version + 1 WHERE w.id = :id")
+    int updateProgress(@Param("id") Long id, @Param("progress") Integer progress, @Param("now") LocalDateTime now);
+    
+    // Newest first; served by a bounded scan of idx_work_orders_created_at
+    List<WorkOrder> findAllByOrderByCreatedAtDescIdDesc(Limit limit);
+    
     List<WorkOrder> findByStatus(WorkStatus status);
     
     List<WorkOrder> findByAssignedToId(Long userId);
@@ -34,4 +109,32 @@ public interface WorkOrderRepository extends JpaRepository<WorkOrder, Long> {
     long countByStatus(@Param("status") WorkStatus status);
     
     List<WorkOrder> findByCreatedAtBetween(LocalDateTime startDate, LocalDateTime endDate);
-}
\ No newline at end of file
+    
+    @Query("SELECT w.status, COUNT(w) FROM WorkOrder w GROUP BY w.status")
+    List<Object[]> countGroupByStatus();
+    
+    @Query("SELECT COUNT(w) FROM WorkOrder w WHERE w.status = :status AND w.completedAt < w.dueDate")
+    long countByStatusAndCompletedBeforeDueDate(@Param("status") WorkStatus status);
+    
+    @Query("SELECT w.status, COUNT(w) FROM WorkOrder w WHERE w.createdAt >= :startDate AND w.createdAt < :endDate GROUP BY w.status")
+    List<Object[]> countGroupByStatusCreatedBetween(@Param("startDate") LocalDateTime startDate, 
+                                                    @Param("endDate") LocalDateTime endDate);
+    
+    @Query("SELECT w.productName AS productName, SUM(w.quantity) AS ordered, " +
+           "SUM(CASE WHEN w.status = :completedStatus " +
+           "THEN COALESCE(w.actualQuantity, w.quantity) ELSE 0 END) AS produced " +
+           "FROM WorkOrder w WHERE w.createdAt >= :startDate AND w.createdAt < :endDate " +
+           "GROUP BY w.productName ORDER BY w.productName")
+    List<ProductProductionTotals> sumProductionByProduct(@Param("startDate") LocalDateTime startDate, 
+                                                         @Param("endDate") LocalDateTime endDate,
+                                                         @Param("completedStatus") WorkStatus completedStatus);
+    
+    @Query("SELECT CAST(w.createdAt AS LocalDate) AS date, SUM(w.quantity) AS ordered, " +
+           "SUM(CASE WHEN w.status = :completedStatus " +
+           "THEN COALESCE(w.actualQuantity, w.quantity) ELSE 0 END) AS produced " +
+           "FROM WorkOrder w WHERE w.createdAt >= :startDate AND w.createdAt < :endDate " +
+           "GROUP BY CAST(w.createdAt AS LocalDate) ORDER BY CAST(w.createdAt AS LocalDate)")
+    List<DailyProductionTotals> sumProductionByDay(@Param("startDate") LocalDateTime startDate, 
+                                                   @Param("endDate") LocalDateTime endDate,
+                                                   @Param("completedStatus") WorkStatus completedStatus);
+}
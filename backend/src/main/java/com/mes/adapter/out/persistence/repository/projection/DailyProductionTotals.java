@@ -0,0 +1,7 @@
+package com.mes.adapter.out.persistence.repository.projection;
+
+import java.time.LocalDate;
+
+public interface DailyProductionTotals extends ProductionTotals {
+    LocalDate getDate();
+}
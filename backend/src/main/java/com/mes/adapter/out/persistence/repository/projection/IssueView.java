@@ -0,0 +1,23 @@
+package com.mes.adapter.out.persistence.repository.projection;
+
+import com.mes.adapter.out.persistence.entity.enums.IssueStatus;
+import com.mes.adapter.out.persistence.entity.enums.Priority;
+
+import java.time.LocalDateTime;
+
+/**
+ * Column-level read model for an issue with its work order number and reporter name.
+ */
+public interface IssueView {
+    Long getId();
+    Long getWorkOrderId();
+    String getWorkOrderNumber();
+    String getTitle();
+    String getDescription();
+    Priority getPriority();
+    IssueStatus getStatus();
+    Long getReporterId();
+    String getReporterName();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getResolvedAt();
+}
@@ -0,0 +1,5 @@
+package com.mes.adapter.out.persistence.repository.projection;
+
+public interface ProductProductionTotals extends ProductionTotals {
+    String getProductName();
+}
@@ -0,0 +1,10 @@
+package com.mes.adapter.out.persistence.repository.projection;
+
+/**
+ * Ordered vs. produced quantity for one group of the production summary. Produced counts
+ * only completed orders, using the actual quantity when one was recorded.
+ */
+public interface ProductionTotals {
+    Long getOrdered();
+    Long getProduced();
+}
@@ -0,0 +1,21 @@
+package com.mes.adapter.out.persistence.repository.projection;
+
+import com.mes.adapter.out.persistence.entity.enums.LogAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * Column-level read model for a work log with its work order number and worker name.
+ */
+public interface WorkLogView {
+    Long getId();
+    Long getWorkOrderId();
+    String getWorkOrderNumber();
+    Long getWorkerId();
+    String getWorkerName();
+    LogAction getAction();
+    String getNotes();
+    Integer getProgress();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getLoggedAt();
+}
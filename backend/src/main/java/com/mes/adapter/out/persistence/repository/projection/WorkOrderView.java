@@ -0,0 +1,32 @@
+package com.mes.adapter.out.persistence.repository.projection;
+
+import com.mes.adapter.out.persistence.entity.enums.Priority;
+import com.mes.adapter.out.persistence.entity.enums.WorkStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Column-level read model for a work order and its assignee's name. Backed by a tuple query,
+ * so no managed entity is hydrated or snapshotted for dirty checking.
+ */
+public interface WorkOrderView {
+    Long getId();
+    String getOrderNumber();
+    String getProductName();
+    String getProductCode();
+    Integer getQuantity();
+    LocalDateTime getDueDate();
+    Priority getPriority();
+    WorkStatus getStatus();
+    String getInstructions();
+    Integer getProgress();
+    Long getAssignedToId();
+    String getAssignedToName();
+    LocalDateTime getStartedAt();
+    LocalDateTime getCompletedAt();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+    Integer getActualQuantity();
+    String getNotes();
+    Long getVersion();
+}
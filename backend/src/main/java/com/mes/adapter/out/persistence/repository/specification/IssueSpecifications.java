@@ -0,0 +1,44 @@
+package com.mes.adapter.out.persistence.repository.specification;
+
+import com.mes.adapter.out.persistence.entity.Issue;
+import com.mes.adapter.out.persistence.entity.enums.IssueStatus;
+import com.mes.adapter.out.persistence.entity.enums.Priority;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Dynamic predicates for issue list queries; {@code null} means "no filter".
+ */
+public final class IssueSpecifications {
+    
+    private IssueSpecifications() {}
+    
+    public static Specification<Issue> hasStatus(String status) {
+        if (status == null) {
+            return null;
+        }
+        IssueStatus issueStatus = IssueStatus.valueOf(status);
+        return (root, query, cb) -> cb.equal(root.get("status"), issueStatus);
+    }
+    
+    public static Specification<Issue> hasPriority(String priority) {
+        if (priority == null) {
+            return null;
+        }
+        Priority issuePriority = Priority.valueOf(priority);
+        return (root, query, cb) -> cb.equal(root.get("priority"), issuePriority);
+    }
+    
+    public static Specification<Issue> hasType(String type) {
+        if (type == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("type"), type);
+    }
+    
+    public static Specification<Issue> reportedBy(Long userId) {
+        if (userId == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("reporter").get("id"), userId);
+    }
+}
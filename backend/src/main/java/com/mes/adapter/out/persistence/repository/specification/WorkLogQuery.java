@@ -0,0 +1,102 @@
+package com.mes.adapter.out.persistence.repository.specification;
+
+import com.mes.adapter.out.persistence.entity.WorkLog;
+import com.mes.adapter.out.persistence.entity.enums.LogAction;
+import com.mes.common.dto.page.KeysetCursor;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Composable filter for work log listings. Every filter that is set becomes a predicate of a
+ * single SQL query ordered by (logged_at DESC, id DESC), which the (work_order_id, logged_at)
+ * and (logged_at, id) indexes serve directly. The work order and worker are fetch-joined so
+ * mapping the page to DTOs does not issue one SELECT per row.
+ */
+public class WorkLogQuery {
+
+    public static final Sort KEYSET_SORT = Sort.by(Sort.Direction.DESC, "loggedAt")
+        .and(Sort.by(Sort.Direction.DESC, "id"));
+
+    private Long workOrderId;
+    private Long workerId;
+    private LogAction action;
+    private LocalDateTime loggedFrom;
+    private LocalDateTime loggedBefore;
+    private KeysetCursor cursor;
+
+    public WorkLogQuery workOrder(Long workOrderId) {
+        this.workOrderId = workOrderId;
+        return this;
+    }
+
+    public WorkLogQuery worker(Long workerId) {
+        this.workerId = workerId;
+        return this;
+    }
+
+    public WorkLogQuery action(String action) {
+        this.action = action != null ? LogAction.valueOf(action) : null;
+        return this;
+    }
+
+    /** Inclusive start day. */
+    public WorkLogQuery from(LocalDate startDate) {
+        this.loggedFrom = startDate != null ? startDate.atStartOfDay() : null;
+        return this;
+    }
+
+    /** Inclusive end day, translated to an exclusive bound at the next midnight. */
+    public WorkLogQuery to(LocalDate endDate) {
+        this.loggedBefore = endDate != null ? endDate.plusDays(1).atStartOfDay() : null;
+        return this;
+    }
+
+    public WorkLogQuery after(KeysetCursor cursor) {
+        this.cursor = cursor;
+        return this;
+    }
+
+    public Specification<WorkLog> toSpecification() {
+        return (root, query, cb) -> {
+            Class<?> resultType = query.getResultType();
+            if (resultType != Long.class && resultType != long.class) {
+                root.fetch("workOrder", JoinType.LEFT);
+                root.fetch("worker", JoinType.LEFT);
+            }
+
+            List<Predicate> predicates = new ArrayList<>();
+            if (workOrderId != null) {
+                predicates.add(cb.equal(root.get("workOrder").get("id"), workOrderId));
+            }
+            if (workerId != null) {
+                predicates.add(cb.equal(root.get("worker").get("id"), workerId));
+            }
+            if (action != null) {
+                predicates.add(cb.equal(root.get("action"), action));
+            }
+            if (loggedFrom != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("loggedAt"), loggedFrom));
+            }
+            if (loggedBefore != null) {
+                predicates.add(cb.lessThan(root.get("loggedAt"), loggedBefore));
+            }
+            if (cursor != null) {
+                predicates.add(cb.or(
+                    cb.lessThan(root.get("loggedAt"), cursor.getTimestamp()),
+                    cb.and(
+                        cb.equal(root.get("loggedAt"), cursor.getTimestamp()),
+                        cb.lessThan(root.get("id"), cursor.getId())
+                    )
+                ));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+}
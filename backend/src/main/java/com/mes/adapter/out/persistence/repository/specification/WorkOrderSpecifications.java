@@ -0,0 +1,57 @@
+package com.mes.adapter.out.persistence.repository.specification;
+
+import com.mes.adapter.out.persistence.entity.WorkOrder;
+import com.mes.adapter.out.persistence.entity.enums.Priority;
+import com.mes.adapter.out.persistence.entity.enums.WorkStatus;
+import com.mes.common.dto.page.KeysetCursor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Dynamic predicates for work order list queries. Each factory returns {@code null} when its
+ * filter is absent, which {@link Specification#allOf} skips, so only supplied filters reach SQL.
+ */
+public final class WorkOrderSpecifications {
+    
+    /** Keyset order matching the (created_at, id) index. */
+    public static final Sort KEYSET_SORT = Sort.by(Sort.Direction.DESC, "createdAt")
+        .and(Sort.by(Sort.Direction.DESC, "id"));
+    
+    private WorkOrderSpecifications() {}
+    
+    public static Specification<WorkOrder> hasStatus(String status) {
+        if (status == null) {
+            return null;
+        }
+        WorkStatus workStatus = WorkStatus.valueOf(status);
+        return (root, query, cb) -> cb.equal(root.get("status"), workStatus);
+    }
+    
+    public static Specification<WorkOrder> hasPriority(String priority) {
+        if (priority == null) {
+            return null;
+        }
+        Priority workPriority = Priority.valueOf(priority);
+        return (root, query, cb) -> cb.equal(root.get("priority"), workPriority);
+    }
+    
+    public static Specification<WorkOrder> assignedTo(Long userId) {
+        if (userId == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("assignedTo").get("id"), userId);
+    }
+    
+    public static Specification<WorkOrder> after(KeysetCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.or(
+            cb.lessThan(root.get("createdAt"), cursor.getTimestamp()),
+            cb.and(
+                cb.equal(root.get("createdAt"), cursor.getTimestamp()),
+                cb.lessThan(root.get("id"), cursor.getId())
+            )
+        );
+    }
+}
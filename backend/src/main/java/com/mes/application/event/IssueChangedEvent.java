@@ -0,0 +1,58 @@
+package com.mes.application.event;
+
+import com.mes.domain.model.Issue;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published by {@code IssueService} on every issue lifecycle change. Like
+ * {@link WorkOrderChangedEvent}, {@code previous}/{@code current} are detached copies.
+ */
+public class IssueChangedEvent {
+    
+    public enum Type {
+        CREATED,
+        UPDATED,
+        RESOLVED,
+        CLOSED,
+        DELETED
+    }
+    
+    private final Type type;
+    private final Long issueId;
+    private final Issue previous;
+    private final Issue current;
+    private final LocalDateTime occurredAt;
+    
+    public IssueChangedEvent(Type type, Long issueId, Issue previous, Issue current) {
+        this.type = type;
+        this.issueId = issueId;
+        this.previous = snapshot(previous);
+        this.current = snapshot(current);
+        this.occurredAt = LocalDateTime.now();
+    }
+    
+    public static Issue snapshot(Issue source) {
+        if (source == null) {
+            return null;
+        }
+        
+        Issue copy = new Issue();
+        copy.setId(source.getId());
+        copy.setWorkOrderId(source.getWorkOrderId());
+        copy.setTitle(source.getTitle());
+        copy.setDescription(source.getDescription());
+        copy.setPriority(source.getPriority());
+        copy.setStatus(source.getStatus());
+        copy.setReporterId(source.getReporterId());
+        copy.setCreatedAt(source.getCreatedAt());
+        copy.setResolvedAt(source.getResolvedAt());
+        return copy;
+    }
+    
+    public Type getType() { return type; }
+    public Long getIssueId() { return issueId; }
+    public Issue getPrevious() { return previous; }
+    public Issue getCurrent() { return current; }
+    public LocalDateTime getOccurredAt() { return occurredAt; }
+}
@@ -0,0 +1,32 @@
+package com.mes.application.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published by {@code UserService} when an account is updated or deleted, so anything that
+ * caches a user's identity (role, active flag, credentials) can drop its copy.
+ */
+public class UserChangedEvent {
+    
+    public enum Type {
+        UPDATED,
+        DELETED
+    }
+    
+    private final Type type;
+    private final Long userId;
+    private final String email;
+    private final LocalDateTime occurredAt;
+    
+    public UserChangedEvent(Type type, Long userId, String email) {
+        this.type = type;
+        this.userId = userId;
+        this.email = email;
+        this.occurredAt = LocalDateTime.now();
+    }
+    
+    public Type getType() { return type; }
+    public Long getUserId() { return userId; }
+    public String getEmail() { return email; }
+    public LocalDateTime getOccurredAt() { return occurredAt; }
+}
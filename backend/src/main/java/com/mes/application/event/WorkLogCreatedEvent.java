@@ -0,0 +1,22 @@
+package com.mes.application.event;
+
+import com.mes.domain.model.WorkLog;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published by {@code WorkLogService} when a work log entry is recorded.
+ */
+public class WorkLogCreatedEvent {
+    
+    private final WorkLog workLog;
+    private final LocalDateTime occurredAt;
+    
+    public WorkLogCreatedEvent(WorkLog workLog) {
+        this.workLog = workLog;
+        this.occurredAt = LocalDateTime.now();
+    }
+    
+    public WorkLog getWorkLog() { return workLog; }
+    public LocalDateTime getOccurredAt() { return occurredAt; }
+}
@@ -0,0 +1,78 @@
+package com.mes.application.event;
+
+import com.mes.domain.model.WorkOrder;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published by {@code WorkOrderService} whenever a work order is created, transitioned,
+ * updated or deleted. {@code previous} and {@code current} are detached copies so listeners
+ * running after commit see the exact before/after state ({@code null} for create/delete).
+ */
+public class WorkOrderChangedEvent {
+    
+    public enum Type {
+        CREATED,
+        UPDATED,
+        STARTED,
+        COMPLETED,
+        PROGRESS_UPDATED,
+        DELETED
+    }
+    
+    private final Type type;
+    private final Long workOrderId;
+    private final WorkOrder previous;
+    private final WorkOrder current;
+    private final LocalDateTime occurredAt;
+    
+    public WorkOrderChangedEvent(Type type, Long workOrderId, WorkOrder previous, WorkOrder current) {
+        this.type = type;
+        this.workOrderId = workOrderId;
+        this.previous = snapshot(previous);
+        this.current = snapshot(current);
+        this.occurredAt = LocalDateTime.now();
+    }
+    
+    public static WorkOrderChangedEvent created(WorkOrder current) {
+        return new WorkOrderChangedEvent(Type.CREATED, current.getId(), null, current);
+    }
+    
+    public static WorkOrderChangedEvent deleted(WorkOrder previous) {
+        return new WorkOrderChangedEvent(Type.DELETED, previous.getId(), previous, null);
+    }
+    
+    public static WorkOrder snapshot(WorkOrder source) {
+        if (source == null) {
+            return null;
+        }
+        
+        WorkOrder copy = new WorkOrder();
+        copy.setId(source.getId());
+        copy.setOrderNumber(source.getOrderNumber());
+        copy.setProductName(source.getProductName());
+        copy.setProductCode(source.getProductCode());
+        copy.setQuantity(source.getQuantity());
+        copy.setDueDate(source.getDueDate());
+        copy.setPriority(source.getPriority());
+        copy.setStatus(source.getStatus());
+        copy.setInstructions(source.getInstructions());
+        copy.setProgress(source.getProgress());
+        copy.setAssignedToId(source.getAssignedToId());
+        copy.setAssignedToName(source.getAssignedToName());
+        copy.setStartedAt(source.getStartedAt());
+        copy.setCompletedAt(source.getCompletedAt());
+        copy.setCreatedAt(source.getCreatedAt());
+        copy.setUpdatedAt(source.getUpdatedAt());
+        copy.setActualQuantity(source.getActualQuantity());
+        copy.setNotes(source.getNotes());
+        copy.setVersion(source.getVersion());
+        return copy;
+    }
+    
+    public Type getType() { return type; }
+    public Long getWorkOrderId() { return workOrderId; }
+    public WorkOrder getPrevious() { return previous; }
+    public WorkOrder getCurrent() { return current; }
+    public LocalDateTime getOccurredAt() { return occurredAt; }
+}
@@ -0,0 +1,25 @@
+package com.mes.application.event;
+
+import com.mes.domain.model.WorkOrder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Published by {@code WorkOrderService} once per committed import chunk, in place of one
+ * {@link WorkOrderChangedEvent} per created order. {@code created} holds the orders as inserted;
+ * the service builds them for the chunk and does not touch them afterwards.
+ */
+public class WorkOrdersImportedEvent {
+
+    private final List<WorkOrder> created;
+    private final LocalDateTime occurredAt;
+
+    public WorkOrdersImportedEvent(List<WorkOrder> created) {
+        this.created = List.copyOf(created);
+        this.occurredAt = LocalDateTime.now();
+    }
+
+    public List<WorkOrder> getCreated() { return created; }
+    public LocalDateTime getOccurredAt() { return occurredAt; }
+}
@@ -6,5 +6,5 @@ import com.mes.common.dto.auth.LoginResponseDto;
 public interface AuthUseCase {
     LoginResponseDto login(LoginRequestDto loginRequest);
     LoginResponseDto refreshToken(String refreshToken);
-    void logout(String email);
+    void logout(String accessToken, String refreshToken);
 }
\ No newline at end of file
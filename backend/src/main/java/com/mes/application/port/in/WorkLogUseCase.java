@@ -5,6 +5,7 @@ import java.util.List;
 
 public interface WorkLogUseCase {
     WorkLog createWorkLog(CreateWorkLogCommand command);
+    List<WorkLog> createWorkLogs(List<CreateWorkLogCommand> commands);
     List<WorkLog> findByWorkOrderId(Long workOrderId);
     List<WorkLog> findByWorkerId(Long workerId);
     
@@ -7,6 +7,7 @@ import java.util.Optional;
 
 public interface WorkOrderUseCase {
     WorkOrder createWorkOrder(CreateWorkOrderCommand command);
+    List<ImportResult> importWorkOrders(List<CreateWorkOrderCommand> commands);
     Optional<WorkOrder> findWorkOrderById(Long id);
     List<WorkOrder> findAllWorkOrders();
     List<WorkOrder> findWorkOrdersByStatus(String status);
@@ -14,7 +15,7 @@ public interface WorkOrderUseCase {
     WorkOrder updateWorkOrder(Long id, UpdateWorkOrderCommand command);
     void deleteWorkOrder(Long id);
     void startWork(Long workOrderId);
-    void completeWork(Long workOrderId);
+    void completeWork(Long workOrderId, Integer actualQuantity, String notes);
     void updateProgress(Long workOrderId, Integer progress);
     
     class CreateWorkOrderCommand {
@@ -59,6 +60,7 @@ public interface WorkOrderUseCase {
         private String priority;
         private String instructions;
         private Long assignedToId;
+        private Long version;
         
         public String getProductName() { return productName; }
         public void setProductName(String productName) { this.productName = productName; }
@@ -77,5 +79,37 @@ public interface WorkOrderUseCase {
         
         public Long getAssignedToId() { return assignedToId; }
         public void setAssignedToId(Long assignedToId) { this.assignedToId = assignedToId; }
+        
+        /** Version the client last read; when set, the update fails if the order changed since. */
+        public Long getVersion() { return version; }
+        public void setVersion(Long version) { this.version = version; }
+    }
+    
+    /**
+     * Outcome of one imported row: the new id when created, otherwise the reason it was rejected.
+     */
+    class ImportResult {
+        private final String orderNumber;
+        private final Long id;
+        private final String error;
+        
+        private ImportResult(String orderNumber, Long id, String error) {
+            this.orderNumber = orderNumber;
+            this.id = id;
+            this.error = error;
+        }
+        
+        public static ImportResult created(WorkOrder workOrder) {
+            return new ImportResult(workOrder.getOrderNumber(), workOrder.getId(), null);
+        }
+        
+        public static ImportResult rejected(String orderNumber, String error) {
+            return new ImportResult(orderNumber, null, error);
+        }
+        
+        public boolean isCreated() { return id != null; }
+        public String getOrderNumber() { return orderNumber; }
+        public Long getId() { return id; }
+        public String getError() { return error; }
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package com.mes.application.port.out;
 
 import com.mes.domain.model.Issue;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface IssuePort {
@@ -12,4 +13,5 @@ public interface IssuePort {
     List<Issue> findByStatus(String status);
     List<Issue> findByReporterId(Long reporterId);
     void deleteById(Long id);
+    Map<String, Long> countByStatus();
 }
\ No newline at end of file
@@ -1,8 +1,10 @@
 package com.mes.application.port.out;
 
 import com.mes.domain.model.User;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface UserPort {
     User save(User user);
@@ -11,4 +13,5 @@ public interface UserPort {
     List<User> findAll();
     void deleteById(Long id);
     boolean existsByEmail(String email);
+    Set<Long> findExistingIds(Collection<Long> ids);
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import java.util.List;
 
 public interface WorkLogPort {
     WorkLog save(WorkLog workLog);
+    List<WorkLog> saveAll(List<WorkLog> workLogs);
     List<WorkLog> findByWorkOrderId(Long workOrderId);
     List<WorkLog> findByWorkerId(Long workerId);
 }
\ No newline at end of file
@@ -1,15 +1,55 @@
 package com.mes.application.port.out;
 
 import com.mes.domain.model.WorkOrder;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 public interface WorkOrderPort {
     WorkOrder save(WorkOrder workOrder);
+    List<WorkOrder> insertAll(List<WorkOrder> workOrders);
     Optional<WorkOrder> findById(Long id);
     List<WorkOrder> findAll();
+    boolean existsById(Long id);
+    Set<Long> findExistingIds(Collection<Long> ids);
     List<WorkOrder> findByStatus(String status);
     List<WorkOrder> findByAssignedToId(Long userId);
     void deleteById(Long id);
     boolean existsByOrderNumber(String orderNumber);
-}
\ No newline at end of file
+    Set<String> findExistingOrderNumbers(Collection<String> orderNumbers);
+    Map<String, Long> countByStatus();
+    Map<String, Long> countByStatusCreatedBetween(LocalDateTime start, LocalDateTime end);
+    long countCompletedOnTime();
+    boolean startWork(Long id, Integer progress, LocalDateTime startedAt);
+    boolean completeWork(Long id, Integer actualQuantity, String notes, LocalDateTime completedAt);
+    boolean updateProgress(Long id, Integer progress, LocalDateTime updatedAt);
+    /** Applies the updates in one batch; the result holds, per update, whether its row was written. */
+    boolean[] updateProgress(List<ProgressUpdate> updates);
+    
+    /**
+     * A buffered progress value. Applied only if the row is still at {@code expectedVersion}, the
+     * version read when the tick was accepted, so a late flush never overwrites a newer state
+     * transition.
+     */
+    class ProgressUpdate {
+        private final Long workOrderId;
+        private final Integer progress;
+        private final LocalDateTime updatedAt;
+        private final Long expectedVersion;
+        
+        public ProgressUpdate(Long workOrderId, Integer progress, LocalDateTime updatedAt, Long expectedVersion) {
+            this.workOrderId = workOrderId;
+            this.progress = progress;
+            this.updatedAt = updatedAt;
+            this.expectedVersion = expectedVersion;
+        }
+        
+        public Long getWorkOrderId() { return workOrderId; }
+        public Integer getProgress() { return progress; }
+        public LocalDateTime getUpdatedAt() { return updatedAt; }
+        public Long getExpectedVersion() { return expectedVersion; }
+    }
+}
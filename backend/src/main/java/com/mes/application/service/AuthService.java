@@ -2,17 +2,21 @@ package com.mes.application.service;
 
 import com.mes.adapter.in.web.security.CustomUserDetailsService;
 import com.mes.adapter.in.web.security.JwtTokenProvider;
+import com.mes.adapter.in.web.security.PasswordHashingExecutor;
+import com.mes.adapter.in.web.security.TokenRevocationList;
 import com.mes.adapter.out.persistence.entity.User;
 import com.mes.adapter.out.persistence.repository.UserRepository;
 import com.mes.application.port.in.AuthUseCase;
 import com.mes.common.dto.auth.LoginRequestDto;
 import com.mes.common.dto.auth.LoginResponseDto;
+import io.jsonwebtoken.Claims;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -22,63 +26,46 @@ public class AuthService implements AuthUseCase {
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider tokenProvider;
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashing;
+    private final TokenRevocationList revocations;
     
     public AuthService(AuthenticationManager authenticationManager,
                       JwtTokenProvider tokenProvider,
                       UserRepository userRepository,
-                      PasswordEncoder passwordEncoder) {
+                      PasswordHashingExecutor passwordHashing,
+                      TokenRevocationList revocations) {
         this.authenticationManager = authenticationManager;
         this.tokenProvider = tokenProvider;
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHashing = passwordHashing;
+        this.revocations = revocations;
     }
     
+    /**
+     * Authenticates through the configured provider, which loads the account once (from the
+     * principal cache when warm), verifies the BCrypt hash once, hashes a dummy password for
+     * unknown emails so they take as long as wrong passwords, and rehashes on success when the
+     * stored cost differs from the configured one. The hashing runs on {@link PasswordHashingExecutor}.
+     *
+     * No transaction here: waiting for the hashing pool must not hold a database connection.
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public LoginResponseDto login(LoginRequestDto loginRequest) {
-        System.out.println("=== AuthService Login Debug ===");
-        System.out.println("Email received: " + loginRequest.getEmail());
-        System.out.println("Password received (length): " + loginRequest.getPassword().length());
-        
-        // DB에서 사용자 조회
-        User user = userRepository.findByEmail(loginRequest.getEmail())
-            .orElse(null);
-        
-        if (user == null) {
-            System.out.println("User not found in database!");
-        } else {
-            System.out.println("User found: " + user.getEmail());
-            System.out.println("User active: " + user.getIsActive());
-            System.out.println("Stored password hash: " + user.getPassword());
-            
-            // 비밀번호 직접 검증
-            boolean passwordMatches = passwordEncoder.matches(loginRequest.getPassword(), user.getPassword());
-            System.out.println("Password verification result: " + passwordMatches);
-            
-            if (!passwordMatches) {
-                // 테스트용 암호화된 비밀번호 생성
-                String testEncoded = passwordEncoder.encode(loginRequest.getPassword());
-                System.out.println("Test encoding of input password: " + testEncoded);
-            }
-        }
-        
-        Authentication authentication = authenticationManager.authenticate(
+        Authentication authentication = passwordHashing.run(() -> authenticationManager.authenticate(
             new UsernamePasswordAuthenticationToken(
                 loginRequest.getEmail(),
                 loginRequest.getPassword()
             )
-        );
+        ));
         
         SecurityContextHolder.getContext().setAuthentication(authentication);
         
-        String jwt = tokenProvider.generateToken(authentication);
-        String refreshToken = tokenProvider.generateRefreshToken(loginRequest.getEmail());
-        
         CustomUserDetailsService.CustomUserDetails userDetails = 
             (CustomUserDetailsService.CustomUserDetails) authentication.getPrincipal();
         
-        User authenticatedUser = userRepository.findByEmail(userDetails.getUsername())
-            .orElseThrow(() -> new RuntimeException("User not found"));
+        String jwt = tokenProvider.generateToken(authentication);
+        String refreshToken = tokenProvider.generateRefreshToken(userDetails.getUsername());
         
         return new LoginResponseDto(
             jwt,
@@ -86,36 +73,62 @@ public class AuthService implements AuthUseCase {
             userDetails.getId(),
             userDetails.getUsername(),
             userDetails.getName(),
-            authenticatedUser.getRole() != null ? authenticatedUser.getRole().name() : "WORKER"
+            userDetails.getRole()
         );
     }
     
+    /**
+     * Rotates the refresh token: the presented one is revoked as the new pair is issued, so it
+     * works exactly once. A second use, on this node or another, is rejected.
+     *
+     * No transaction here: the revocation insert runs in its own, and holding an outer one
+     * would take a second connection per caller, which a burst of refreshes can deadlock on.
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public LoginResponseDto refreshToken(String refreshToken) {
-        if (tokenProvider.validateToken(refreshToken)) {
-            String username = tokenProvider.getUsernameFromToken(refreshToken);
-            User user = userRepository.findByEmail(username)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-            
-            String newAccessToken = tokenProvider.generateTokenFromUsername(username);
-            String newRefreshToken = tokenProvider.generateRefreshToken(username);
-            
-            return new LoginResponseDto(
-                newAccessToken,
-                newRefreshToken,
-                user.getId(),
-                user.getEmail(),
-                user.getName(),
-                user.getRole() != null ? user.getRole().name() : "WORKER"
-            );
+        Claims claims = tokenProvider.parseClaims(refreshToken);
+        if (claims == null || !revocations.revoke(tokenProvider.tokenId(refreshToken, claims), claims.getExpiration())) {
+            throw new BadCredentialsException("Invalid refresh token");
         }
-        throw new RuntimeException("Invalid refresh token");
+        
+        String username = claims.getSubject();
+        User user = userRepository.findByEmail(username)
+            .orElseThrow(() -> new BadCredentialsException("Invalid refresh token"));
+        
+        String newAccessToken = tokenProvider.generateTokenFromUsername(username);
+        String newRefreshToken = tokenProvider.generateRefreshToken(username);
+        
+        return new LoginResponseDto(
+            newAccessToken,
+            newRefreshToken,
+            user.getId(),
+            user.getEmail(),
+            user.getName(),
+            user.getRole() != null ? user.getRole().name() : "WORKER"
+        );
     }
     
+    /**
+     * Revokes the presented tokens until they expire. Either may be missing or already invalid;
+     * logging out with an expired session still succeeds. Like {@link #refreshToken}, no
+     * transaction around the revocation inserts.
+     */
     @Override
-    public void logout(String email) {
-        // In JWT, logout is typically handled on the client side by removing the token
-        // Here we can add additional logic if needed (e.g., token blacklisting)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void logout(String accessToken, String refreshToken) {
+        revokeIfValid(accessToken);
+        revokeIfValid(refreshToken);
         SecurityContextHolder.clearContext();
     }
+    
+    private void revokeIfValid(String token) {
+        if (token == null || token.isBlank()) {
+            return;
+        }
+        Claims claims = tokenProvider.parseClaims(token);
+        if (claims != null) {
+            revocations.revoke(tokenProvider.tokenId(token, claims), claims.getExpiration());
+        }
+    }
 }
\ No newline at end of file
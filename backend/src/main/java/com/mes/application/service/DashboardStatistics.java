@@ -0,0 +1,244 @@
+package com.mes.application.service;
+
+import com.mes.application.event.IssueChangedEvent;
+import com.mes.application.event.WorkOrderChangedEvent;
+import com.mes.application.event.WorkOrdersImportedEvent;
+import com.mes.application.port.out.IssuePort;
+import com.mes.application.port.out.WorkOrderPort;
+import com.mes.domain.model.Issue;
+import com.mes.domain.model.WorkOrder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process aggregate behind {@code /api/dashboard/stats}.
+ *
+ * Seeded once from GROUP BY count queries at startup, then kept current by applying the
+ * before/after state carried by {@link WorkOrderChangedEvent} and {@link IssueChangedEvent}
+ * after each transaction commits. Reads never touch the database. A periodic resync repairs
+ * drift from writes that bypass the services (e.g. direct repository saves).
+ *
+ * The resync counts without holding the aggregate's lock, and every event is numbered as it is
+ * delivered. Events delivered before counting started are already in the counts and are
+ * skipped if they have not been applied yet. An event delivered while the counts run may or may
+ * not be in them, so the counts are taken again; only after {@value #RESYNC_ATTEMPTS} busy
+ * attempts are they installed anyway, leaving any error to the next resync.
+ */
+@Component
+public class DashboardStatistics {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardStatistics.class);
+
+    private static final int RESYNC_ATTEMPTS = 3;
+
+    private final WorkOrderPort workOrderPort;
+    private final IssuePort issuePort;
+
+    private final AtomicLong deliveredEvents = new AtomicLong();
+    private final Object resyncLock = new Object();
+    private volatile boolean seeded;
+    private long seededThrough;
+
+    private long totalWorkOrders;
+    private final Map<String, Long> workOrdersByStatus = new HashMap<>();
+    private long completedOnTime;
+
+    private LocalDate today = LocalDate.now();
+    private long todayWorkOrders;
+    private long todayCompletedOrders;
+
+    private long totalIssues;
+    private final Map<String, Long> issuesByStatus = new HashMap<>();
+
+    public DashboardStatistics(WorkOrderPort workOrderPort, IssuePort issuePort) {
+        this.workOrderPort = workOrderPort;
+        this.issuePort = issuePort;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        resync();
+    }
+
+    @Scheduled(fixedDelayString = "${mes.dashboard.stats.resync-interval:PT10M}",
+               initialDelayString = "${mes.dashboard.stats.resync-interval:PT10M}")
+    public void resync() {
+        synchronized (resyncLock) {
+            for (int attempt = 1; ; attempt++) {
+                long deliveredBefore = deliveredEvents.get();
+                LocalDate date = LocalDate.now();
+                Map<String, Long> orderCounts = workOrderPort.countByStatus();
+                Map<String, Long> todayCounts = workOrderPort.countByStatusCreatedBetween(
+                    date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+                long onTime = workOrderPort.countCompletedOnTime();
+                Map<String, Long> issueCounts = issuePort.countByStatus();
+
+                synchronized (this) {
+                    if (deliveredEvents.get() != deliveredBefore && attempt < RESYNC_ATTEMPTS) {
+                        continue;
+                    }
+                    install(date, orderCounts, todayCounts, onTime, issueCounts, deliveredBefore);
+                    return;
+                }
+            }
+        }
+    }
+
+    private void install(LocalDate date, Map<String, Long> orderCounts, Map<String, Long> todayCounts,
+                         long onTime, Map<String, Long> issueCounts, long deliveredBefore) {
+        workOrdersByStatus.clear();
+        workOrdersByStatus.putAll(orderCounts);
+        totalWorkOrders = sum(orderCounts);
+        completedOnTime = onTime;
+
+        today = date;
+        todayWorkOrders = sum(todayCounts);
+        todayCompletedOrders = todayCounts.getOrDefault("COMPLETED", 0L);
+
+        issuesByStatus.clear();
+        issuesByStatus.putAll(issueCounts);
+        totalIssues = sum(issueCounts);
+
+        seededThrough = deliveredBefore;
+        seeded = true;
+        log.debug("Dashboard statistics seeded: {} work orders, {} issues", totalWorkOrders, totalIssues);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWorkOrderChanged(WorkOrderChangedEvent event) {
+        long sequence = deliveredEvents.incrementAndGet();
+        synchronized (this) {
+            if (!seeded || sequence <= seededThrough) {
+                // Unseeded, or delivered before the counts were taken and so already in them
+                return;
+            }
+            rollDay(LocalDate.now());
+            apply(event.getPrevious(), -1);
+            apply(event.getCurrent(), 1);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWorkOrdersImported(WorkOrdersImportedEvent event) {
+        long sequence = deliveredEvents.incrementAndGet();
+        synchronized (this) {
+            if (!seeded || sequence <= seededThrough) {
+                return;
+            }
+            rollDay(LocalDate.now());
+            event.getCreated().forEach(workOrder -> apply(workOrder, 1));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onIssueChanged(IssueChangedEvent event) {
+        long sequence = deliveredEvents.incrementAndGet();
+        synchronized (this) {
+            if (!seeded || sequence <= seededThrough) {
+                return;
+            }
+            apply(event.getPrevious(), -1);
+            apply(event.getCurrent(), 1);
+        }
+    }
+
+    public Map<String, Object> snapshot() {
+        if (!seeded) {
+            resync();
+        }
+        synchronized (this) {
+            return currentStats();
+        }
+    }
+
+    private Map<String, Object> currentStats() {
+        rollDay(LocalDate.now());
+
+        Map<String, Object> stats = new HashMap<>();
+
+        // Work Order Statistics
+        long completed = workOrdersByStatus.getOrDefault("COMPLETED", 0L);
+        stats.put("totalWorkOrders", totalWorkOrders);
+        stats.put("pendingWorkOrders", workOrdersByStatus.getOrDefault("PENDING", 0L));
+        stats.put("inProgressWorkOrders", workOrdersByStatus.getOrDefault("IN_PROGRESS", 0L));
+        stats.put("completedWorkOrders", completed);
+
+        // Issue Statistics
+        stats.put("totalIssues", totalIssues);
+        stats.put("openIssues", issuesByStatus.getOrDefault("OPEN", 0L)
+            + issuesByStatus.getOrDefault("IN_PROGRESS", 0L));
+        stats.put("resolvedIssues", issuesByStatus.getOrDefault("RESOLVED", 0L)
+            + issuesByStatus.getOrDefault("CLOSED", 0L));
+
+        // Today's Statistics
+        stats.put("todayWorkOrders", todayWorkOrders);
+        stats.put("todayCompletedOrders", todayCompletedOrders);
+
+        // Performance Metrics
+        double completionRate = totalWorkOrders == 0 ? 0 : (completed * 100.0) / totalWorkOrders;
+        stats.put("averageCompletionRate", Math.round(completionRate * 10) / 10.0);
+
+        double onTimeRate = completed == 0 ? 0 : (completedOnTime * 100.0) / completed;
+        stats.put("onTimeDeliveryRate", Math.round(onTimeRate * 10) / 10.0);
+
+        return stats;
+    }
+
+    private void apply(WorkOrder workOrder, int sign) {
+        if (workOrder == null || workOrder.getStatus() == null) {
+            return;
+        }
+
+        boolean completed = "COMPLETED".equals(workOrder.getStatus());
+        totalWorkOrders += sign;
+        workOrdersByStatus.merge(workOrder.getStatus(), (long) sign, Long::sum);
+
+        if (completed && isOnTime(workOrder)) {
+            completedOnTime += sign;
+        }
+
+        LocalDateTime createdAt = workOrder.getCreatedAt();
+        if (createdAt != null && createdAt.toLocalDate().equals(today)) {
+            todayWorkOrders += sign;
+            if (completed) {
+                todayCompletedOrders += sign;
+            }
+        }
+    }
+
+    private void apply(Issue issue, int sign) {
+        if (issue == null || issue.getStatus() == null) {
+            return;
+        }
+        totalIssues += sign;
+        issuesByStatus.merge(issue.getStatus(), (long) sign, Long::sum);
+    }
+
+    private void rollDay(LocalDate date) {
+        if (date.isAfter(today)) {
+            today = date;
+            todayWorkOrders = 0;
+            todayCompletedOrders = 0;
+        }
+    }
+
+    private static boolean isOnTime(WorkOrder workOrder) {
+        return workOrder.getCompletedAt() != null && workOrder.getDueDate() != null
+            && workOrder.getCompletedAt().isBefore(workOrder.getDueDate());
+    }
+
+    private static long sum(Map<String, Long> counts) {
+        return counts.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
@@ -1,9 +1,11 @@
 package com.mes.application.service;
 
+import com.mes.application.event.IssueChangedEvent;
 import com.mes.application.port.in.IssueUseCase;
 import com.mes.application.port.out.IssuePort;
 import com.mes.application.port.out.WorkOrderPort;
 import com.mes.domain.model.Issue;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,10 +19,12 @@ public class IssueService implements IssueUseCase {
     
     private final IssuePort issuePort;
     private final WorkOrderPort workOrderPort;
+    private final ApplicationEventPublisher eventPublisher;
     
-    public IssueService(IssuePort issuePort, WorkOrderPort workOrderPort) {
+    public IssueService(IssuePort issuePort, WorkOrderPort workOrderPort, ApplicationEventPublisher eventPublisher) {
         this.issuePort = issuePort;
         this.workOrderPort = workOrderPort;
+        this.eventPublisher = eventPublisher;
     }
     
     @Override
@@ -38,7 +42,9 @@ public class IssueService implements IssueUseCase {
         issue.setReporterId(command.getReporterId());
         issue.setCreatedAt(LocalDateTime.now());
         
-        return issuePort.save(issue);
+        Issue saved = issuePort.save(issue);
+        eventPublisher.publishEvent(new IssueChangedEvent(IssueChangedEvent.Type.CREATED, saved.getId(), null, saved));
+        return saved;
     }
     
     @Override
@@ -69,6 +75,7 @@ public class IssueService implements IssueUseCase {
     public Issue updateIssue(Long id, UpdateIssueCommand command) {
         Issue issue = issuePort.findById(id)
             .orElseThrow(() -> new IllegalArgumentException("Issue not found with id: " + id));
+        Issue previous = IssueChangedEvent.snapshot(issue);
         
         if (command.getTitle() != null) {
             issue.setTitle(command.getTitle());
@@ -83,32 +90,38 @@ public class IssueService implements IssueUseCase {
             issue.setStatus(command.getStatus());
         }
         
-        return issuePort.save(issue);
+        Issue saved = issuePort.save(issue);
+        eventPublisher.publishEvent(new IssueChangedEvent(IssueChangedEvent.Type.UPDATED, id, previous, saved));
+        return saved;
     }
     
     @Override
     public void deleteIssue(Long id) {
-        if (!issuePort.findById(id).isPresent()) {
-            throw new IllegalArgumentException("Issue not found with id: " + id);
-        }
+        Issue issue = issuePort.findById(id)
+            .orElseThrow(() -> new IllegalArgumentException("Issue not found with id: " + id));
         issuePort.deleteById(id);
+        eventPublisher.publishEvent(new IssueChangedEvent(IssueChangedEvent.Type.DELETED, id, issue, null));
     }
     
     @Override
     public void resolveIssue(Long id) {
         Issue issue = issuePort.findById(id)
             .orElseThrow(() -> new IllegalArgumentException("Issue not found with id: " + id));
+        Issue previous = IssueChangedEvent.snapshot(issue);
         
         issue.resolve();
-        issuePort.save(issue);
+        Issue saved = issuePort.save(issue);
+        eventPublisher.publishEvent(new IssueChangedEvent(IssueChangedEvent.Type.RESOLVED, id, previous, saved));
     }
     
     @Override
     public void closeIssue(Long id) {
         Issue issue = issuePort.findById(id)
             .orElseThrow(() -> new IllegalArgumentException("Issue not found with id: " + id));
+        Issue previous = IssueChangedEvent.snapshot(issue);
         
         issue.close();
-        issuePort.save(issue);
+        Issue saved = issuePort.save(issue);
+        eventPublisher.publishEvent(new IssueChangedEvent(IssueChangedEvent.Type.CLOSED, id, previous, saved));
     }
 }
\ No newline at end of file
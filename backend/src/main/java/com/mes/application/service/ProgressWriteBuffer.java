@@ -0,0 +1,231 @@
+package com.mes.application.service;
+
+import com.mes.application.event.WorkOrderChangedEvent;
+import com.mes.application.port.out.WorkOrderPort;
+import com.mes.config.datasource.DatabaseConcurrencyLimiter;
+import com.mes.config.datasource.ExecutionLane;
+import com.mes.domain.model.WorkOrder;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Write-behind buffer for work order progress ticks (opt-in via
+ * {@code mes.work-orders.progress-write-behind.enabled}).
+ *
+ * Ticks for the same order coalesce into one pending entry (last writer wins by arrival order)
+ * and are written on a short interval as one batched UPDATE per chunk. Each UPDATE only applies
+ * if the row is still at the version the first tick read, so a flush can never roll back a
+ * newer start/complete/edit. A tick that arrives while its order is being flushed moves on to
+ * the version that flush wrote. State transitions take the pending value and write it as part of
+ * their own UPDATE. Entries leave the buffer only after their chunk commits: a failed flush is
+ * logged, counted in {@link #stats()} and retried on the next interval, and reads keep seeing
+ * the buffered value in the meantime.
+ *
+ * The flush runs on the scheduler thread, outside any transactional service, so it takes a
+ * transactional permit from {@link DatabaseConcurrencyLimiter} itself for each chunk. Without
+ * one, a flush arriving while requests hold every permit would take the connection those permits
+ * were sized to leave free. A flush the limiter turns away counts as failed and is retried.
+ */
+@Component
+public class ProgressWriteBuffer {
+
+    private static final Logger log = LoggerFactory.getLogger(ProgressWriteBuffer.class);
+
+    private final WorkOrderPort workOrderPort;
+    private final TransactionTemplate transactionTemplate;
+    private final DatabaseConcurrencyLimiter databaseLimiter;
+    private final boolean enabled;
+    private final int batchSize;
+
+    private final ConcurrentHashMap<Long, Pending> pending = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong bufferedTicks = new AtomicLong();
+    private final AtomicLong flushedRows = new AtomicLong();
+    private final AtomicLong staleRows = new AtomicLong();
+    private final AtomicLong failedFlushes = new AtomicLong();
+    private volatile String lastFailure;
+
+    public ProgressWriteBuffer(WorkOrderPort workOrderPort,
+                               PlatformTransactionManager transactionManager,
+                               DatabaseConcurrencyLimiter databaseLimiter,
+                               @Value("${mes.work-orders.progress-write-behind.enabled:false}") boolean enabled,
+                               @Value("${mes.work-orders.progress-write-behind.batch-size:200}") int batchSize) {
+        this.workOrderPort = workOrderPort;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.databaseLimiter = databaseLimiter;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** A copy of the buffered state for the order, if a tick is waiting to be written. */
+    public Optional<WorkOrder> pending(Long workOrderId) {
+        Pending entry = pending.get(workOrderId);
+        return entry != null ? Optional.of(WorkOrderChangedEvent.snapshot(entry.state)) : Optional.empty();
+    }
+
+    /** Buffers the order's current progress and updatedAt, replacing any older pending tick. */
+    public void offer(WorkOrder state) {
+        Pending entry = new Pending(sequence.incrementAndGet(), WorkOrderChangedEvent.snapshot(state));
+        pending.merge(state.getId(), entry, ProgressWriteBuffer::newer);
+        bufferedTicks.incrementAndGet();
+    }
+
+    /** Moves a pending tick into an order that is about to be saved by the general update path. */
+    public void applyPending(WorkOrder workOrder) {
+        Integer progress = takePending(workOrder.getId());
+        if (progress != null) {
+            workOrder.setProgress(progress);
+        }
+    }
+
+    /**
+     * Removes and returns the pending progress for an order whose next write will carry it. If the
+     * surrounding transaction rolls back, the tick goes back into the buffer.
+     */
+    public Integer takePending(Long workOrderId) {
+        Pending entry = pending.remove(workOrderId);
+        if (entry == null) {
+            return null;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        pending.merge(workOrderId, entry, ProgressWriteBuffer::newer);
+                    }
+                }
+            });
+        }
+        return entry.state.getProgress();
+    }
+
+    public void discard(Long workOrderId) {
+        pending.remove(workOrderId);
+    }
+
+    public Integer progressOf(Long workOrderId, Integer stored) {
+        Pending entry = pending.get(workOrderId);
+        return entry != null ? entry.state.getProgress() : stored;
+    }
+
+    @Scheduled(fixedDelayString = "${mes.work-orders.progress-write-behind.flush-interval:PT1S}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Pending> entries = new ArrayList<>(pending.values());
+        for (int from = 0; from < entries.size(); from += batchSize) {
+            List<Pending> chunk = entries.subList(from, Math.min(from + batchSize, entries.size()));
+            List<WorkOrderPort.ProgressUpdate> updates = chunk.stream()
+                .map(entry -> new WorkOrderPort.ProgressUpdate(entry.state.getId(), entry.state.getProgress(),
+                    entry.state.getUpdatedAt(), entry.state.getVersion()))
+                .collect(Collectors.toList());
+            try {
+                boolean[] applied = write(updates);
+                for (int i = 0; i < chunk.size(); i++) {
+                    (applied[i] ? flushedRows : staleRows).incrementAndGet();
+                    settle(chunk.get(i), applied[i]);
+                }
+            } catch (RuntimeException e) {
+                failedFlushes.incrementAndGet();
+                lastFailure = e.toString();
+                log.warn("Progress flush failed; {} updates stay buffered for retry", chunk.size(), e);
+            }
+        }
+    }
+
+    private boolean[] write(List<WorkOrderPort.ProgressUpdate> updates) {
+        try {
+            return databaseLimiter.call(ExecutionLane.TRANSACTIONAL,
+                () -> transactionTemplate.execute(status -> workOrderPort.updateProgress(updates)));
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        if (!pending.isEmpty()) {
+            log.error("{} buffered progress updates could not be written before shutdown", pending.size());
+        }
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("pending", pending.size());
+        stats.put("bufferedTicks", bufferedTicks.get());
+        stats.put("flushedRows", flushedRows.get());
+        stats.put("staleRows", staleRows.get());
+        stats.put("failedFlushes", failedFlushes.get());
+        stats.put("lastFailure", lastFailure);
+        return stats;
+    }
+
+    /**
+     * Removes a flushed entry. A tick that arrived during the flush stays for the next round; if it
+     * was built on the flushed state and that write applied, it now expects the version it wrote.
+     */
+    private void settle(Pending flushed, boolean applied) {
+        Long flushedVersion = flushed.state.getVersion();
+        pending.computeIfPresent(flushed.state.getId(), (id, current) -> {
+            if (current == flushed) {
+                return null;
+            }
+            return applied && flushedVersion.equals(current.state.getVersion())
+                ? current.withVersion(flushedVersion + 1) : current;
+        });
+    }
+
+    private static Pending newer(Pending current, Pending candidate) {
+        if (candidate.sequence <= current.sequence) {
+            return current;
+        }
+        // A candidate built on a copy taken before a flush moved the entry on keeps the moved version
+        return current.state.getVersion() > candidate.state.getVersion()
+            ? candidate.withVersion(current.state.getVersion()) : candidate;
+    }
+
+    private static final class Pending {
+
+        private final long sequence;
+        private final WorkOrder state;
+
+        private Pending(long sequence, WorkOrder state) {
+            this.sequence = sequence;
+            this.state = state;
+        }
+
+        private Pending withVersion(Long version) {
+            WorkOrder moved = WorkOrderChangedEvent.snapshot(state);
+            moved.setVersion(version);
+            return new Pending(sequence, moved);
+        }
+    }
+}
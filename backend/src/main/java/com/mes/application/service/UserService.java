@@ -1,8 +1,10 @@
 package com.mes.application.service;
 
+import com.mes.application.event.UserChangedEvent;
 import com.mes.application.port.in.UserUseCase;
 import com.mes.application.port.out.UserPort;
 import com.mes.domain.model.User;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,9 +17,11 @@ import java.util.Optional;
 public class UserService implements UserUseCase {
     
     private final UserPort userPort;
+    private final ApplicationEventPublisher eventPublisher;
     
-    public UserService(UserPort userPort) {
+    public UserService(UserPort userPort, ApplicationEventPublisher eventPublisher) {
         this.userPort = userPort;
+        this.eventPublisher = eventPublisher;
     }
     
     @Override
@@ -75,15 +79,17 @@ public class UserService implements UserUseCase {
         }
         user.setUpdatedAt(LocalDateTime.now());
         
-        return userPort.save(user);
+        User saved = userPort.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(UserChangedEvent.Type.UPDATED, id, saved.getEmail()));
+        return saved;
     }
     
     @Override
     public void deleteUser(Long id) {
-        if (!userPort.findById(id).isPresent()) {
-            throw new IllegalArgumentException("User not found with id: " + id);
-        }
+        User user = userPort.findById(id)
+            .orElseThrow(() -> new IllegalArgumentException("User not found with id: " + id));
         userPort.deleteById(id);
+        eventPublisher.publishEvent(new UserChangedEvent(UserChangedEvent.Type.DELETED, id, user.getEmail()));
     }
     
     @Override
@@ -1,14 +1,19 @@
 package com.mes.application.service;
 
+import com.mes.application.event.WorkLogCreatedEvent;
 import com.mes.application.port.in.WorkLogUseCase;
 import com.mes.application.port.out.WorkLogPort;
 import com.mes.application.port.out.WorkOrderPort;
 import com.mes.domain.model.WorkLog;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -16,27 +21,45 @@ public class WorkLogService implements WorkLogUseCase {
     
     private final WorkLogPort workLogPort;
     private final WorkOrderPort workOrderPort;
+    private final ApplicationEventPublisher eventPublisher;
     
-    public WorkLogService(WorkLogPort workLogPort, WorkOrderPort workOrderPort) {
+    public WorkLogService(WorkLogPort workLogPort, WorkOrderPort workOrderPort,
+                          ApplicationEventPublisher eventPublisher) {
         this.workLogPort = workLogPort;
         this.workOrderPort = workOrderPort;
+        this.eventPublisher = eventPublisher;
     }
     
     @Override
     public WorkLog createWorkLog(CreateWorkLogCommand command) {
         // Verify work order exists
-        workOrderPort.findById(command.getWorkOrderId())
-            .orElseThrow(() -> new IllegalArgumentException("WorkOrder not found with id: " + command.getWorkOrderId()));
+        if (!workOrderPort.existsById(command.getWorkOrderId())) {
+            throw new IllegalArgumentException("WorkOrder not found with id: " + command.getWorkOrderId());
+        }
         
-        WorkLog workLog = new WorkLog();
-        workLog.setWorkOrderId(command.getWorkOrderId());
-        workLog.setWorkerId(command.getWorkerId());
-        workLog.setAction(command.getAction());
-        workLog.setNotes(command.getNotes());
-        workLog.setProgress(command.getProgress());
-        workLog.setCreatedAt(LocalDateTime.now());
+        WorkLog saved = workLogPort.save(toWorkLog(command, LocalDateTime.now()));
+        eventPublisher.publishEvent(new WorkLogCreatedEvent(saved));
+        return saved;
+    }
+    
+    @Override
+    public List<WorkLog> createWorkLogs(List<CreateWorkLogCommand> commands) {
+        // One IN query verifies every referenced work order; the batch is all-or-nothing
+        Set<Long> workOrderIds = commands.stream()
+            .map(CreateWorkLogCommand::getWorkOrderId)
+            .collect(Collectors.toSet());
+        Set<Long> missing = new TreeSet<>(workOrderIds);
+        missing.removeAll(workOrderPort.findExistingIds(workOrderIds));
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("WorkOrder not found with id: " + missing);
+        }
         
-        return workLogPort.save(workLog);
+        LocalDateTime now = LocalDateTime.now();
+        List<WorkLog> saved = workLogPort.saveAll(commands.stream()
+            .map(command -> toWorkLog(command, now))
+            .collect(Collectors.toList()));
+        saved.forEach(workLog -> eventPublisher.publishEvent(new WorkLogCreatedEvent(workLog)));
+        return saved;
     }
     
     @Override
@@ -50,4 +73,15 @@ public class WorkLogService implements WorkLogUseCase {
     public List<WorkLog> findByWorkerId(Long workerId) {
         return workLogPort.findByWorkerId(workerId);
     }
+    
+    private WorkLog toWorkLog(CreateWorkLogCommand command, LocalDateTime createdAt) {
+        WorkLog workLog = new WorkLog();
+        workLog.setWorkOrderId(command.getWorkOrderId());
+        workLog.setWorkerId(command.getWorkerId());
+        workLog.setAction(command.getAction());
+        workLog.setNotes(command.getNotes());
+        workLog.setProgress(command.getProgress());
+        workLog.setCreatedAt(createdAt);
+        return workLog;
+    }
 }
\ No newline at end of file
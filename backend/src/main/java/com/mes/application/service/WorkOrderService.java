@@ -1,23 +1,43 @@
 package com.mes.application.service;
 
+import com.mes.application.event.WorkOrderChangedEvent;
+import com.mes.application.event.WorkOrdersImportedEvent;
 import com.mes.application.port.in.WorkOrderUseCase;
+import com.mes.application.port.out.UserPort;
 import com.mes.application.port.out.WorkOrderPort;
+import com.mes.common.exception.ResourceNotFoundException;
+import com.mes.domain.exception.InvalidStateTransitionException;
 import com.mes.domain.model.WorkOrder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class WorkOrderService implements WorkOrderUseCase {
     
     private final WorkOrderPort workOrderPort;
+    private final UserPort userPort;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProgressWriteBuffer progressBuffer;
     
-    public WorkOrderService(WorkOrderPort workOrderPort) {
+    public WorkOrderService(WorkOrderPort workOrderPort, UserPort userPort, ApplicationEventPublisher eventPublisher,
+                            ProgressWriteBuffer progressBuffer) {
         this.workOrderPort = workOrderPort;
+        this.userPort = userPort;
+        this.eventPublisher = eventPublisher;
+        this.progressBuffer = progressBuffer;
     }
     
     @Override
@@ -26,51 +46,81 @@ public class WorkOrderService implements WorkOrderUseCase {
             throw new IllegalArgumentException("Order number already exists: " + command.getOrderNumber());
         }
         
-        WorkOrder workOrder = new WorkOrder();
-        workOrder.setOrderNumber(command.getOrderNumber());
-        workOrder.setProductName(command.getProductName());
-        workOrder.setProductCode(command.getProductCode());
-        workOrder.setQuantity(command.getQuantity());
-        workOrder.setDueDate(command.getDueDate());
-        workOrder.setPriority(command.getPriority() != null ? command.getPriority() : "MEDIUM");
-        workOrder.setInstructions(command.getInstructions());
-        workOrder.setAssignedToId(command.getAssignedToId());
-        workOrder.setStatus("PENDING");
-        workOrder.setProgress(0);
-        workOrder.setCreatedAt(LocalDateTime.now());
-        workOrder.setUpdatedAt(LocalDateTime.now());
+        WorkOrder saved = workOrderPort.save(newWorkOrder(command, LocalDateTime.now()));
+        eventPublisher.publishEvent(WorkOrderChangedEvent.created(saved));
+        return saved;
+    }
+    
+    @Override
+    public List<ImportResult> importWorkOrders(List<CreateWorkOrderCommand> commands) {
+        // One IN query per lookup for the whole chunk. Order numbers compare case-insensitively,
+        // like the unique index under MySQL's default collation.
+        Set<String> taken = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        taken.addAll(workOrderPort.findExistingOrderNumbers(commands.stream()
+            .map(CreateWorkOrderCommand::getOrderNumber)
+            .collect(Collectors.toSet())));
+        Set<Long> assignees = userPort.findExistingIds(commands.stream()
+            .map(CreateWorkOrderCommand::getAssignedToId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet()));
         
-        return workOrderPort.save(workOrder);
+        LocalDateTime now = LocalDateTime.now();
+        ImportResult[] results = new ImportResult[commands.size()];
+        List<Integer> positions = new ArrayList<>();
+        List<WorkOrder> accepted = new ArrayList<>();
+        for (int i = 0; i < commands.size(); i++) {
+            CreateWorkOrderCommand command = commands.get(i);
+            String error = importRejection(command, taken, assignees);
+            if (error != null) {
+                results[i] = ImportResult.rejected(command.getOrderNumber(), error);
+                continue;
+            }
+            taken.add(command.getOrderNumber());
+            positions.add(i);
+            accepted.add(newWorkOrder(command, now));
+        }
+        
+        List<WorkOrder> saved = workOrderPort.insertAll(accepted);
+        for (int i = 0; i < saved.size(); i++) {
+            results[positions.get(i)] = ImportResult.created(saved.get(i));
+        }
+        // One event for the chunk: per-row events cost more after commit than the INSERTs did
+        if (!saved.isEmpty()) {
+            eventPublisher.publishEvent(new WorkOrdersImportedEvent(saved));
+        }
+        return Arrays.asList(results);
     }
     
     @Override
     @Transactional(readOnly = true)
     public Optional<WorkOrder> findWorkOrderById(Long id) {
-        return workOrderPort.findById(id);
+        return workOrderPort.findById(id).map(this::withPendingProgress);
     }
     
     @Override
     @Transactional(readOnly = true)
     public List<WorkOrder> findAllWorkOrders() {
-        return workOrderPort.findAll();
+        return withPendingProgress(workOrderPort.findAll());
     }
     
     @Override
     @Transactional(readOnly = true)
     public List<WorkOrder> findWorkOrdersByStatus(String status) {
-        return workOrderPort.findByStatus(status);
+        return withPendingProgress(workOrderPort.findByStatus(status));
     }
     
     @Override
     @Transactional(readOnly = true)
     public List<WorkOrder> findWorkOrdersByAssignee(Long userId) {
-        return workOrderPort.findByAssignedToId(userId);
+        return withPendingProgress(workOrderPort.findByAssignedToId(userId));
     }
     
     @Override
     public WorkOrder updateWorkOrder(Long id, UpdateWorkOrderCommand command) {
         WorkOrder workOrder = workOrderPort.findById(id)
             .orElseThrow(() -> new IllegalArgumentException("WorkOrder not found with id: " + id));
+        progressBuffer.applyPending(workOrder);
+        WorkOrder previous = WorkOrderChangedEvent.snapshot(workOrder);
         
         if (command.getProductName() != null) {
             workOrder.setProductName(command.getProductName());
@@ -90,46 +140,139 @@ public class WorkOrderService implements WorkOrderUseCase {
         if (command.getAssignedToId() != null) {
             workOrder.setAssignedToId(command.getAssignedToId());
         }
+        if (command.getVersion() != null) {
+            workOrder.setVersion(command.getVersion());
+        }
         workOrder.setUpdatedAt(LocalDateTime.now());
         
-        return workOrderPort.save(workOrder);
+        WorkOrder saved = workOrderPort.save(workOrder);
+        eventPublisher.publishEvent(new WorkOrderChangedEvent(WorkOrderChangedEvent.Type.UPDATED, id, previous, saved));
+        return saved;
     }
     
     @Override
     public void deleteWorkOrder(Long id) {
-        if (!workOrderPort.findById(id).isPresent()) {
-            throw new IllegalArgumentException("WorkOrder not found with id: " + id);
-        }
+        WorkOrder workOrder = workOrderPort.findById(id)
+            .orElseThrow(() -> new IllegalArgumentException("WorkOrder not found with id: " + id));
         workOrderPort.deleteById(id);
+        progressBuffer.discard(id);
+        eventPublisher.publishEvent(WorkOrderChangedEvent.deleted(workOrder));
     }
     
     @Override
     public void startWork(Long workOrderId) {
-        WorkOrder workOrder = workOrderPort.findById(workOrderId)
-            .orElseThrow(() -> new IllegalArgumentException("WorkOrder not found with id: " + workOrderId));
+        // Buffered progress rides along with the transition's own UPDATE
+        Integer pendingProgress = progressBuffer.takePending(workOrderId);
+        if (!workOrderPort.startWork(workOrderId, pendingProgress, LocalDateTime.now())) {
+            throw transitionRejected(workOrderId, WorkOrder::startWork);
+        }
         
-        workOrder.startWork();
-        workOrder.setUpdatedAt(LocalDateTime.now());
-        workOrderPort.save(workOrder);
+        WorkOrder current = load(workOrderId);
+        WorkOrder previous = WorkOrderChangedEvent.snapshot(current);
+        previous.setStatus("PENDING");
+        previous.setStartedAt(null);
+        eventPublisher.publishEvent(new WorkOrderChangedEvent(WorkOrderChangedEvent.Type.STARTED, workOrderId, previous, current));
     }
     
     @Override
-    public void completeWork(Long workOrderId) {
-        WorkOrder workOrder = workOrderPort.findById(workOrderId)
-            .orElseThrow(() -> new IllegalArgumentException("WorkOrder not found with id: " + workOrderId));
+    public void completeWork(Long workOrderId, Integer actualQuantity, String notes) {
+        // Completion sets progress to 100, superseding any buffered tick
+        progressBuffer.takePending(workOrderId);
+        if (!workOrderPort.completeWork(workOrderId, actualQuantity, notes, LocalDateTime.now())) {
+            throw transitionRejected(workOrderId, WorkOrder::completeWork);
+        }
         
-        workOrder.completeWork();
-        workOrder.setUpdatedAt(LocalDateTime.now());
-        workOrderPort.save(workOrder);
+        WorkOrder current = load(workOrderId);
+        WorkOrder previous = WorkOrderChangedEvent.snapshot(current);
+        previous.setStatus("IN_PROGRESS");
+        previous.setCompletedAt(null);
+        eventPublisher.publishEvent(new WorkOrderChangedEvent(WorkOrderChangedEvent.Type.COMPLETED, workOrderId, previous, current));
     }
     
     @Override
     public void updateProgress(Long workOrderId, Integer progress) {
-        WorkOrder workOrder = workOrderPort.findById(workOrderId)
-            .orElseThrow(() -> new IllegalArgumentException("WorkOrder not found with id: " + workOrderId));
+        if (progressBuffer.isEnabled()) {
+            bufferProgress(workOrderId, progress);
+            return;
+        }
+        
+        WorkOrder.validateProgress(progress);
+        if (!workOrderPort.updateProgress(workOrderId, progress, LocalDateTime.now())) {
+            throw new ResourceNotFoundException("WorkOrder", workOrderId);
+        }
+        
+        // Status is unchanged, so the new row also stands in for the previous state
+        WorkOrder current = load(workOrderId);
+        eventPublisher.publishEvent(new WorkOrderChangedEvent(WorkOrderChangedEvent.Type.PROGRESS_UPDATED, workOrderId, current, current));
+    }
+    
+    private String importRejection(CreateWorkOrderCommand command, Set<String> taken, Set<Long> assignees) {
+        if (taken.contains(command.getOrderNumber())) {
+            return "Order number already exists: " + command.getOrderNumber();
+        }
+        if (command.getAssignedToId() != null && !assignees.contains(command.getAssignedToId())) {
+            return "User not found with id: " + command.getAssignedToId();
+        }
+        try {
+            WorkOrder.validatePriority(command.getPriority() != null ? command.getPriority() : "MEDIUM");
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+        return null;
+    }
+    
+    private WorkOrder newWorkOrder(CreateWorkOrderCommand command, LocalDateTime now) {
+        WorkOrder workOrder = new WorkOrder();
+        workOrder.setOrderNumber(command.getOrderNumber());
+        workOrder.setProductName(command.getProductName());
+        workOrder.setProductCode(command.getProductCode());
+        workOrder.setQuantity(command.getQuantity());
+        workOrder.setDueDate(command.getDueDate());
+        workOrder.setPriority(command.getPriority() != null ? command.getPriority() : "MEDIUM");
+        workOrder.setInstructions(command.getInstructions());
+        workOrder.setAssignedToId(command.getAssignedToId());
+        workOrder.setStatus("PENDING");
+        workOrder.setProgress(0);
+        workOrder.setCreatedAt(now);
+        workOrder.setUpdatedAt(now);
+        return workOrder;
+    }
+    
+    private void bufferProgress(Long workOrderId, Integer progress) {
+        // Only the first tick per flush interval reads the row; later ticks build on the buffered state
+        WorkOrder workOrder = progressBuffer.pending(workOrderId)
+            .or(() -> workOrderPort.findById(workOrderId))
+            .orElseThrow(() -> new ResourceNotFoundException("WorkOrder", workOrderId));
+        WorkOrder previous = WorkOrderChangedEvent.snapshot(workOrder);
         
         workOrder.updateProgress(progress);
         workOrder.setUpdatedAt(LocalDateTime.now());
-        workOrderPort.save(workOrder);
+        progressBuffer.offer(workOrder);
+        eventPublisher.publishEvent(new WorkOrderChangedEvent(WorkOrderChangedEvent.Type.PROGRESS_UPDATED, workOrderId, previous, workOrder));
+    }
+    
+    /**
+     * Explains why a guarded transition matched no row: a missing order, or the domain's own
+     * message for a status that does not allow the transition.
+     */
+    private InvalidStateTransitionException transitionRejected(Long workOrderId, Consumer<WorkOrder> transition) {
+        WorkOrder current = load(workOrderId);
+        transition.accept(current);
+        return new InvalidStateTransitionException("WorkOrder " + workOrderId + " was modified concurrently");
+    }
+    
+    private WorkOrder load(Long workOrderId) {
+        return workOrderPort.findById(workOrderId)
+            .orElseThrow(() -> new ResourceNotFoundException("WorkOrder", workOrderId));
+    }
+    
+    private List<WorkOrder> withPendingProgress(List<WorkOrder> workOrders) {
+        workOrders.forEach(this::withPendingProgress);
+        return workOrders;
+    }
+    
+    private WorkOrder withPendingProgress(WorkOrder workOrder) {
+        workOrder.setProgress(progressBuffer.progressOf(workOrder.getId(), workOrder.getProgress()));
+        return workOrder;
     }
 }
\ No newline at end of file
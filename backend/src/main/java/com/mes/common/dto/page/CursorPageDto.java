@@ -0,0 +1,50 @@
+package com.mes.common.dto.page;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class CursorPageDto<T> {
+    private List<T> data;
+    private String nextCursor;
+    private boolean hasNext;
+    private int size;
+    
+    public CursorPageDto() {}
+    
+    public CursorPageDto(List<T> data, String nextCursor, boolean hasNext, int size) {
+        this.data = data;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+        this.size = size;
+    }
+    
+    /**
+     * Builds a page from {@code rows} fetched with limit {@code size + 1}; the extra row only
+     * signals that another page exists and is not returned.
+     */
+    public static <E, T> CursorPageDto<T> of(List<E> rows, int size,
+                                             Function<E, T> mapper,
+                                             Function<E, KeysetCursor> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null;
+        
+        List<T> data = page.stream()
+            .map(mapper)
+            .collect(Collectors.toList());
+        return new CursorPageDto<>(data, nextCursor, hasNext, size);
+    }
+    
+    public List<T> getData() { return data; }
+    public void setData(List<T> data) { this.data = data; }
+    
+    public String getNextCursor() { return nextCursor; }
+    public void setNextCursor(String nextCursor) { this.nextCursor = nextCursor; }
+    
+    public boolean isHasNext() { return hasNext; }
+    public void setHasNext(boolean hasNext) { this.hasNext = hasNext; }
+    
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+}
@@ -0,0 +1,20 @@
+package com.mes.common.dto.worklog;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public class BatchCreateWorkLogDto {
+    
+    public static final int MAX_BATCH_SIZE = 1000;
+    
+    @NotEmpty(message = "At least one work log is required")
+    @Size(max = MAX_BATCH_SIZE, message = "A batch must not exceed " + MAX_BATCH_SIZE + " work logs")
+    @Valid
+    private List<CreateWorkLogDto> logs;
+    
+    public List<CreateWorkLogDto> getLogs() { return logs; }
+    public void setLogs(List<CreateWorkLogDto> logs) { this.logs = logs; }
+}
@@ -6,11 +6,14 @@ import java.time.LocalDateTime;
 public class CreateWorkOrderDto {
     
     @NotBlank(message = "Order number is required")
+    @Size(max = 100, message = "Order number must be at most 100 characters")
     private String orderNumber;
     
     @NotBlank(message = "Product name is required")
+    @Size(max = 255, message = "Product name must be at most 255 characters")
     private String productName;
     
+    @Size(max = 100, message = "Product code must be at most 100 characters")
     private String productCode;
     
     @NotNull(message = "Quantity is required")
@@ -19,6 +19,9 @@ public class WorkOrderDto {
     private LocalDateTime completedAt;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Integer actualQuantity;
+    private String notes;
+    private Long version;
     
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
@@ -67,4 +70,13 @@ public class WorkOrderDto {
     
     public LocalDateTime getUpdatedAt() { return updatedAt; }
     public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+    
+    public Integer getActualQuantity() { return actualQuantity; }
+    public void setActualQuantity(Integer actualQuantity) { this.actualQuantity = actualQuantity; }
+    
+    public String getNotes() { return notes; }
+    public void setNotes(String notes) { this.notes = notes; }
+    
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
\ No newline at end of file
@@ -0,0 +1,63 @@
+package com.mes.common.dto.workorder;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+public class WorkOrderImportReportDto {
+    
+    private int total;
+    private int created;
+    private int rejected;
+    private String error;
+    private List<RowResult> results = new ArrayList<>();
+    
+    public void add(RowResult result) {
+        results.add(result);
+        total++;
+        if (RowResult.CREATED.equals(result.getStatus())) {
+            created++;
+        } else {
+            rejected++;
+        }
+    }
+    
+    public void sortByRow() {
+        results.sort(Comparator.comparingInt(RowResult::getRow));
+    }
+    
+    public int getTotal() { return total; }
+    public int getCreated() { return created; }
+    public int getRejected() { return rejected; }
+    
+    /** Set when the payload could not be read to the end; rows after the reported ones were not imported. */
+    public String getError() { return error; }
+    public void setError(String error) { this.error = error; }
+    
+    public List<RowResult> getResults() { return results; }
+    
+    public static class RowResult {
+        public static final String CREATED = "CREATED";
+        public static final String REJECTED = "REJECTED";
+        
+        private final int row;
+        private final String orderNumber;
+        private final String status;
+        private final Long id;
+        private final String error;
+        
+        public RowResult(int row, String orderNumber, String status, Long id, String error) {
+            this.row = row;
+            this.orderNumber = orderNumber;
+            this.status = status;
+            this.id = id;
+            this.error = error;
+        }
+        
+        public int getRow() { return row; }
+        public String getOrderNumber() { return orderNumber; }
+        public String getStatus() { return status; }
+        public Long getId() { return id; }
+        public String getError() { return error; }
+    }
+}
@@ -0,0 +1,11 @@
+package com.mes.common.exception;
+
+/**
+ * A bounded resource (thread pool, queue) is saturated; the request may succeed if retried
+ * shortly. Mapped to 503 with a Retry-After header.
+ */
+public class ServiceBusyException extends RuntimeException {
+    public ServiceBusyException(String message) {
+        super(message);
+    }
+}
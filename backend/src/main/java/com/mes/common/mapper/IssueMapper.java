@@ -5,6 +5,7 @@ import com.mes.adapter.out.persistence.entity.User;
 import com.mes.adapter.out.persistence.entity.WorkOrder;
 import com.mes.adapter.out.persistence.entity.enums.IssueStatus;
 import com.mes.adapter.out.persistence.entity.enums.Priority;
+import com.mes.adapter.out.persistence.repository.projection.IssueView;
 import com.mes.common.dto.issue.IssueDto;
 import org.springframework.stereotype.Component;
 
@@ -81,4 +82,25 @@ public class IssueMapper {
         
         return dto;
     }
-}
\ No newline at end of file
+    
+    public IssueDto toDto(IssueView view) {
+        if (view == null) {
+            return null;
+        }
+        
+        IssueDto dto = new IssueDto();
+        dto.setId(view.getId());
+        dto.setWorkOrderId(view.getWorkOrderId());
+        dto.setWorkOrderNumber(view.getWorkOrderNumber());
+        dto.setTitle(view.getTitle());
+        dto.setDescription(view.getDescription());
+        dto.setPriority(view.getPriority() != null ? view.getPriority().name() : null);
+        dto.setStatus(view.getStatus() != null ? view.getStatus().name() : null);
+        dto.setReporterId(view.getReporterId());
+        dto.setReporterName(view.getReporterName());
+        dto.setCreatedAt(view.getCreatedAt());
+        dto.setResolvedAt(view.getResolvedAt());
+        
+        return dto;
+    }
+}
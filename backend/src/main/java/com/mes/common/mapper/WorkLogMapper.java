@@ -4,6 +4,7 @@ import com.mes.adapter.out.persistence.entity.User;
 import com.mes.adapter.out.persistence.entity.WorkLog;
 import com.mes.adapter.out.persistence.entity.WorkOrder;
 import com.mes.adapter.out.persistence.entity.enums.LogAction;
+import com.mes.adapter.out.persistence.repository.projection.WorkLogView;
 import com.mes.common.dto.worklog.WorkLogDto;
 import org.springframework.stereotype.Component;
 
@@ -73,4 +74,23 @@ public class WorkLogMapper {
         
         return dto;
     }
-}
\ No newline at end of file
+    
+    public WorkLogDto toDto(WorkLogView view) {
+        if (view == null) {
+            return null;
+        }
+        
+        WorkLogDto dto = new WorkLogDto();
+        dto.setId(view.getId());
+        dto.setWorkOrderId(view.getWorkOrderId());
+        dto.setWorkOrderNumber(view.getWorkOrderNumber());
+        dto.setWorkerId(view.getWorkerId());
+        dto.setWorkerName(view.getWorkerName());
+        dto.setAction(view.getAction() != null ? view.getAction().name() : null);
+        dto.setNotes(view.getNotes());
+        dto.setProgress(view.getProgress());
+        dto.setCreatedAt(view.getCreatedAt());
+        
+        return dto;
+    }
+}
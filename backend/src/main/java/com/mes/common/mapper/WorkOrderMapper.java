@@ -4,7 +4,9 @@ import com.mes.adapter.out.persistence.entity.User;
 import com.mes.adapter.out.persistence.entity.WorkOrder;
 import com.mes.adapter.out.persistence.entity.enums.Priority;
 import com.mes.adapter.out.persistence.entity.enums.WorkStatus;
+import com.mes.adapter.out.persistence.repository.projection.WorkOrderView;
 import com.mes.common.dto.workorder.WorkOrderDto;
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -27,10 +29,17 @@ public class WorkOrderMapper {
         domain.setInstructions(entity.getInstructions());
         domain.setProgress(entity.getProgress());
         domain.setAssignedToId(entity.getAssignedTo() != null ? entity.getAssignedTo().getId() : null);
+        // Only read the name when the assignee is already loaded; never trigger a lazy select here
+        if (entity.getAssignedTo() != null && Hibernate.isInitialized(entity.getAssignedTo())) {
+            domain.setAssignedToName(entity.getAssignedTo().getName());
+        }
         domain.setStartedAt(entity.getStartedAt());
         domain.setCompletedAt(entity.getCompletedAt());
         domain.setCreatedAt(entity.getCreatedAt());
         domain.setUpdatedAt(entity.getUpdatedAt());
+        domain.setActualQuantity(entity.getActualQuantity());
+        domain.setNotes(entity.getNotes());
+        domain.setVersion(entity.getVersion());
         
         return domain;
     }
@@ -42,6 +51,23 @@ public class WorkOrderMapper {
         
         WorkOrder entity = new WorkOrder();
         entity.setId(domain.getId());
+        updateEntity(domain, entity);
+        
+        if (domain.getAssignedToId() != null) {
+            User assignedUser = new User();
+            assignedUser.setId(domain.getAssignedToId());
+            entity.setAssignedTo(assignedUser);
+        }
+        
+        return entity;
+    }
+    
+    /**
+     * Copies the domain state onto an entity, typically the managed instance loaded in the
+     * current transaction. Leaves the id, the assignee association and the child collections
+     * alone so saving never replaces (and orphan-removes) the work order's logs and issues.
+     */
+    public void updateEntity(com.mes.domain.model.WorkOrder domain, WorkOrder entity) {
         entity.setOrderNumber(domain.getOrderNumber());
         entity.setProductName(domain.getProductName());
         entity.setProductCode(domain.getProductCode());
@@ -51,19 +77,12 @@ public class WorkOrderMapper {
         entity.setStatus(domain.getStatus() != null ? WorkStatus.valueOf(domain.getStatus()) : WorkStatus.PENDING);
         entity.setInstructions(domain.getInstructions());
         entity.setProgress(domain.getProgress());
-        
-        if (domain.getAssignedToId() != null) {
-            User assignedUser = new User();
-            assignedUser.setId(domain.getAssignedToId());
-            entity.setAssignedTo(assignedUser);
-        }
-        
         entity.setStartedAt(domain.getStartedAt());
         entity.setCompletedAt(domain.getCompletedAt());
         entity.setCreatedAt(domain.getCreatedAt());
         entity.setUpdatedAt(domain.getUpdatedAt());
-        
-        return entity;
+        entity.setActualQuantity(domain.getActualQuantity());
+        entity.setNotes(domain.getNotes());
     }
     
     public WorkOrderDto toDto(WorkOrder entity) {
@@ -92,7 +111,68 @@ public class WorkOrderMapper {
         dto.setCompletedAt(entity.getCompletedAt());
         dto.setCreatedAt(entity.getCreatedAt());
         dto.setUpdatedAt(entity.getUpdatedAt());
+        dto.setActualQuantity(entity.getActualQuantity());
+        dto.setNotes(entity.getNotes());
+        dto.setVersion(entity.getVersion());
+        
+        return dto;
+    }
+    
+    public WorkOrderDto toDto(com.mes.domain.model.WorkOrder domain) {
+        if (domain == null) {
+            return null;
+        }
+        
+        WorkOrderDto dto = new WorkOrderDto();
+        dto.setId(domain.getId());
+        dto.setOrderNumber(domain.getOrderNumber());
+        dto.setProductName(domain.getProductName());
+        dto.setProductCode(domain.getProductCode());
+        dto.setQuantity(domain.getQuantity());
+        dto.setDueDate(domain.getDueDate());
+        dto.setPriority(domain.getPriority());
+        dto.setStatus(domain.getStatus());
+        dto.setInstructions(domain.getInstructions());
+        dto.setProgress(domain.getProgress());
+        dto.setAssignedToId(domain.getAssignedToId());
+        dto.setAssignedToName(domain.getAssignedToName());
+        dto.setStartedAt(domain.getStartedAt());
+        dto.setCompletedAt(domain.getCompletedAt());
+        dto.setCreatedAt(domain.getCreatedAt());
+        dto.setUpdatedAt(domain.getUpdatedAt());
+        dto.setActualQuantity(domain.getActualQuantity());
+        dto.setNotes(domain.getNotes());
+        dto.setVersion(domain.getVersion());
+        
+        return dto;
+    }
+    
+    public WorkOrderDto toDto(WorkOrderView view) {
+        if (view == null) {
+            return null;
+        }
+        
+        WorkOrderDto dto = new WorkOrderDto();
+        dto.setId(view.getId());
+        dto.setOrderNumber(view.getOrderNumber());
+        dto.setProductName(view.getProductName());
+        dto.setProductCode(view.getProductCode());
+        dto.setQuantity(view.getQuantity());
+        dto.setDueDate(view.getDueDate());
+        dto.setPriority(view.getPriority() != null ? view.getPriority().name() : null);
+        dto.setStatus(view.getStatus() != null ? view.getStatus().name() : null);
+        dto.setInstructions(view.getInstructions());
+        dto.setProgress(view.getProgress());
+        dto.setAssignedToId(view.getAssignedToId());
+        dto.setAssignedToName(view.getAssignedToName());
+        dto.setStartedAt(view.getStartedAt());
+        dto.setCompletedAt(view.getCompletedAt());
+        dto.setCreatedAt(view.getCreatedAt());
+        dto.setUpdatedAt(view.getUpdatedAt());
+        dto.setActualQuantity(view.getActualQuantity());
+        dto.setNotes(view.getNotes());
+        dto.setVersion(view.getVersion());
         
         return dto;
     }
-}
\ No newline at end of file
+}
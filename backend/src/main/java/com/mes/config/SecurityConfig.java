@@ -2,6 +2,8 @@ package com.mes.config;
 
 import com.mes.adapter.in.web.security.JwtAuthenticationFilter;
 import com.mes.adapter.in.web.security.JwtAuthenticationEntryPoint;
+import com.mes.config.metrics.QueryDiagnosticsFilter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -19,12 +21,16 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity(prePostEnabled = true)
 public class SecurityConfig {
 
+    private static final Pattern BCRYPT_COST = Pattern.compile("\\$2[abxy]?\\$(\\d\\d)\\$");
+
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
@@ -35,8 +41,15 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${mes.security.password-hashing.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength) {
+            // Any cost other than the configured one is rehashed on the next login, lowering included
+            @Override
+            public boolean upgradeEncoding(String encodedPassword) {
+                Matcher cost = BCRYPT_COST.matcher(encodedPassword != null ? encodedPassword : "");
+                return cost.lookingAt() ? Integer.parseInt(cost.group(1)) != strength : super.upgradeEncoding(encodedPassword);
+            }
+        };
     }
 
     @Bean
@@ -56,6 +69,9 @@ public class SecurityConfig {
                 .requestMatchers("/api/test/**").permitAll()
                 .requestMatchers("/api/debug/**").permitAll()
                 .requestMatchers("/error").permitAll()
+                // 헬스체크와 Prometheus 스크레이프는 인증 없이 허용 (외부 노출은 리버스 프록시에서 차단)
+                .requestMatchers("/actuator/health/**", "/actuator/prometheus").permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 .anyRequest().authenticated()
             );
 
@@ -70,6 +86,8 @@ public class SecurityConfig {
         configuration.setAllowedOrigins(Arrays.asList("http://localhost:3000", "http://localhost:5173"));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
+        configuration.setExposedHeaders(Arrays.asList(
+            QueryDiagnosticsFilter.QUERY_COUNT_HEADER, QueryDiagnosticsFilter.DB_TIME_HEADER));
         configuration.setAllowCredentials(true);
         
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
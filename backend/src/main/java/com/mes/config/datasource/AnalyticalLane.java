@@ -0,0 +1,17 @@
+package com.mes.config.datasource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs the annotated controller (or handler method) in {@link ExecutionLane#ANALYTICAL}, so its
+ * database work is limited, queued and shed separately from shop-floor transactions.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface AnalyticalLane {
+}
@@ -0,0 +1,54 @@
+package com.mes.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+@Configuration
+@ConditionalOnExpression("${mes.datasource.analytics.enabled:false} and !${mes.datasource.replica.enabled:false}")
+public class AnalyticsPoolConfig {
+    // 같은 DB(spring.datasource.*)에 풀만 둘: primary 는 현장 트랜잭션용, analytics 는 분석 lane 의 읽기 전용 트랜잭션용
+    // replica 를 쓰면 분석 읽기는 이미 replica 풀로 가므로 이 설정은 쓰지 않음
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("mes.datasource.analytics.hikari")
+    public HikariDataSource analyticsDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("analytics");
+        return dataSource;
+    }
+
+    @Bean
+    public LaneRoutingDataSource laneRoutingDataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                                       @Qualifier("analyticsDataSource") DataSource analytics) {
+        LaneRoutingDataSource routing = new LaneRoutingDataSource();
+        routing.setTargetDataSources(Map.of(
+            ExecutionLane.TRANSACTIONAL, primary,
+            ExecutionLane.ANALYTICAL, analytics));
+        routing.setDefaultTargetDataSource(primary);
+        return routing;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(LaneRoutingDataSource laneRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(laneRoutingDataSource);
+    }
+}
@@ -0,0 +1,215 @@
+package com.mes.config.datasource;
+
+import com.mes.common.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Caps how many threads work against the database at once, separately for each
+ * {@link ExecutionLane}, each lane sized to its connection pool.
+ *
+ * The outermost call into a transactional application service or a repository takes a permit
+ * from the current lane for its whole duration (nested calls on the same thread reuse it), so
+ * at most {@code permits} units of database work run together per lane and the rest queue here,
+ * ahead of the pool. The queue is bounded: past {@code max-waiting} callers, or after
+ * {@code wait-timeout}, the request fails fast with {@link ServiceBusyException} (503) instead of
+ * holding its thread for Hikari's connection timeout. When the database slows down only that
+ * many request threads are stuck on it, and endpoints that never touch it (health checks,
+ * /stats) keep answering.
+ *
+ * The lanes are bulkheads: a one-year production summary can use up the analytical permits but
+ * never a transactional one, so progress updates keep their own capacity. Analytics is also shed
+ * first: while shop-floor work is queueing, new analytical work is turned away at once rather
+ * than adding load to the same database. {@code mes.database.concurrency.*} meters are tagged
+ * with the lane; {@code wait} is how long admitted work queued.
+ *
+ * A permit only bounds connections if the connection is given back when the call that took
+ * the permit returns. Open-session-in-view keeps it until the request ends, letting more
+ * threads than the pool holds past the permits to block inside Hikari, so startup fails when
+ * {@code spring.jpa.open-in-view} is not turned off.
+ *
+ * With {@code spring.threads.virtual.enabled} on Java 21+, requests run on virtual threads and
+ * waiting here costs next to nothing; the permits then keep thousands of threads from piling
+ * into the JDBC driver, where blocking can pin their carrier threads.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class DatabaseConcurrencyLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(DatabaseConcurrencyLimiter.class);
+
+    private final Map<ExecutionLane, Lane> lanes = new EnumMap<>(ExecutionLane.class);
+    private final ThreadLocal<int[]> depth = ThreadLocal.withInitial(() -> new int[1]);
+
+    public DatabaseConcurrencyLimiter(@Value("${mes.database.concurrency.transactional.permits:${spring.datasource.hikari.maximum-pool-size:10}}") int transactionalPermits,
+                                      @Value("${mes.database.concurrency.transactional.max-waiting:50}") int transactionalMaxWaiting,
+                                      @Value("${mes.database.concurrency.transactional.wait-timeout:PT2S}") Duration transactionalWaitTimeout,
+                                      @Value("${mes.database.concurrency.analytical.permits:${mes.datasource.analytics.hikari.maximum-pool-size:3}}") int analyticalPermits,
+                                      @Value("${mes.database.concurrency.analytical.max-waiting:10}") int analyticalMaxWaiting,
+                                      @Value("${mes.database.concurrency.analytical.wait-timeout:PT0.5S}") Duration analyticalWaitTimeout,
+                                      MeterRegistry registry,
+                                      Environment environment) {
+        if (environment.getProperty("spring.jpa.open-in-view", Boolean.class, true)) {
+            throw new IllegalStateException(
+                "spring.jpa.open-in-view must be false: database permits are released before request-scoped sessions return their connections");
+        }
+        lanes.put(ExecutionLane.TRANSACTIONAL, new Lane("transactional",
+            transactionalPermits, transactionalMaxWaiting, transactionalWaitTimeout, registry));
+        lanes.put(ExecutionLane.ANALYTICAL, new Lane("analytical",
+            analyticalPermits, analyticalMaxWaiting, analyticalWaitTimeout, registry));
+        log.info("Database concurrency limited to {} transactional permits ({} may wait) and {} analytical permits ({} may wait); request threads are {}",
+            transactionalPermits, transactionalMaxWaiting, analyticalPermits, analyticalMaxWaiting,
+            Threading.VIRTUAL.isActive(environment) ? "virtual" : "platform");
+    }
+
+    @Around("execution(public * com.mes.application.service..*(..)) && @within(org.springframework.transaction.annotation.Transactional)"
+        + " || execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object limit(ProceedingJoinPoint joinPoint) throws Throwable {
+        Transactional transactional = AnnotatedElementUtils.findMergedAnnotation(
+            ((MethodSignature) joinPoint.getSignature()).getMethod(), Transactional.class);
+        if (transactional != null && (transactional.propagation() == Propagation.NOT_SUPPORTED
+                || transactional.propagation() == Propagation.NEVER)) {
+            // Runs outside a transaction on purpose (e.g. login waiting for the hashing pool);
+            // its own repository calls take permits as they need them
+            return joinPoint.proceed();
+        }
+        return call(joinPoint::proceed);
+    }
+
+    @Around("@within(com.mes.config.datasource.AnalyticalLane) || @annotation(com.mes.config.datasource.AnalyticalLane)")
+    public Object analytical(ProceedingJoinPoint joinPoint) throws Throwable {
+        return ExecutionLane.call(ExecutionLane.ANALYTICAL, joinPoint::proceed);
+    }
+
+    /** Runs the work holding a permit of the current thread's lane. */
+    public <T> T call(Work<T> work) throws Throwable {
+        int[] held = depth.get();
+        if (held[0] > 0) {
+            held[0]++;
+            try {
+                return work.run();
+            } finally {
+                held[0]--;
+            }
+        }
+
+        Lane lane = lanes.get(ExecutionLane.current());
+        acquire(lane);
+        held[0] = 1;
+        try {
+            return work.run();
+        } finally {
+            held[0] = 0;
+            lane.permits.release();
+        }
+    }
+
+    /**
+     * Runs the work in {@code lane}, holding one of its permits throughout. For work that needs a
+     * connection for longer than any single repository call, such as an export streaming from
+     * an open cursor.
+     */
+    public <T> T call(ExecutionLane lane, Work<T> work) throws Throwable {
+        return ExecutionLane.call(lane, () -> call(work));
+    }
+
+    private void acquire(Lane lane) {
+        if (lane == lanes.get(ExecutionLane.ANALYTICAL) && lanes.get(ExecutionLane.TRANSACTIONAL).waiting.get() > 0) {
+            throw lane.reject("yielded");
+        }
+        if (lane.permits.tryAcquire()) {
+            lane.waited.record(0, TimeUnit.NANOSECONDS);
+            return;
+        }
+        if (lane.waiting.incrementAndGet() > lane.maxWaiting) {
+            lane.waiting.decrementAndGet();
+            throw lane.reject("queue-full");
+        }
+        long started = System.nanoTime();
+        try {
+            if (!lane.permits.tryAcquire(lane.waitTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                throw lane.reject("timeout");
+            }
+            lane.waited.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceBusyException("Interrupted while waiting for the database");
+        } finally {
+            lane.waiting.decrementAndGet();
+        }
+    }
+
+    @FunctionalInterface
+    public interface Work<T> {
+        T run() throws Throwable;
+    }
+
+    private static final class Lane {
+        private final String name;
+        private final Semaphore permits;
+        private final int maxWaiting;
+        private final long waitTimeoutNanos;
+        private final AtomicInteger waiting = new AtomicInteger();
+        private final Timer waited;
+        private final MeterRegistry registry;
+
+        private Lane(String name, int permits, int maxWaiting, Duration waitTimeout, MeterRegistry registry) {
+            this.name = name;
+            this.permits = new Semaphore(permits, true);
+            this.maxWaiting = maxWaiting;
+            this.waitTimeoutNanos = waitTimeout.toNanos();
+            this.registry = registry;
+            Gauge.builder("mes.database.concurrency.permits", () -> permits)
+                .description("Database permits of the lane")
+                .tag("lane", name)
+                .register(registry);
+            Gauge.builder("mes.database.concurrency.active", this.permits, semaphore -> permits - semaphore.availablePermits())
+                .description("Threads holding a database permit")
+                .tag("lane", name)
+                .register(registry);
+            Gauge.builder("mes.database.concurrency.waiting", waiting, AtomicInteger::get)
+                .description("Threads queued for a database permit")
+                .tag("lane", name)
+                .register(registry);
+            this.waited = Timer.builder("mes.database.concurrency.wait")
+                .description("Time admitted database work spent queued for a permit")
+                .tag("lane", name)
+                .register(registry);
+        }
+
+        private ServiceBusyException reject(String reason) {
+            Counter.builder("mes.database.concurrency.rejected")
+                .description("Requests turned away because the database queue was full or too slow")
+                .tag("lane", name)
+                .tag("reason", reason)
+                .register(registry)
+                .increment();
+            return new ServiceBusyException("Database is busy, please retry");
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.mes.config.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * The lane database work on the current thread belongs to. Shop-floor work (work order
+ * transitions, work logs, issues) runs in {@link #TRANSACTIONAL}, the default; dashboards, list
+ * pages and exports run in {@link #ANALYTICAL}, entered through {@link AnalyticalLane} or
+ * {@link #analytical}. Each lane has its own permits in {@link DatabaseConcurrencyLimiter} and,
+ * with {@code mes.datasource.analytics.enabled}, its own connection pool.
+ */
+public enum ExecutionLane {
+
+    TRANSACTIONAL,
+    ANALYTICAL;
+
+    private static final ThreadLocal<ExecutionLane> CURRENT = new ThreadLocal<>();
+
+    public static ExecutionLane current() {
+        ExecutionLane lane = CURRENT.get();
+        return lane != null ? lane : TRANSACTIONAL;
+    }
+
+    /**
+     * Runs the work in the analytical lane. For analytical work that leaves the request thread,
+     * such as background dashboard reloads, where the caller's lane does not follow.
+     */
+    public static <T> T analytical(Supplier<T> work) {
+        ExecutionLane outer = CURRENT.get();
+        CURRENT.set(ANALYTICAL);
+        try {
+            return work.get();
+        } finally {
+            restore(outer);
+        }
+    }
+
+    static <T> T call(ExecutionLane lane, DatabaseConcurrencyLimiter.Work<T> work) throws Throwable {
+        ExecutionLane outer = CURRENT.get();
+        CURRENT.set(lane);
+        try {
+            return work.run();
+        } finally {
+            restore(outer);
+        }
+    }
+
+    private static void restore(ExecutionLane outer) {
+        if (outer == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(outer);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.mes.config.datasource;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends read-only transactions of the analytical lane to their own connection pool on the
+ * primary database and everything else to the primary pool (enabled with
+ * {@code mes.datasource.analytics.enabled}, when there is no replica to route reads to).
+ *
+ * Like {@link ReadWriteRoutingDataSource} it is exposed through a
+ * {@link LazyConnectionDataSourceProxy}, so the target is picked once the transaction's
+ * read-only flag is known. Analytical work that writes still uses the primary pool.
+ */
+public class LaneRoutingDataSource extends AbstractRoutingDataSource {
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && ExecutionLane.current() == ExecutionLane.ANALYTICAL) {
+            return ExecutionLane.ANALYTICAL;
+        }
+        return ExecutionLane.TRANSACTIONAL;
+    }
+}
@@ -0,0 +1,104 @@
+package com.mes.config.datasource;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Sends read-only transactions to the replica pool and everything else to the primary
+ * (enabled with {@code mes.datasource.replica.enabled}).
+ *
+ * The target is picked when a transaction first needs a physical connection, which is why the
+ * bean is exposed through a {@link LazyConnectionDataSourceProxy}: by then the transaction's
+ * read-only flag is known. A read-only transaction still goes to the primary while the replica
+ * is further behind than the configured tolerance, while the current user is inside the
+ * read-your-writes window after a commit, and inside {@link #onPrimary}.
+ *
+ * {@link #setOnReplicaRouted} runs on the transaction's thread each time it is sent to the
+ * replica, before its first statement; the JPA setup uses it to keep replica reads out of the
+ * shared second-level cache.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target { PRIMARY, REPLICA }
+
+    private static final ThreadLocal<Boolean> PRIMARY_ONLY = new ThreadLocal<>();
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesTracker writeTracker;
+
+    private final AtomicLong primaryConnections = new AtomicLong();
+    private final AtomicLong replicaConnections = new AtomicLong();
+    private final AtomicLong lagFallbacks = new AtomicLong();
+    private final AtomicLong stickyFallbacks = new AtomicLong();
+    private volatile Runnable onReplicaRouted = () -> { };
+
+    public ReadWriteRoutingDataSource(ReplicaLagMonitor lagMonitor, ReadYourWritesTracker writeTracker) {
+        this.lagMonitor = lagMonitor;
+        this.writeTracker = writeTracker;
+    }
+
+    public void setOnReplicaRouted(Runnable onReplicaRouted) {
+        this.onReplicaRouted = onReplicaRouted;
+    }
+
+    /**
+     * Runs the work with read-only transactions pinned to the primary. Meant for reads whose
+     * result is cached, so a lagging replica cannot seed a cache with stale rows. Only affects
+     * transactions that start inside the call.
+     */
+    public static <T> T onPrimary(Supplier<T> work) {
+        Boolean outer = PRIMARY_ONLY.get();
+        PRIMARY_ONLY.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            if (outer == null) {
+                PRIMARY_ONLY.remove();
+            }
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            writeTracker.recordWriteOnCommit();
+            return primary();
+        }
+        if (PRIMARY_ONLY.get() != null) {
+            return primary();
+        }
+        if (writeTracker.isCurrentUserSticky()) {
+            stickyFallbacks.incrementAndGet();
+            return primary();
+        }
+        if (!lagMonitor.isReplicaUsable()) {
+            lagFallbacks.incrementAndGet();
+            return primary();
+        }
+        replicaConnections.incrementAndGet();
+        onReplicaRouted.run();
+        return Target.REPLICA;
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("primaryConnections", primaryConnections.get());
+        stats.put("replicaConnections", replicaConnections.get());
+        stats.put("lagFallbacks", lagFallbacks.get());
+        stats.put("stickyFallbacks", stickyFallbacks.get());
+        stats.put("stickyUsers", writeTracker.size());
+        stats.put("replica", lagMonitor.stats());
+        return stats;
+    }
+
+    private Target primary() {
+        primaryConnections.incrementAndGet();
+        return Target.PRIMARY;
+    }
+}
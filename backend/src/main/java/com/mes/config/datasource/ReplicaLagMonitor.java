@@ -0,0 +1,109 @@
+package com.mes.config.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Measures replica lag with a heartbeat row: every interval the primary's {@code replica_heartbeat}
+ * row gets the current time, and the replica's copy of that row shows how far behind it is. Lag is
+ * the gap between the last beat this instance wrote and the beat the replica has applied, so it is
+ * accurate to one interval and independent of clock differences between database hosts.
+ *
+ * The replica is usable only while the measured lag is within {@code max-lag}; a missing row, a
+ * failed query or no measurement yet all count as unusable, and reads fall back to the primary.
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private static final String CREATE_HEARTBEAT_TABLE =
+        "CREATE TABLE IF NOT EXISTS replica_heartbeat (id INT PRIMARY KEY, beat_at TIMESTAMP(6) NOT NULL)";
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final Duration maxLag;
+
+    private boolean tableReady;
+    private LocalDateTime lastBeat;
+    private volatile Duration lag;
+    private volatile boolean usable;
+    private volatile String lastFailure;
+
+    public ReplicaLagMonitor(DataSource primary, DataSource replica, Duration maxLag) {
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(replica);
+        this.maxLag = maxLag;
+    }
+
+    public boolean isReplicaUsable() {
+        return usable;
+    }
+
+    @Scheduled(initialDelayString = "${mes.datasource.replica.heartbeat-interval:PT1S}",
+               fixedDelayString = "${mes.datasource.replica.heartbeat-interval:PT1S}")
+    public synchronized void check() {
+        // Read the replica before beating, so the previous beat has had a full interval to arrive
+        measureLag();
+        try {
+            beat();
+        } catch (DataAccessException e) {
+            log.warn("Replica heartbeat could not be written to the primary", e);
+        }
+    }
+
+    public Map<String, Object> stats() {
+        Duration current = lag;
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("usable", usable);
+        stats.put("lagMillis", current != null ? current.toMillis() : null);
+        stats.put("maxLagMillis", maxLag.toMillis());
+        stats.put("lastFailure", lastFailure);
+        return stats;
+    }
+
+    private void measureLag() {
+        if (lastBeat == null) {
+            return;
+        }
+        try {
+            Timestamp applied = replica.queryForObject(
+                "SELECT beat_at FROM replica_heartbeat WHERE id = 1", Timestamp.class);
+            Duration behind = Duration.between(applied.toLocalDateTime(), lastBeat);
+            lag = behind.isNegative() ? Duration.ZERO : behind;
+            lastFailure = null;
+        } catch (DataAccessException e) {
+            lag = null;
+            lastFailure = e.toString();
+        }
+
+        boolean nowUsable = lag != null && lag.compareTo(maxLag) <= 0;
+        if (nowUsable != usable) {
+            log.info("Replica {} (lag {})", nowUsable ? "usable for read-only transactions" : "bypassed", lag);
+        }
+        usable = nowUsable;
+    }
+
+    private void beat() {
+        if (!tableReady) {
+            primary.execute(CREATE_HEARTBEAT_TABLE);
+            tableReady = true;
+        }
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        Timestamp beatAt = Timestamp.valueOf(now);
+        if (primary.update("UPDATE replica_heartbeat SET beat_at = ? WHERE id = 1", beatAt) == 0) {
+            primary.update("INSERT INTO replica_heartbeat (id, beat_at) VALUES (1, ?)", beatAt);
+        }
+        lastBeat = now;
+    }
+}
@@ -0,0 +1,100 @@
+package com.mes.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+@Configuration
+@ConditionalOnProperty(prefix = "mes.datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+    // spring.datasource.* 는 primary(쓰기) 풀, mes.datasource.replica.* 는 읽기 전용 트랜잭션용 replica 풀
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("mes.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                              @Value("${mes.datasource.replica.url}") String url,
+                                              @Value("${mes.datasource.replica.username:${spring.datasource.username}}") String username,
+                                              @Value("${mes.datasource.replica.password:${spring.datasource.password:}}") String password) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+            .type(HikariDataSource.class)
+            .driverClassName(properties.determineDriverClassName())
+            .url(url)
+            .username(username)
+            .password(password)
+            .build();
+        dataSource.setPoolName("replica");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("primaryDataSource") DataSource primary,
+                                               @Qualifier("replicaDataSource") DataSource replica,
+                                               @Value("${mes.datasource.replica.max-lag:PT2S}") Duration maxLag) {
+        return new ReplicaLagMonitor(primary, replica, maxLag);
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(@Value("${mes.datasource.replica.sticky-window:PT5S}") Duration stickyWindow,
+                                                       @Value("${mes.datasource.replica.sticky-max-users:10000}") long maxUsers) {
+        return new ReadYourWritesTracker(stickyWindow, maxUsers);
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource routingDataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                                        @Qualifier("replicaDataSource") DataSource replica,
+                                                        ReplicaLagMonitor lagMonitor,
+                                                        ReadYourWritesTracker writeTracker) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(lagMonitor, writeTracker);
+        routing.setTargetDataSources(Map.of(
+            ReadWriteRoutingDataSource.Target.PRIMARY, primary,
+            ReadWriteRoutingDataSource.Target.REPLICA, replica));
+        routing.setDefaultTargetDataSource(primary);
+        return routing;
+    }
+
+    // replica 로 라우팅된 세션은 2차 캐시를 읽기만 하고 채우지 않음: 지연된 replica 행이 무효화된 User 등을 캐시에 되살리지 않도록
+    @Bean
+    public SmartInitializingSingleton replicaSessionCacheMode(ReadWriteRoutingDataSource routingDataSource,
+                                                              EntityManagerFactory entityManagerFactory) {
+        return () -> routingDataSource.setOnReplicaRouted(() -> {
+            EntityManagerHolder holder =
+                (EntityManagerHolder) TransactionSynchronizationManager.getResource(entityManagerFactory);
+            if (holder != null) {
+                holder.getEntityManager().unwrap(Session.class).setCacheMode(CacheMode.GET);
+            }
+        });
+    }
+
+    // JPA/JdbcTemplate 이 사용하는 DataSource: 첫 SQL 실행 시점(트랜잭션 readOnly 여부 확정 후)에 대상 결정
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
@@ -0,0 +1,64 @@
+package com.mes.config.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Times every call through an outbound port ({@code WorkOrderPort}, {@code IssuePort},
+ * {@code WorkLogPort}, {@code UserPort}, ...) as {@code mes.port}, tagged with the port, the
+ * method and the exception type ("none" on success). Controllers are covered by Spring's own
+ * {@code http.server.requests}; histogram buckets for both are switched on in application.yml.
+ */
+@Aspect
+@Component
+public class PortMetricsAspect {
+
+    static final String PORT_PACKAGE = "com.mes.application.port.out";
+
+    private final MeterRegistry registry;
+    private final ConcurrentHashMap<Method, String> portNames = new ConcurrentHashMap<>();
+
+    public PortMetricsAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("execution(* com.mes.application.port.out..*Port.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(registry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+            sample.stop(Timer.builder("mes.port")
+                .description("Outbound port calls")
+                .tag("port", portNames.computeIfAbsent(method, PortMetricsAspect::portName))
+                .tag("method", method.getName())
+                .tag("exception", exception)
+                .register(registry));
+        }
+    }
+
+    /** The port interface that declares the method, rather than the adapter class implementing it. */
+    private static String portName(Method method) {
+        for (Class<?> type : ClassUtils.getAllInterfacesForClassAsSet(method.getDeclaringClass())) {
+            if (type.getPackageName().equals(PORT_PACKAGE)
+                    && ClassUtils.hasMethod(type, method.getName(), method.getParameterTypes())) {
+                return type.getSimpleName();
+            }
+        }
+        return method.getDeclaringClass().getSimpleName();
+    }
+}
@@ -0,0 +1,40 @@
+package com.mes.config.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Attached to every Hibernate session ({@code hibernate.session.events.auto}); adds statement
+ * executions and batches to the request's {@link RequestQueryStats}. Does nothing on threads
+ * without an open diagnostic request.
+ */
+public class QueryStatsSessionListener implements SessionEventListener {
+
+    private long startedAt;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        startedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        startedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record();
+    }
+
+    private void record() {
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats != null) {
+            stats.record(System.nanoTime() - startedAt);
+        }
+    }
+}
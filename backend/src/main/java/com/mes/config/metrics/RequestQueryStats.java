@@ -0,0 +1,45 @@
+package com.mes.config.metrics;
+
+/**
+ * JDBC statements executed on the current request thread and the time spent in them, collected
+ * by {@link QueryStatsSessionListener} while {@link QueryDiagnosticsFilter} has a request open.
+ * A JDBC batch counts as one statement.
+ */
+public final class RequestQueryStats {
+
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long nanos;
+
+    private RequestQueryStats() {
+    }
+
+    static RequestQueryStats begin() {
+        RequestQueryStats stats = new RequestQueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /** Stats for the request on this thread, or null when diagnostics are off. */
+    static RequestQueryStats current() {
+        return CURRENT.get();
+    }
+
+    void record(long elapsedNanos) {
+        statements++;
+        nanos += elapsedNanos;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public double getMillis() {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,11 @@
+package com.mes.domain.exception;
+
+/**
+ * A status change the entity's current state does not allow, or one that lost a race with a
+ * concurrent change. Reported to clients as 409, unlike other {@link IllegalStateException}s.
+ */
+public class InvalidStateTransitionException extends IllegalStateException {
+    public InvalidStateTransitionException(String message) {
+        super(message);
+    }
+}
@@ -1,5 +1,7 @@
 package com.mes.domain.model;
 
+import com.mes.domain.exception.InvalidStateTransitionException;
+
 import java.time.LocalDateTime;
 
 public class Issue {
@@ -21,7 +23,7 @@ public class Issue {
     
     public void resolve() {
         if (!"OPEN".equals(this.status) && !"IN_PROGRESS".equals(this.status)) {
-            throw new IllegalStateException("Can only resolve open or in-progress issues");
+            throw new InvalidStateTransitionException("Can only resolve open or in-progress issues");
         }
         this.status = "RESOLVED";
         this.resolvedAt = LocalDateTime.now();
@@ -29,7 +31,7 @@ public class Issue {
     
     public void close() {
         if (!"RESOLVED".equals(this.status)) {
-            throw new IllegalStateException("Can only close resolved issues");
+            throw new InvalidStateTransitionException("Can only close resolved issues");
         }
         this.status = "CLOSED";
     }
@@ -1,8 +1,13 @@
 package com.mes.domain.model;
 
+import com.mes.domain.exception.InvalidStateTransitionException;
+
 import java.time.LocalDateTime;
+import java.util.Set;
 
 public class WorkOrder {
+    private static final Set<String> PRIORITIES = Set.of("LOW", "MEDIUM", "HIGH", "URGENT");
+    
     private Long id;
     private String orderNumber;
     private String productName;
@@ -14,10 +19,14 @@ public class WorkOrder {
     private String instructions;
     private Integer progress;
     private Long assignedToId;
+    private String assignedToName;
     private LocalDateTime startedAt;
     private LocalDateTime completedAt;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Integer actualQuantity;
+    private String notes;
+    private Long version;
     
     public WorkOrder() {
         this.priority = "MEDIUM";
@@ -27,7 +36,7 @@ public class WorkOrder {
     
     public void startWork() {
         if (!"PENDING".equals(this.status)) {
-            throw new IllegalStateException("Can only start work from PENDING status");
+            throw new InvalidStateTransitionException("Can only start work from PENDING status");
         }
         this.status = "IN_PROGRESS";
         this.startedAt = LocalDateTime.now();
@@ -35,7 +44,7 @@ public class WorkOrder {
     
     public void completeWork() {
         if (!"IN_PROGRESS".equals(this.status)) {
-            throw new IllegalStateException("Can only complete work from IN_PROGRESS status");
+            throw new InvalidStateTransitionException("Can only complete work from IN_PROGRESS status");
         }
         this.status = "COMPLETED";
         this.progress = 100;
@@ -43,10 +52,20 @@ public class WorkOrder {
     }
     
     public void updateProgress(Integer newProgress) {
-        if (newProgress < 0 || newProgress > 100) {
+        validateProgress(newProgress);
+        this.progress = newProgress;
+    }
+    
+    public static void validateProgress(Integer progress) {
+        if (progress < 0 || progress > 100) {
             throw new IllegalArgumentException("Progress must be between 0 and 100");
         }
-        this.progress = newProgress;
+    }
+    
+    public static void validatePriority(String priority) {
+        if (!PRIORITIES.contains(priority)) {
+            throw new IllegalArgumentException("Invalid priority: " + priority);
+        }
     }
     
     public Long getId() { return id; }
@@ -82,6 +101,9 @@ public class WorkOrder {
     public Long getAssignedToId() { return assignedToId; }
     public void setAssignedToId(Long assignedToId) { this.assignedToId = assignedToId; }
     
+    public String getAssignedToName() { return assignedToName; }
+    public void setAssignedToName(String assignedToName) { this.assignedToName = assignedToName; }
+    
     public LocalDateTime getStartedAt() { return startedAt; }
     public void setStartedAt(LocalDateTime startedAt) { this.startedAt = startedAt; }
     
@@ -93,4 +115,13 @@ public class WorkOrder {
     
     public LocalDateTime getUpdatedAt() { return updatedAt; }
     public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+    
+    public Integer getActualQuantity() { return actualQuantity; }
+    public void setActualQuantity(Integer actualQuantity) { this.actualQuantity = actualQuantity; }
+    
+    public String getNotes() { return notes; }
+    public void setNotes(String notes) { this.notes = notes; }
+    
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
 }
\ No newline at end of file
@@ -25,12 +25,17 @@ CREATE TABLE IF NOT EXISTS work_orders (
     assigned_to_id BIGINT,
     started_at TIMESTAMP NULL,
     completed_at TIMESTAMP NULL,
+    actual_quantity INT NULL,
+    notes TEXT,
+    version BIGINT NOT NULL DEFAULT 0,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     FOREIGN KEY (assigned_to_id) REFERENCES users(id) ON DELETE SET NULL,
     INDEX idx_work_orders_status (status),
     INDEX idx_work_orders_due_date (due_date),
-    INDEX idx_work_orders_assigned_to (assigned_to_id)
+    INDEX idx_work_orders_assigned_to (assigned_to_id),
+    INDEX idx_work_orders_created_at (created_at DESC, id DESC),
+    INDEX idx_work_orders_production (created_at, product_name, status, quantity, actual_quantity)
 );
 
 -- 작업 로그 테이블
@@ -40,12 +45,15 @@ CREATE TABLE IF NOT EXISTS work_logs (
     worker_id BIGINT NOT NULL,
     action VARCHAR(50) NOT NULL,
     notes TEXT,
+    description TEXT,
     progress INT,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    logged_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     FOREIGN KEY (work_order_id) REFERENCES work_orders(id) ON DELETE CASCADE,
     FOREIGN KEY (worker_id) REFERENCES users(id) ON DELETE CASCADE,
-    INDEX idx_work_logs_work_order (work_order_id),
-    INDEX idx_work_logs_worker (worker_id)
+    INDEX idx_work_logs_work_order_logged_at (work_order_id, logged_at),
+    INDEX idx_work_logs_worker (worker_id),
+    INDEX idx_work_logs_logged_at (logged_at DESC, id DESC)
 );
 
 -- 이슈 테이블
@@ -63,7 +71,29 @@ CREATE TABLE IF NOT EXISTS issues (
     FOREIGN KEY (reported_by) REFERENCES users(id) ON DELETE CASCADE,
     INDEX idx_issues_work_order (work_order_id),
     INDEX idx_issues_status (status),
-    INDEX idx_issues_reported_by (reported_by)
+    INDEX idx_issues_reported_by (reported_by),
+    INDEX idx_issues_created_at (created_at DESC, id DESC)
+);
+
+-- 풀링 ID 할당 테이블 (work_logs, issues 배치 INSERT용, 애플리케이션 시작 시 MAX(id) 기준으로 정렬)
+CREATE TABLE IF NOT EXISTS id_sequences (
+    sequence_name VARCHAR(255) PRIMARY KEY,
+    next_val BIGINT
+);
+
+-- 복제 지연 측정용 하트비트 (mes.datasource.replica.enabled 시 primary에 1초마다 갱신)
+CREATE TABLE IF NOT EXISTS replica_heartbeat (
+    id INT PRIMARY KEY,
+    beat_at TIMESTAMP(6) NOT NULL
+);
+
+-- 폐기된 토큰 (로그아웃, 리프레시 토큰 교체), 토큰 만료 시각이 지나면 정리
+CREATE TABLE IF NOT EXISTS revoked_tokens (
+    token_id VARCHAR(64) PRIMARY KEY,
+    expires_at TIMESTAMP NOT NULL,
+    revoked_at TIMESTAMP NOT NULL,
+    INDEX idx_revoked_tokens_revoked_at (revoked_at),
+    INDEX idx_revoked_tokens_expires_at (expires_at)
 );
 
 -- 초기 관리자 계정 생성 (비밀번호는 애플리케이션에서 암호화 필요)
@@ -0,0 +1,54 @@
+package com.mes.mes_inno;
+
+import com.mes.config.datasource.ExecutionLane;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Read-only transactions of the analytical lane should borrow from the analytics pool, leaving
+ * the primary pool to shop-floor work; anything that writes stays on the primary pool.
+ */
+@SpringBootTest(properties = "mes.datasource.analytics.hikari.maximum-pool-size=2")
+@ActiveProfiles("test")
+class AnalyticsPoolTests {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    @Qualifier("analyticsDataSource")
+    private HikariDataSource analyticsDataSource;
+
+    @Test
+    void analyticalReadsUseTheAnalyticsPool() {
+        assertThat(ExecutionLane.analytical(() -> activeAnalyticsConnections(true))).isEqualTo(1);
+        assertThat(analyticsDataSource.getMaximumPoolSize()).isEqualTo(2);
+
+        assertThat(activeAnalyticsConnections(true)).isZero();
+        assertThat(ExecutionLane.analytical(() -> activeAnalyticsConnections(false))).isZero();
+    }
+
+    /** Active connections of the analytics pool, seen from inside a transaction that has run a query. */
+    private int activeAnalyticsConnections(boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status -> {
+            jdbcTemplate.queryForObject("SELECT COUNT(*) FROM work_orders", Long.class);
+            return analyticsDataSource.getHikariPoolMXBean() != null
+                ? analyticsDataSource.getHikariPoolMXBean().getActiveConnections()
+                : 0;
+        });
+    }
+}
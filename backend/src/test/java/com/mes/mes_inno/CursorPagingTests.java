@@ -0,0 +1,208 @@
+package com.mes.mes_inno;
+
+import com.jayway.jsonpath.JsonPath;
+import com.mes.adapter.in.web.security.CustomUserDetailsService;
+import com.mes.adapter.out.persistence.entity.Role;
+import com.mes.adapter.out.persistence.entity.User;
+import com.mes.adapter.out.persistence.entity.WorkLog;
+import com.mes.adapter.out.persistence.entity.WorkOrder;
+import com.mes.adapter.out.persistence.entity.enums.LogAction;
+import com.mes.adapter.out.persistence.entity.enums.WorkStatus;
+import com.mes.adapter.out.persistence.repository.UserRepository;
+import com.mes.adapter.out.persistence.repository.WorkLogRepository;
+import com.mes.adapter.out.persistence.repository.WorkOrderRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Keyset paging and DB-side filters of the work order and work log listings. Timestamps are
+ * pinned with ties on purpose, so the id tiebreaker decides the order across page boundaries.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CursorPagingTests {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2021, 6, 1, 8, 0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WorkOrderRepository workOrderRepository;
+
+    @Autowired
+    private WorkLogRepository workLogRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+    private UsernamePasswordAuthenticationToken manager;
+    private User assignee;
+    private User otherWorker;
+    private WorkOrder pagedOrder;
+    private final List<Long> pendingOrderIds = new ArrayList<>();
+
+    @BeforeAll
+    void seed() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        assignee = worker("cp-assignee@mes.com");
+        otherWorker = worker("cp-other@mes.com");
+
+        for (int i = 0; i < 7; i++) {
+            WorkOrder order = order("CP-" + i, WorkStatus.PENDING, assignee, BASE.plusHours(i / 2));
+            pendingOrderIds.add(order.getId());
+        }
+        order("CP-DONE", WorkStatus.COMPLETED, assignee, BASE);
+        order("CP-OTHER", WorkStatus.PENDING, otherWorker, BASE);
+        pagedOrder = order("CP-LOGS", WorkStatus.IN_PROGRESS, assignee, BASE);
+
+        for (int i = 0; i < 8; i++) {
+            log(pagedOrder, i % 2 == 0 ? assignee : otherWorker,
+                i % 4 == 0 ? LogAction.START : LogAction.UPDATE_PROGRESS, BASE.plusMinutes(i / 3));
+        }
+        log(pagedOrder, assignee, LogAction.UPDATE_PROGRESS, BASE.minusDays(1));
+        log(order("CP-ELSEWHERE", WorkStatus.PENDING, otherWorker, BASE), assignee, LogAction.UPDATE_PROGRESS, BASE);
+
+        CustomUserDetailsService.CustomUserDetails principal = new CustomUserDetailsService.CustomUserDetails(
+            1L, "manager@mes.com", "", "관리자", List.of(new SimpleGrantedAuthority("ROLE_MANAGER")), true);
+        manager = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+
+    @Test
+    void workOrderPagesWalkTheFilteredRowsOnceInKeysetOrder() throws Exception {
+        List<Long> expected = new ArrayList<>(pendingOrderIds);
+        expected.sort(Comparator.comparing((Long id) -> BASE.plusHours(pendingOrderIds.indexOf(id) / 2))
+            .thenComparing(id -> id).reversed());
+
+        List<Long> seen = walk(() -> get("/api/work-orders")
+            .param("status", "PENDING")
+            .param("assignedTo", assignee.getId().toString()), 3);
+
+        assertThat(seen).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void workLogPagesWalkTheFilteredRowsOnceInKeysetOrder() throws Exception {
+        List<WorkLog> logs = workLogRepository.findByWorkOrderIdOrderByCreatedAtDesc(pagedOrder.getId());
+        List<Long> expected = logs.stream()
+            .sorted(Comparator.comparing(WorkLog::getLoggedAt).thenComparing(WorkLog::getId).reversed())
+            .map(WorkLog::getId)
+            .toList();
+
+        List<Long> seen = walk(() -> get("/api/work-logs")
+            .param("workOrderId", pagedOrder.getId().toString()), 4);
+
+        assertThat(seen).hasSize(9).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void workLogFiltersArePushedIntoOneQuery() throws Exception {
+        statistics.clear();
+        String body = mockMvc.perform(get("/api/work-logs").with(authentication(manager))
+                .param("workOrderId", pagedOrder.getId().toString())
+                .param("userId", assignee.getId().toString())
+                .param("action", "UPDATE_PROGRESS")
+                .param("startDate", BASE.toLocalDate().toString())
+                .param("endDate", BASE.toLocalDate().toString()))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+
+        // Fetch-joined page only: no count query and no per-row lookups
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        List<Map<String, Object>> rows = JsonPath.read(body, "$.data");
+        assertThat(rows).hasSize(2).allSatisfy(row -> {
+            assertThat(((Number) row.get("workOrderId")).longValue()).isEqualTo(pagedOrder.getId());
+            assertThat(((Number) row.get("workerId")).longValue()).isEqualTo(assignee.getId());
+            assertThat(row.get("action")).isEqualTo("UPDATE_PROGRESS");
+        });
+    }
+
+    private List<Long> walk(Supplier<MockHttpServletRequestBuilder> filtered, int size) throws Exception {
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            MockHttpServletRequestBuilder request = filtered.get();
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            String body = mockMvc.perform(request.with(authentication(manager)).param("size", String.valueOf(size)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+            List<Number> ids = JsonPath.read(body, "$.data[*].id");
+            ids.forEach(id -> seen.add(id.longValue()));
+            boolean hasNext = JsonPath.read(body, "$.hasNext");
+            assertThat(ids).hasSize(hasNext ? size : ids.size());
+            cursor = hasNext ? JsonPath.read(body, "$.nextCursor") : null;
+        } while (cursor != null);
+        return seen;
+    }
+
+    private User worker(String email) {
+        User worker = new User();
+        worker.setEmail(email);
+        worker.setName("페이지 작업자");
+        worker.setRole(Role.WORKER);
+        worker.setPassword("{noop}password");
+        return userRepository.save(worker);
+    }
+
+    private WorkOrder order(String orderNumber, WorkStatus status, User assignedTo, LocalDateTime createdAt) {
+        WorkOrder order = new WorkOrder();
+        order.setOrderNumber(orderNumber);
+        order.setProductName("페이지 제품");
+        order.setQuantity(10);
+        order.setDueDate(BASE.plusDays(7));
+        order.setStatus(status);
+        order.setAssignedTo(assignedTo);
+        WorkOrder saved = workOrderRepository.save(order);
+        // @PrePersist stamps the current time; pin it so rows share timestamps
+        jdbcTemplate.update("UPDATE work_orders SET created_at = ? WHERE id = ?", createdAt, saved.getId());
+        return saved;
+    }
+
+    private void log(WorkOrder order, User worker, LogAction action, LocalDateTime loggedAt) {
+        WorkLog log = new WorkLog();
+        log.setWorkOrder(order);
+        log.setWorker(worker);
+        log.setAction(action);
+        log.setProgress(10);
+        Long id = workLogRepository.save(log).getId();
+        jdbcTemplate.update("UPDATE work_logs SET logged_at = ? WHERE id = ?", loggedAt, id);
+    }
+}
@@ -0,0 +1,122 @@
+package com.mes.mes_inno;
+
+import com.mes.adapter.in.web.cache.DashboardResponseCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Identical concurrent dashboard requests should run one query, and a stale result should be
+ * served while a single background load replaces it.
+ */
+class DashboardResponseCacheTests {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private DashboardResponseCache cache;
+
+    @AfterEach
+    void tearDown() {
+        if (cache != null) {
+            cache.shutdown();
+        }
+    }
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        cache = new DashboardResponseCache(Duration.ofMinutes(1), Duration.ofMinutes(1), 100, registry);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(callers.submit(() -> cache.get("production-summary", "null..null", () -> {
+                    loads.incrementAndGet();
+                    awaitRelease(release);
+                    return "summary";
+                })));
+            }
+            Thread.sleep(200);
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("summary");
+            }
+        } finally {
+            callers.shutdown();
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(requests("coalesced")).isEqualTo(7);
+        assertThat(registry.get("mes.dashboard.cache.loads").counter().count()).isEqualTo(1);
+
+        assertThat(cache.get("production-summary", "null..null", () -> "reloaded")).isEqualTo("summary");
+        assertThat(requests("fresh")).isEqualTo(1);
+    }
+
+    @Test
+    void staleResultIsServedWhileOneBackgroundLoadReplacesIt() {
+        cache = new DashboardResponseCache(Duration.ZERO, Duration.ofMinutes(1), 100, registry);
+        AtomicInteger version = new AtomicInteger();
+
+        assertThat(cache.get("recent-issues", "10", version::incrementAndGet)).isEqualTo(1);
+        assertThat(cache.get("recent-issues", "10", version::incrementAndGet)).isEqualTo(1);
+        assertThat(requests("stale")).isEqualTo(1);
+
+        await().atMost(Duration.ofSeconds(5))
+            .until(() -> cache.get("recent-issues", "10", version::incrementAndGet).equals(2));
+    }
+
+    @Test
+    void invalidationMakesFreshResultStale() {
+        cache = new DashboardResponseCache(Duration.ofMinutes(1), Duration.ofMinutes(1), 100, registry);
+        AtomicInteger version = new AtomicInteger();
+        cache.get("recent-work-orders", "10", version::incrementAndGet);
+        assertThat(cache.get("recent-work-orders", "10", version::incrementAndGet)).isEqualTo(1);
+        assertThat(version).hasValue(1);
+
+        cache.invalidateAll();
+
+        assertThat(cache.get("recent-work-orders", "10", version::incrementAndGet)).isEqualTo(1);
+        await().atMost(Duration.ofSeconds(5))
+            .until(() -> cache.get("recent-work-orders", "10", version::incrementAndGet).equals(2));
+        // Differently keyed results are separate
+        assertThat(cache.get("recent-work-orders", "20", () -> 20)).isEqualTo(20);
+    }
+
+    @Test
+    void failedLoadIsNotCached() {
+        cache = new DashboardResponseCache(Duration.ofMinutes(1), Duration.ofMinutes(1), 100, registry);
+
+        assertThatThrownBy(() -> cache.get("recent-activities", "20", () -> {
+            throw new IllegalStateException("database unavailable");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(cache.get("recent-activities", "20", () -> "loaded")).isEqualTo("loaded");
+    }
+
+    private double requests(String outcome) {
+        return registry.get("mes.dashboard.cache.requests").tag("outcome", outcome).counter().count();
+    }
+
+    private static void awaitRelease(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
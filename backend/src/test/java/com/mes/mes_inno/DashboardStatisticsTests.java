@@ -0,0 +1,136 @@
+package com.mes.mes_inno;
+
+import com.mes.application.event.WorkOrderChangedEvent;
+import com.mes.application.port.in.WorkOrderUseCase;
+import com.mes.application.port.out.IssuePort;
+import com.mes.application.port.out.WorkOrderPort;
+import com.mes.application.service.DashboardStatistics;
+import com.mes.domain.model.WorkOrder;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class DashboardStatisticsTests {
+
+    @Autowired
+    private DashboardStatistics dashboardStatistics;
+
+    @Autowired
+    private WorkOrderUseCase workOrderUseCase;
+
+    @Test
+    void incrementalCountsMatchAResyncAfterEveryTransition() {
+        Map<String, Object> before = resynced();
+
+        WorkOrderUseCase.CreateWorkOrderCommand command = new WorkOrderUseCase.CreateWorkOrderCommand();
+        command.setOrderNumber("DS-" + System.nanoTime());
+        command.setProductName("볼트");
+        command.setQuantity(10);
+        command.setDueDate(LocalDateTime.now().plusDays(1));
+        command.setPriority("HIGH");
+        Long id = workOrderUseCase.createWorkOrder(command).getId();
+
+        Map<String, Object> created = assertMatchesResync();
+        assertThat(delta(before, created, "totalWorkOrders")).isEqualTo(1);
+        assertThat(delta(before, created, "pendingWorkOrders")).isEqualTo(1);
+        assertThat(delta(before, created, "todayWorkOrders")).isEqualTo(1);
+
+        workOrderUseCase.startWork(id);
+        Map<String, Object> started = assertMatchesResync();
+        assertThat(delta(created, started, "pendingWorkOrders")).isEqualTo(-1);
+        assertThat(delta(created, started, "inProgressWorkOrders")).isEqualTo(1);
+
+        workOrderUseCase.completeWork(id, 10, null);
+        Map<String, Object> completed = assertMatchesResync();
+        assertThat(delta(started, completed, "inProgressWorkOrders")).isEqualTo(-1);
+        assertThat(delta(started, completed, "completedWorkOrders")).isEqualTo(1);
+        assertThat(delta(started, completed, "todayCompletedOrders")).isEqualTo(1);
+
+        workOrderUseCase.deleteWorkOrder(id);
+        Map<String, Object> deleted = assertMatchesResync();
+        assertThat(deleted).isEqualTo(before);
+    }
+
+    @Test
+    void anImportedChunkIsCountedOnce() {
+        Map<String, Object> before = resynced();
+
+        List<WorkOrderUseCase.CreateWorkOrderCommand> commands = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            WorkOrderUseCase.CreateWorkOrderCommand command = new WorkOrderUseCase.CreateWorkOrderCommand();
+            command.setOrderNumber("DS-IMP-" + System.nanoTime() + "-" + i);
+            command.setProductName("너트");
+            command.setQuantity(5);
+            command.setDueDate(LocalDateTime.now().plusDays(1));
+            commands.add(command);
+        }
+        workOrderUseCase.importWorkOrders(commands);
+
+        Map<String, Object> imported = assertMatchesResync();
+        assertThat(delta(before, imported, "totalWorkOrders")).isEqualTo(3);
+        assertThat(delta(before, imported, "pendingWorkOrders")).isEqualTo(3);
+    }
+
+    @Test
+    void anEventDeliveredWhileCountingIsNotAppliedTwice() throws Exception {
+        WorkOrderPort workOrderPort = mock(WorkOrderPort.class);
+        DashboardStatistics statistics = new DashboardStatistics(workOrderPort, mock(IssuePort.class));
+
+        WorkOrder order = new WorkOrder();
+        order.setId(1L);
+        order.setStatus("PENDING");
+        order.setCreatedAt(LocalDateTime.now());
+
+        // The order commits while the counts run; its listener fires before they return
+        AtomicInteger resyncs = new AtomicInteger();
+        Thread[] listener = new Thread[1];
+        when(workOrderPort.countByStatus()).thenAnswer(invocation -> {
+            switch (resyncs.incrementAndGet()) {
+                case 1:
+                    return Map.of();
+                case 2:
+                    listener[0] = new Thread(() -> statistics.onWorkOrderChanged(WorkOrderChangedEvent.created(order)));
+                    listener[0].start();
+                    listener[0].join(1000);
+                    return Map.of("PENDING", 1L);
+                default:
+                    return Map.of("PENDING", 1L);
+            }
+        });
+
+        statistics.resync();
+        statistics.resync();
+        listener[0].join();
+
+        assertThat(statistics.snapshot().get("totalWorkOrders")).isEqualTo(1L);
+        assertThat(statistics.snapshot().get("pendingWorkOrders")).isEqualTo(1L);
+    }
+
+    private Map<String, Object> resynced() {
+        dashboardStatistics.resync();
+        return dashboardStatistics.snapshot();
+    }
+
+    private Map<String, Object> assertMatchesResync() {
+        Map<String, Object> incremental = dashboardStatistics.snapshot();
+        assertThat(resynced()).isEqualTo(incremental);
+        return incremental;
+    }
+
+    private static long delta(Map<String, Object> from, Map<String, Object> to, String key) {
+        return (Long) to.get(key) - (Long) from.get(key);
+    }
+}
@@ -0,0 +1,164 @@
+package com.mes.mes_inno;
+
+import com.mes.common.exception.ServiceBusyException;
+import com.mes.config.datasource.DatabaseConcurrencyLimiter;
+import com.mes.config.datasource.ExecutionLane;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Database work beyond the permits should queue briefly and then fail fast, never pile up
+ * without bound; nested calls on one thread must not need a second permit. A saturated
+ * analytical lane must leave the transactional lane untouched, and analytics gives way first.
+ */
+class DatabaseConcurrencyLimiterTests {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ExecutorService callers = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    void nestedCallsReuseThePermit() throws Throwable {
+        DatabaseConcurrencyLimiter limiter = limiter(1, 0, Duration.ofMillis(100));
+
+        String result = limiter.call(() -> limiter.call(() -> limiter.call(() -> "nested")));
+
+        assertThat(result).isEqualTo("nested");
+        // The permit is back: a later call does not wait
+        assertThat(limiter.call(() -> "again")).isEqualTo("again");
+    }
+
+    @Test
+    void callerWaitsForAPermitAndTimesOut() throws Exception {
+        DatabaseConcurrencyLimiter limiter = limiter(1, 5, Duration.ofMillis(200));
+        CountDownLatch release = hold(limiter);
+
+        long started = System.nanoTime();
+        assertThatThrownBy(() -> limiter.call(() -> "late")).isInstanceOf(ServiceBusyException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isGreaterThanOrEqualTo(Duration.ofMillis(150));
+
+        release.countDown();
+        Future<String> afterRelease = callers.submit(() -> call(limiter));
+        assertThat(afterRelease.get(5, TimeUnit.SECONDS)).isEqualTo("done");
+        assertThat(rejected("transactional", "timeout")).isEqualTo(1);
+    }
+
+    @Test
+    void fullQueueIsRejectedImmediately() throws Exception {
+        DatabaseConcurrencyLimiter limiter = limiter(1, 1, Duration.ofSeconds(5));
+        CountDownLatch release = hold(limiter);
+        Future<String> queued = callers.submit(() -> call(limiter));
+        Thread.sleep(100);
+        assertThat(registry.get("mes.database.concurrency.waiting").tag("lane", "transactional").gauge().value()).isEqualTo(1);
+
+        long started = System.nanoTime();
+        assertThatThrownBy(() -> limiter.call(() -> "third")).isInstanceOf(ServiceBusyException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(1));
+
+        release.countDown();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("done");
+    }
+
+    @Test
+    void saturatedAnalyticalLaneLeavesTransactionalPermitsAlone() throws Throwable {
+        DatabaseConcurrencyLimiter limiter = new DatabaseConcurrencyLimiter(1, 0, Duration.ofMillis(100),
+            1, 1, Duration.ofMillis(200), registry, environment());
+        CountDownLatch release = hold(limiter, ExecutionLane.ANALYTICAL);
+
+        assertThatThrownBy(() -> limiter.call(ExecutionLane.ANALYTICAL, () -> "second report"))
+            .isInstanceOf(ServiceBusyException.class);
+        assertThat(rejected("analytical", "timeout")).isEqualTo(1);
+
+        // The one transactional permit is still free, so this needs no queue at all
+        assertThat(limiter.call(() -> "progress update")).isEqualTo("progress update");
+        assertThat(registry.get("mes.database.concurrency.active").tag("lane", "analytical").gauge().value()).isEqualTo(1);
+        release.countDown();
+    }
+
+    @Test
+    void analyticalWorkIsShedWhileTransactionalWorkQueues() throws Exception {
+        DatabaseConcurrencyLimiter limiter = new DatabaseConcurrencyLimiter(1, 5, Duration.ofSeconds(5),
+            3, 5, Duration.ofSeconds(5), registry, environment());
+        CountDownLatch release = hold(limiter, ExecutionLane.TRANSACTIONAL);
+        Future<String> queued = callers.submit(() -> call(limiter));
+        Thread.sleep(100);
+
+        long started = System.nanoTime();
+        assertThatThrownBy(() -> limiter.call(ExecutionLane.ANALYTICAL, () -> "report"))
+            .isInstanceOf(ServiceBusyException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(1));
+        assertThat(rejected("analytical", "yielded")).isEqualTo(1);
+
+        release.countDown();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("done");
+        assertThat(call(limiter, ExecutionLane.ANALYTICAL, () -> "report")).isEqualTo("report");
+    }
+
+    @Test
+    void refusesToStartWithOpenSessionInView() {
+        assertThatThrownBy(() -> new DatabaseConcurrencyLimiter(1, 0, Duration.ZERO, 1, 0, Duration.ZERO,
+            registry, new MockEnvironment()))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("open-in-view");
+    }
+
+    private DatabaseConcurrencyLimiter limiter(int permits, int maxWaiting, Duration waitTimeout) {
+        return new DatabaseConcurrencyLimiter(permits, maxWaiting, waitTimeout, 1, 0, Duration.ZERO,
+            registry, environment());
+    }
+
+    private static MockEnvironment environment() {
+        return new MockEnvironment().withProperty("spring.jpa.open-in-view", "false");
+    }
+
+    private double rejected(String lane, String reason) {
+        return registry.get("mes.database.concurrency.rejected").tag("lane", lane).tag("reason", reason).counter().count();
+    }
+
+    /** Occupies one permit on another thread until the returned latch is released. */
+    private CountDownLatch hold(DatabaseConcurrencyLimiter limiter) throws InterruptedException {
+        return hold(limiter, ExecutionLane.TRANSACTIONAL);
+    }
+
+    private CountDownLatch hold(DatabaseConcurrencyLimiter limiter, ExecutionLane lane) throws InterruptedException {
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        callers.submit(() -> call(limiter, lane, () -> {
+            holding.countDown();
+            return release.await(5, TimeUnit.SECONDS);
+        }));
+        assertThat(holding.await(5, TimeUnit.SECONDS)).isTrue();
+        return release;
+    }
+
+    private static String call(DatabaseConcurrencyLimiter limiter) throws Exception {
+        return call(limiter, ExecutionLane.TRANSACTIONAL, () -> "done");
+    }
+
+    private static <T> T call(DatabaseConcurrencyLimiter limiter, ExecutionLane lane,
+                              DatabaseConcurrencyLimiter.Work<T> work) throws Exception {
+        try {
+            return limiter.call(lane, work);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
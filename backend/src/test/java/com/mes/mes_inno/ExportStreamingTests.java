@@ -0,0 +1,174 @@
+package com.mes.mes_inno;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mes.adapter.in.web.security.CustomUserDetailsService;
+import com.mes.adapter.out.persistence.entity.Role;
+import com.mes.adapter.out.persistence.entity.User;
+import com.mes.adapter.out.persistence.entity.WorkLog;
+import com.mes.adapter.out.persistence.entity.WorkOrder;
+import com.mes.adapter.out.persistence.entity.enums.LogAction;
+import com.mes.adapter.out.persistence.repository.UserRepository;
+import com.mes.adapter.out.persistence.repository.WorkLogRepository;
+import com.mes.adapter.out.persistence.repository.WorkOrderRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ExportStreamingTests {
+
+    private static final int LOGS = 2500;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WorkOrderRepository workOrderRepository;
+
+    @Autowired
+    private WorkLogRepository workLogRepository;
+
+    private String orderNumber;
+    private UsernamePasswordAuthenticationToken manager;
+
+    @BeforeAll
+    void seed() {
+        User user = new User();
+        user.setEmail("export-" + UUID.randomUUID() + "@mes.com");
+        user.setName("내보내기 작업자");
+        user.setRole(Role.WORKER);
+        user.setPassword("{noop}password");
+        user = userRepository.save(user);
+
+        orderNumber = "EXP-" + UUID.randomUUID();
+        WorkOrder order = new WorkOrder();
+        order.setOrderNumber(orderNumber);
+        order.setProductName("내보내기 제품, \"특수\"");
+        order.setQuantity(100);
+        order.setDueDate(LocalDateTime.now().plusDays(7));
+        order = workOrderRepository.save(order);
+
+        List<WorkLog> logs = new ArrayList<>();
+        for (int i = 0; i < LOGS; i++) {
+            WorkLog log = new WorkLog();
+            log.setWorkOrder(order);
+            log.setWorker(user);
+            log.setAction(LogAction.UPDATE_PROGRESS);
+            log.setProgress(i % 101);
+            log.setNotes(i == 0 ? "첫 줄,\n둘째 줄 \"인용\"" : "log " + i);
+            logs.add(log);
+        }
+        workLogRepository.saveAll(logs);
+
+        CustomUserDetailsService.CustomUserDetails principal = new CustomUserDetailsService.CustomUserDetails(
+            1L, "manager@mes.com", "", "관리자", List.of(new SimpleGrantedAuthority("ROLE_MANAGER")), true);
+        manager = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+
+    @Test
+    void workLogsStreamAsNdjsonInLoggedAtOrder() throws Exception {
+        MvcResult result = export(get("/api/work-logs/export").param("format", "ndjson").with(authentication(manager)));
+        assertThat(result.getResponse().getContentType()).startsWith("application/x-ndjson");
+
+        List<JsonNode> rows = new ArrayList<>();
+        for (String line : result.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n")) {
+            JsonNode row = objectMapper.readTree(line);
+            if (orderNumber.equals(row.get("workOrderNumber").asText())) {
+                rows.add(row);
+            }
+        }
+        assertThat(rows).hasSize(LOGS);
+        assertThat(rows.get(0).get("notes").asText()).isEqualTo("첫 줄,\n둘째 줄 \"인용\"");
+        assertThat(rows.get(0).get("action").asText()).isEqualTo("UPDATE_PROGRESS");
+        for (int i = 1; i < rows.size(); i++) {
+            assertThat(rows.get(i).get("id").asLong()).isGreaterThan(rows.get(i - 1).get("id").asLong());
+        }
+    }
+
+    @Test
+    void csvQuotesFieldsAndHonoursTheDateRange() throws Exception {
+        MvcResult result = export(get("/api/work-orders/export").with(authentication(manager)));
+        String csv = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertThat(result.getResponse().getHeader(HttpHeaders.CONTENT_DISPOSITION)).contains("work-orders.csv");
+        assertThat(csv).startsWith("id,orderNumber,productName,");
+        assertThat(csv).contains("," + orderNumber + ",\"내보내기 제품, \"\"특수\"\"\",");
+
+        String tomorrow = LocalDate.now().plusDays(1).toString();
+        String empty = export(get("/api/work-logs/export").param("startDate", tomorrow).with(authentication(manager)))
+            .getResponse().getContentAsString(StandardCharsets.UTF_8);
+        assertThat(empty.split("\r\n")).hasSize(1);
+    }
+
+    @Test
+    void gzipIsUsedWhenTheClientAcceptsIt() throws Exception {
+        MvcResult result = export(get("/api/issues/export").param("format", "csv")
+            .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate")
+            .with(authentication(manager)));
+        assertThat(result.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gunzip(result.getResponse().getContentAsByteArray())).startsWith("id,workOrderId,workOrderNumber,title,");
+    }
+
+    @Test
+    void invalidFormatOrRangeIsRejected() throws Exception {
+        mockMvc.perform(get("/api/work-logs/export").param("format", "xlsx").with(authentication(manager)))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/work-logs/export").param("startDate", "2026-02-01").param("endDate", "2026-01-01")
+                .with(authentication(manager)))
+            .andExpect(status().isBadRequest());
+    }
+
+    private MvcResult export(MockHttpServletRequestBuilder request) throws Exception {
+        MvcResult started = mockMvc.perform(request)
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        return mockMvc.perform(asyncDispatch(started))
+            .andExpect(status().isOk())
+            .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)))
+            .andReturn();
+    }
+
+    private static String gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.mes.mes_inno;
+
+import com.mes.adapter.in.web.security.CustomUserDetailsService;
+import com.mes.adapter.in.web.security.JwtPrincipalCache;
+import com.mes.adapter.in.web.security.JwtTokenProvider;
+import com.mes.adapter.out.persistence.entity.Role;
+import com.mes.adapter.out.persistence.entity.User;
+import com.mes.adapter.out.persistence.repository.UserRepository;
+import com.mes.application.port.in.UserUseCase;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Bearer token authentication should hit the database once per user, not once per request,
+ * and must stop accepting a cached principal as soon as the user is changed.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class JwtAuthenticationCacheTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private JwtPrincipalCache principalCache;
+
+    @Autowired
+    private CustomUserDetailsService customUserDetailsService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserUseCase userUseCase;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        principalCache.invalidateAll();
+    }
+
+    @Test
+    void repeatedRequestsWithSameTokenSkipUserLookup() throws Exception {
+        User worker = saveWorker("cache-repeat@mes.com");
+        String token = tokenProvider.generateTokenFromUsername(worker.getEmail());
+
+        statistics.clear();
+        mockMvc.perform(get("/api/dashboard/stats").header("Authorization", "Bearer " + token))
+            .andExpect(status().isOk());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        statistics.clear();
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/api/dashboard/stats").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+        }
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void newTokenForKnownUserIsServedFromPrincipalCache() throws Exception {
+        User worker = saveWorker("cache-relogin@mes.com");
+        customUserDetailsService.loadUserByUsername(worker.getEmail());
+        long hits = customUserDetailsService.cacheStats().hitCount();
+
+        statistics.clear();
+        String token = tokenProvider.generateTokenFromUsername(worker.getEmail());
+        mockMvc.perform(get("/api/dashboard/stats").header("Authorization", "Bearer " + token))
+            .andExpect(status().isOk());
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(customUserDetailsService.cacheStats().hitCount()).isEqualTo(hits + 1);
+    }
+
+    @Test
+    void passwordChangeReloadsPrincipal() {
+        User worker = saveWorker("cache-password@mes.com");
+        assertThat(customUserDetailsService.loadUserByUsername(worker.getEmail()).getPassword())
+            .isEqualTo("{noop}password");
+
+        UserUseCase.UpdateUserCommand command = new UserUseCase.UpdateUserCommand();
+        command.setPassword("{noop}changed");
+        userUseCase.updateUser(worker.getId(), command);
+
+        assertThat(customUserDetailsService.loadUserByUsername(worker.getEmail()).getPassword())
+            .isEqualTo("{noop}changed");
+    }
+
+    @Test
+    void deactivatingUserEvictsCachedPrincipal() throws Exception {
+        User worker = saveWorker("cache-deactivate@mes.com");
+        String token = tokenProvider.generateTokenFromUsername(worker.getEmail());
+
+        mockMvc.perform(get("/api/dashboard/stats").header("Authorization", "Bearer " + token))
+            .andExpect(status().isOk());
+
+        UserUseCase.UpdateUserCommand command = new UserUseCase.UpdateUserCommand();
+        command.setIsActive(false);
+        userUseCase.updateUser(worker.getId(), command);
+
+        mockMvc.perform(get("/api/dashboard/stats").header("Authorization", "Bearer " + token))
+            .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void tamperedTokenIsRejected() throws Exception {
+        String token = tokenProvider.generateTokenFromUsername("manager@mes.com");
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        mockMvc.perform(get("/api/dashboard/stats").header("Authorization", "Bearer " + tampered))
+            .andExpect(status().isUnauthorized());
+    }
+
+    private User saveWorker(String email) {
+        User worker = new User();
+        worker.setEmail(email);
+        worker.setName("캐시 작업자");
+        worker.setRole(Role.WORKER);
+        worker.setPassword("{noop}password");
+        return userRepository.save(worker);
+    }
+}
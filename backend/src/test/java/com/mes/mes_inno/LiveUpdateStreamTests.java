@@ -0,0 +1,134 @@
+package com.mes.mes_inno;
+
+import com.mes.adapter.in.web.security.CustomUserDetailsService;
+import com.mes.adapter.in.web.stream.LiveUpdateHub;
+import com.mes.application.port.in.WorkOrderUseCase;
+import com.mes.domain.model.WorkOrder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * The coalescing tick is pushed out of the way so each test decides when to flush.
+ */
+@SpringBootTest(properties = "mes.live.coalesce-interval=PT1H")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class LiveUpdateStreamTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private LiveUpdateHub liveUpdateHub;
+
+    @Autowired
+    private WorkOrderUseCase workOrderUseCase;
+
+    private UsernamePasswordAuthenticationToken manager;
+
+    @BeforeEach
+    void setUp() {
+        CustomUserDetailsService.CustomUserDetails principal = new CustomUserDetailsService.CustomUserDetails(
+            1L, "manager@mes.com", "", "관리자", List.of(new SimpleGrantedAuthority("ROLE_MANAGER")), true);
+        manager = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+
+    @Test
+    void rapidProgressUpdatesAreCoalescedIntoOneEvent() throws Exception {
+        MvcResult stream = subscribe(null);
+        WorkOrder workOrder = createWorkOrder();
+        workOrderUseCase.startWork(workOrder.getId());
+        for (int progress = 10; progress <= 50; progress += 10) {
+            workOrderUseCase.updateProgress(workOrder.getId(), progress);
+        }
+        liveUpdateHub.flush();
+
+        String body = awaitContent(stream, "event:dashboard.stats");
+        assertThat(body).contains("event:work-order.created", "event:work-order.started");
+        assertThat(occurrences(body, "event:work-order.progress")).isEqualTo(1);
+        assertThat(body).contains("\"progress\":50");
+    }
+
+    @Test
+    void reconnectReplaysMissedEvents() throws Exception {
+        MvcResult first = subscribe(null);
+        WorkOrder workOrder = createWorkOrder();
+        String body = awaitContent(first, "\"orderNumber\":\"" + workOrder.getOrderNumber() + "\"");
+        long createdId = lastEventId(body);
+
+        workOrderUseCase.startWork(workOrder.getId());
+
+        MvcResult resumed = subscribe(createdId);
+        String replayed = awaitContent(resumed, "event:work-order.started");
+        assertThat(replayed).doesNotContain("event:work-order.created");
+    }
+
+    @Test
+    void reconnectBeyondReplayBufferAsksForResync() throws Exception {
+        MvcResult stream = subscribe(Long.MAX_VALUE - 1);
+        awaitContent(stream, "event:resync");
+    }
+
+    private MvcResult subscribe(Long lastEventId) throws Exception {
+        var builder = get("/api/live/stream").with(authentication(manager));
+        if (lastEventId != null) {
+            builder.header("Last-Event-ID", lastEventId);
+        }
+        return mockMvc.perform(builder)
+            .andExpect(request().asyncStarted())
+            .andReturn();
+    }
+
+    private WorkOrder createWorkOrder() {
+        WorkOrderUseCase.CreateWorkOrderCommand command = new WorkOrderUseCase.CreateWorkOrderCommand();
+        command.setOrderNumber("LIVE-" + UUID.randomUUID().toString().substring(0, 8));
+        command.setProductName("실시간 제품");
+        command.setQuantity(10);
+        command.setDueDate(LocalDateTime.now().plusDays(1));
+        return workOrderUseCase.createWorkOrder(command);
+    }
+
+    private static String awaitContent(MvcResult result, String expected) {
+        await().atMost(Duration.ofSeconds(5))
+            .until(() -> result.getResponse().getContentAsString().contains(expected));
+        try {
+            return result.getResponse().getContentAsString();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static int occurrences(String body, String token) {
+        return body.split(Pattern.quote(token), -1).length - 1;
+    }
+
+    private static long lastEventId(String body) {
+        Matcher matcher = Pattern.compile("^id:(\\d+)$", Pattern.MULTILINE).matcher(body);
+        long id = -1;
+        while (matcher.find()) {
+            id = Long.parseLong(matcher.group(1));
+        }
+        return id;
+    }
+}
@@ -0,0 +1,145 @@
+package com.mes.mes_inno;
+
+import com.mes.adapter.in.web.security.PasswordHashingExecutor;
+import com.mes.adapter.out.persistence.entity.Role;
+import com.mes.adapter.out.persistence.entity.User;
+import com.mes.adapter.out.persistence.repository.UserRepository;
+import com.mes.common.exception.ServiceBusyException;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "mes.security.password-hashing.bcrypt-strength=4")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class LoginTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoSpyBean
+    private PasswordEncoder passwordEncoder;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Mockito.clearInvocations(passwordEncoder);
+    }
+
+    @Test
+    void loginLooksUpTheUserOnceAndVerifiesTheHashOnce() throws Exception {
+        String email = createUser(new BCryptPasswordEncoder(4).encode("secret123"));
+        statistics.clear();
+
+        login(email, "secret123")
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.email").value(email))
+            .andExpect(jsonPath("$.role").value("WORKER"))
+            .andExpect(jsonPath("$.token").isNotEmpty());
+
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(1);
+        verify(passwordEncoder, times(1)).matches(anyString(), anyString());
+        // Same cost as configured, so no rehash
+        verify(passwordEncoder, times(0)).encode("secret123");
+    }
+
+    @Test
+    void wrongPasswordAndUnknownEmailBothCostOneHashAndAreRejected() throws Exception {
+        String email = createUser(new BCryptPasswordEncoder(4).encode("secret123"));
+        login(email, "wrong").andExpect(status().isUnauthorized());
+        verify(passwordEncoder, times(1)).matches(anyString(), anyString());
+
+        Mockito.clearInvocations(passwordEncoder);
+        login("nobody-" + UUID.randomUUID() + "@mes.com", "secret123").andExpect(status().isUnauthorized());
+        // The dummy comparison that keeps unknown emails as slow as wrong passwords
+        verify(passwordEncoder, times(1)).matches(anyString(), anyString());
+    }
+
+    @Test
+    void loginRehashesPasswordsStoredWithAnotherCost() throws Exception {
+        String email = createUser(new BCryptPasswordEncoder(5).encode("secret123"));
+
+        login(email, "secret123").andExpect(status().isOk());
+
+        String stored = userRepository.findByEmail(email).orElseThrow().getPassword();
+        assertThat(stored).startsWith("$2a$04$");
+        assertThat(passwordEncoder.matches("secret123", stored)).isTrue();
+        login(email, "secret123").andExpect(status().isOk());
+    }
+
+    @Test
+    void saturatedHashingPoolFailsFastWithServiceBusy() throws Exception {
+        PasswordHashingExecutor executor = new PasswordHashingExecutor(1, 1, Duration.ofSeconds(5),
+            new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            // One task running, one queued: the pool and its queue are full
+            callers.submit(() -> executor.run(() -> release.await(5, TimeUnit.SECONDS)));
+            Thread.sleep(100);
+            callers.submit(() -> executor.run(() -> release.await(5, TimeUnit.SECONDS)));
+            Thread.sleep(100);
+
+            assertThatThrownBy(() -> executor.run(() -> "third")).isInstanceOf(ServiceBusyException.class);
+        } finally {
+            release.countDown();
+            callers.shutdown();
+            executor.shutdown();
+        }
+    }
+
+    private String createUser(String passwordHash) {
+        User user = new User();
+        user.setEmail("login-" + UUID.randomUUID() + "@mes.com");
+        user.setName("로그인 사용자");
+        user.setRole(Role.WORKER);
+        user.setPassword(passwordHash);
+        user.setIsActive(true);
+        return userRepository.save(user).getEmail();
+    }
+
+    private ResultActions login(String email, String password) throws Exception {
+        return mockMvc.perform(post("/api/auth/login")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}"));
+    }
+}
@@ -0,0 +1,96 @@
+package com.mes.mes_inno;
+
+import com.mes.adapter.in.web.security.CustomUserDetailsService;
+import com.mes.application.port.in.WorkOrderUseCase;
+import com.mes.domain.model.WorkOrder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "mes.diagnostics.query-headers=true")
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+class ObservabilityTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private WorkOrderUseCase workOrderUseCase;
+
+    private UsernamePasswordAuthenticationToken manager;
+
+    @BeforeEach
+    void setUp() {
+        CustomUserDetailsService.CustomUserDetails principal = new CustomUserDetailsService.CustomUserDetails(
+            1L, "manager@mes.com", "", "관리자", List.of(new SimpleGrantedAuthority("ROLE_MANAGER")), true);
+        manager = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+
+    @Test
+    void diagnosticHeadersReportTheRequestsQueries() throws Exception {
+        Long id = createWorkOrder().getId();
+
+        mockMvc.perform(get("/api/work-orders/" + id).with(authentication(manager)))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Query-Count", "1"))
+            .andExpect(header().exists("X-DB-Time"));
+
+        mockMvc.perform(get("/api/work-orders/" + Long.MAX_VALUE).with(authentication(manager)))
+            .andExpect(status().isNotFound())
+            .andExpect(header().string("X-Query-Count", "1"));
+    }
+
+    @Test
+    void prometheusScrapeCoversEndpointsPortsHibernateAndPool() throws Exception {
+        workOrderUseCase.findWorkOrderById(createWorkOrder().getId());
+        mockMvc.perform(get("/api/work-orders").with(authentication(manager)))
+            .andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+            .andExpect(status().isOk())
+            .andExpect(content().string(containsString("http_server_requests_seconds_bucket{")))
+            .andExpect(content().string(containsString("mes_port_seconds_bucket{")))
+            .andExpect(content().string(containsString("port=\"WorkOrderPort\"")))
+            .andExpect(content().string(containsString("method=\"findById\"")))
+            .andExpect(content().string(containsString("hibernate_statements_total")))
+            .andExpect(content().string(containsString("hibernate_entities_loads_total")))
+            .andExpect(content().string(containsString("hikaricp_connections_active")));
+    }
+
+    @Test
+    void otherActuatorEndpointsRequireAuthentication() throws Exception {
+        mockMvc.perform(get("/actuator/health"))
+            .andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/metrics"))
+            .andExpect(status().isUnauthorized());
+    }
+
+    private WorkOrder createWorkOrder() {
+        WorkOrderUseCase.CreateWorkOrderCommand command = new WorkOrderUseCase.CreateWorkOrderCommand();
+        command.setOrderNumber("OB-" + UUID.randomUUID());
+        command.setProductName("계측 제품");
+        command.setQuantity(10);
+        command.setDueDate(LocalDateTime.now().plusDays(1));
+        return workOrderUseCase.createWorkOrder(command);
+    }
+}
@@ -0,0 +1,102 @@
+package com.mes.mes_inno;
+
+import com.mes.adapter.in.web.security.CustomUserDetailsService;
+import com.mes.adapter.out.persistence.entity.WorkOrder;
+import com.mes.adapter.out.persistence.entity.enums.WorkStatus;
+import com.mes.adapter.out.persistence.repository.WorkOrderRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ProductionSummaryTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private WorkOrderRepository workOrderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private UsernamePasswordAuthenticationToken manager;
+
+    @BeforeAll
+    void seed() {
+        // Midnight boundaries on purpose: both must be counted, each in its own day
+        save("PS-1", "볼트", 100, WorkStatus.COMPLETED, 90, LocalDateTime.of(2020, 3, 1, 0, 0));
+        save("PS-2", "볼트", 50, WorkStatus.COMPLETED, null, LocalDateTime.of(2020, 3, 1, 23, 59, 59, 500_000_000));
+        save("PS-3", "너트", 40, WorkStatus.IN_PROGRESS, null, LocalDateTime.of(2020, 3, 2, 0, 0));
+        save("PS-4", "너트", 10, WorkStatus.PENDING, null, LocalDateTime.of(2020, 3, 3, 0, 0));
+
+        CustomUserDetailsService.CustomUserDetails principal = new CustomUserDetailsService.CustomUserDetails(
+            1L, "manager@mes.com", "", "관리자", List.of(new SimpleGrantedAuthority("ROLE_MANAGER")), true);
+        manager = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+
+    @Test
+    void aggregatesByProductAndDayWithInclusiveEndDate() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(get("/api/dashboard/production-summary?startDate=2020-03-01&endDate=2020-03-02")
+                .with(authentication(manager)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalQuantityOrdered").value(190))
+            .andExpect(jsonPath("$.totalQuantityProduced").value(140))
+            .andExpect(jsonPath("$.productionRate").value(73.68))
+            .andExpect(jsonPath("$.byProduct[0].productName").value("너트"))
+            .andExpect(jsonPath("$.byProduct[0].ordered").value(40))
+            .andExpect(jsonPath("$.byProduct[0].produced").value(0))
+            .andExpect(jsonPath("$.byProduct[1].productName").value("볼트"))
+            .andExpect(jsonPath("$.byProduct[1].produced").value(140))
+            .andExpect(jsonPath("$.byDate.length()").value(2))
+            .andExpect(jsonPath("$.byDate[0].date").value("2020-03-01"))
+            .andExpect(jsonPath("$.byDate[0].ordered").value(150))
+            .andExpect(jsonPath("$.byDate[1].date").value("2020-03-02"))
+            .andExpect(jsonPath("$.byDate[1].ordered").value(40));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    private void save(String orderNumber, String product, int quantity, WorkStatus status,
+                      Integer actualQuantity, LocalDateTime createdAt) {
+        WorkOrder order = new WorkOrder();
+        order.setOrderNumber(orderNumber);
+        order.setProductName(product);
+        order.setQuantity(quantity);
+        order.setStatus(status);
+        order.setActualQuantity(actualQuantity);
+        order.setDueDate(createdAt.plusDays(7));
+        Long id = workOrderRepository.save(order).getId();
+        // created_at is stamped by @PrePersist, so backdate it directly
+        jdbcTemplate.update("UPDATE work_orders SET created_at = ? WHERE id = ?", createdAt, id);
+    }
+}
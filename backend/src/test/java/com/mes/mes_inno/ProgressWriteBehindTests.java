@@ -0,0 +1,234 @@
+package com.mes.mes_inno;
+
+import com.mes.adapter.in.web.security.CustomUserDetailsService;
+import com.mes.adapter.out.persistence.repository.WorkOrderRepository;
+import com.mes.application.port.in.WorkOrderUseCase;
+import com.mes.application.port.out.WorkOrderPort;
+import com.mes.application.service.ProgressWriteBuffer;
+import com.mes.domain.model.WorkOrder;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.doThrow;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Write-behind mode with the periodic flush pushed out of the way so each test flushes explicitly.
+ */
+@SpringBootTest(properties = {
+    "mes.work-orders.progress-write-behind.enabled=true",
+    "mes.work-orders.progress-write-behind.flush-interval=PT1H"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProgressWriteBehindTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private WorkOrderUseCase workOrderUseCase;
+
+    @Autowired
+    private WorkOrderRepository workOrderRepository;
+
+    @Autowired
+    private ProgressWriteBuffer progressBuffer;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockitoSpyBean
+    private WorkOrderPort workOrderPort;
+
+    private Statistics statistics;
+    private UsernamePasswordAuthenticationToken manager;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        CustomUserDetailsService.CustomUserDetails principal = new CustomUserDetailsService.CustomUserDetails(
+            1L, "manager@mes.com", "", "관리자", List.of(new SimpleGrantedAuthority("ROLE_MANAGER")), true);
+        manager = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+
+    @Test
+    void ticksAreCoalescedAndVisibleBeforeTheFlush() throws Exception {
+        Long id = startedWorkOrder();
+
+        statistics.clear();
+        for (int progress = 5; progress <= 60; progress += 5) {
+            sendProgress(id, progress);
+        }
+        // Only the first tick reads the row; nothing is written yet
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(workOrderRepository.findById(id).orElseThrow().getProgress()).isZero();
+
+        mockMvc.perform(get("/api/work-orders/" + id).with(authentication(manager)))
+            .andExpect(jsonPath("$.progress").value(60));
+
+        progressBuffer.flush();
+        assertThat(workOrderRepository.findById(id).orElseThrow().getProgress()).isEqualTo(60);
+        assertThat(progressBuffer.pending(id)).isEmpty();
+    }
+
+    @Test
+    void stateTransitionWritesThePendingTickItself() throws Exception {
+        Long id = startedWorkOrder();
+        sendProgress(id, 40);
+
+        workOrderUseCase.updateWorkOrder(id, new WorkOrderUseCase.UpdateWorkOrderCommand());
+
+        assertThat(progressBuffer.pending(id)).isEmpty();
+        assertThat(workOrderRepository.findById(id).orElseThrow().getProgress()).isEqualTo(40);
+    }
+
+    @Test
+    void lateFlushDoesNotOverwriteNewerWrite() throws Exception {
+        Long id = startedWorkOrder();
+        sendProgress(id, 30);
+
+        // Another instance completes the order after the tick was buffered here
+        com.mes.adapter.out.persistence.entity.WorkOrder row = workOrderRepository.findById(id).orElseThrow();
+        row.setProgress(100);
+        workOrderRepository.save(row);
+
+        long stale = (long) progressBuffer.stats().get("staleRows");
+        progressBuffer.flush();
+        assertThat(workOrderRepository.findById(id).orElseThrow().getProgress()).isEqualTo(100);
+        assertThat((long) progressBuffer.stats().get("staleRows")).isEqualTo(stale + 1);
+    }
+
+    @Test
+    void flushIsNotMistakenForStaleWhenTheStoredTimestampRoundsUp() throws Exception {
+        Long id = startedWorkOrder();
+        sendProgress(id, 20);
+        progressBuffer.flush();
+
+        // A second-precision TIMESTAMP column stores the flush time rounded up past the next tick
+        sendProgress(id, 25);
+        LocalDateTime rounded = progressBuffer.pending(id).orElseThrow().getUpdatedAt().plusSeconds(1).withNano(0);
+        jdbcTemplate.update("UPDATE work_orders SET updated_at = ? WHERE id = ?", rounded, id);
+
+        progressBuffer.flush();
+        assertThat(workOrderRepository.findById(id).orElseThrow().getProgress()).isEqualTo(25);
+    }
+
+    @Test
+    void tickArrivingDuringAFlushIsWrittenByTheNextOne() throws Exception {
+        Long id = startedWorkOrder();
+        sendProgress(id, 50);
+
+        doAnswer(invocation -> {
+            workOrderUseCase.updateProgress(id, 80);
+            return invocation.callRealMethod();
+        }).doCallRealMethod().when(workOrderPort).updateProgress(anyList());
+
+        progressBuffer.flush();
+        assertThat(workOrderRepository.findById(id).orElseThrow().getProgress()).isEqualTo(50);
+        assertThat(progressBuffer.progressOf(id, 0)).isEqualTo(80);
+
+        long stale = (long) progressBuffer.stats().get("staleRows");
+        progressBuffer.flush();
+        assertThat(workOrderRepository.findById(id).orElseThrow().getProgress()).isEqualTo(80);
+        assertThat((long) progressBuffer.stats().get("staleRows")).isEqualTo(stale);
+        assertThat(progressBuffer.pending(id)).isEmpty();
+    }
+
+    @Test
+    void flushHoldsATransactionalDatabasePermit() throws Exception {
+        Long id = startedWorkOrder();
+        sendProgress(id, 45);
+
+        AtomicReference<Double> active = new AtomicReference<>();
+        doAnswer(invocation -> {
+            active.set(meterRegistry.get("mes.database.concurrency.active").tag("lane", "transactional").gauge().value());
+            return invocation.callRealMethod();
+        }).when(workOrderPort).updateProgress(anyList());
+
+        progressBuffer.flush();
+        assertThat(active.get()).isEqualTo(1.0);
+        assertThat(workOrderRepository.findById(id).orElseThrow().getProgress()).isEqualTo(45);
+    }
+
+    @Test
+    void tickForAMissingOrderIsNotFound() throws Exception {
+        mockMvc.perform(put("/api/work-orders/" + Long.MAX_VALUE + "/progress").with(authentication(manager))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"progress\": 10}"))
+            .andExpect(status().isNotFound());
+        assertThat(progressBuffer.pending(Long.MAX_VALUE)).isEmpty();
+    }
+
+    @Test
+    void failedFlushKeepsTicksBufferedAndRetries() throws Exception {
+        Long id = startedWorkOrder();
+        sendProgress(id, 70);
+
+        doThrow(new DataAccessResourceFailureException("database unavailable"))
+            .doCallRealMethod()
+            .when(workOrderPort).updateProgress(anyList());
+
+        long failures = (long) progressBuffer.stats().get("failedFlushes");
+        progressBuffer.flush();
+        assertThat((long) progressBuffer.stats().get("failedFlushes")).isEqualTo(failures + 1);
+        assertThat(progressBuffer.stats().get("lastFailure")).asString().contains("database unavailable");
+        assertThat(progressBuffer.progressOf(id, 0)).isEqualTo(70);
+
+        progressBuffer.flush();
+        assertThat(workOrderRepository.findById(id).orElseThrow().getProgress()).isEqualTo(70);
+        assertThat(progressBuffer.pending(id)).isEmpty();
+    }
+
+    private void sendProgress(Long id, int progress) throws Exception {
+        mockMvc.perform(put("/api/work-orders/" + id + "/progress").with(authentication(manager))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"progress\": " + progress + "}"))
+            .andExpect(status().isOk());
+    }
+
+    private Long startedWorkOrder() {
+        WorkOrderUseCase.CreateWorkOrderCommand command = new WorkOrderUseCase.CreateWorkOrderCommand();
+        command.setOrderNumber("WB-" + UUID.randomUUID());
+        command.setProductName("버퍼 제품");
+        command.setQuantity(10);
+        command.setDueDate(LocalDateTime.now().plusDays(3));
+        WorkOrder created = workOrderUseCase.createWorkOrder(command);
+        workOrderUseCase.startWork(created.getId());
+        return created.getId();
+    }
+}
@@ -0,0 +1,206 @@
+package com.mes.mes_inno;
+
+import com.jayway.jsonpath.JsonPath;
+import com.mes.adapter.in.web.security.CustomUserDetailsService;
+import com.mes.adapter.out.persistence.entity.Issue;
+import com.mes.adapter.out.persistence.entity.Role;
+import com.mes.adapter.out.persistence.entity.User;
+import com.mes.adapter.out.persistence.entity.WorkLog;
+import com.mes.adapter.out.persistence.entity.WorkOrder;
+import com.mes.adapter.out.persistence.entity.enums.LogAction;
+import com.mes.adapter.out.persistence.repository.IssueRepository;
+import com.mes.adapter.out.persistence.repository.UserRepository;
+import com.mes.adapter.out.persistence.repository.WorkLogRepository;
+import com.mes.adapter.out.persistence.repository.WorkOrderRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Guards list/detail endpoints against N+1 regressions: each request must issue a fixed number
+ * of JDBC statements no matter how many distinct assignees/reporters/workers the rows reference.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryCountTests {
+
+    private static final int ROWS = 20;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WorkOrderRepository workOrderRepository;
+
+    @Autowired
+    private WorkLogRepository workLogRepository;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    private Statistics statistics;
+    private UsernamePasswordAuthenticationToken manager;
+    private Long workOrderId;
+    private Long workLogId;
+    private Long issueId;
+
+    @BeforeAll
+    void seed() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        List<User> workers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            User worker = new User();
+            worker.setEmail("qc-worker" + i + "@mes.com");
+            worker.setName("작업자" + i);
+            worker.setRole(Role.WORKER);
+            worker.setPassword("{noop}password");
+            workers.add(userRepository.save(worker));
+        }
+
+        List<WorkOrder> orders = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            WorkOrder order = new WorkOrder();
+            order.setOrderNumber("QC-" + i);
+            order.setProductName("제품" + (i % 3));
+            order.setQuantity(10 + i);
+            order.setDueDate(LocalDateTime.now().plusDays(7));
+            order.setAssignedTo(workers.get(i % workers.size()));
+            orders.add(workOrderRepository.save(order));
+        }
+        workOrderId = orders.get(0).getId();
+
+        for (int i = 0; i < ROWS; i++) {
+            WorkLog log = new WorkLog();
+            log.setWorkOrder(orders.get(i % 4));
+            log.setWorker(workers.get(i % workers.size()));
+            log.setAction(LogAction.UPDATE_PROGRESS);
+            log.setProgress(i * 5);
+            workLogId = workLogRepository.save(log).getId();
+
+            Issue issue = new Issue();
+            issue.setWorkOrder(orders.get(i));
+            issue.setReporter(workers.get(i % workers.size()));
+            issue.setTitle("이슈" + i);
+            issue.setDescription("설명" + i);
+            issueId = issueRepository.save(issue).getId();
+        }
+
+        User managerUser = userRepository.findByEmail("manager@mes.com").orElseThrow();
+        CustomUserDetailsService.CustomUserDetails principal = new CustomUserDetailsService.CustomUserDetails(
+            managerUser.getId(), managerUser.getEmail(), managerUser.getPassword(), managerUser.getName(),
+            List.of(new SimpleGrantedAuthority("ROLE_MANAGER")), true);
+        manager = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+
+    @Test
+    void workOrderListIsOneQuery() throws Exception {
+        assertStatements("/api/work-orders?size=" + ROWS, 1);
+    }
+
+    @Test
+    void workOrderDetailIsOneQuery() throws Exception {
+        assertStatements("/api/work-orders/" + workOrderId, 1);
+    }
+
+    @Test
+    void issueListIsOneQuery() throws Exception {
+        assertStatements("/api/issues", 1);
+    }
+
+    @Test
+    void issueDetailIsOneQuery() throws Exception {
+        assertStatements("/api/issues/" + issueId, 1);
+    }
+
+    @Test
+    void workLogListIsOneQuery() throws Exception {
+        assertStatements("/api/work-logs?size=" + ROWS, 1);
+    }
+
+    @Test
+    void workLogsByWorkOrderIsOneQuery() throws Exception {
+        assertStatements("/api/work-logs/work-order/" + workOrderId, 1);
+    }
+
+    @Test
+    void workLogDetailIsOneQuery() throws Exception {
+        assertStatements("/api/work-logs/" + workLogId, 1);
+    }
+
+    @Test
+    void recentWorkOrdersIsOneQuery() throws Exception {
+        assertStatements("/api/dashboard/recent-work-orders", 1);
+    }
+
+    @Test
+    void recentIssuesIsOneQuery() throws Exception {
+        assertStatements("/api/dashboard/recent-issues", 1);
+    }
+
+    @Test
+    void recentActivitiesMergesTwoBoundedQueries() throws Exception {
+        assertStatements("/api/dashboard/recent-activities?limit=10", 2);
+        mockMvc.perform(get("/api/dashboard/recent-activities?limit=10").with(authentication(manager)))
+            .andExpect(jsonPath("$.length()").value(10))
+            .andExpect(result -> {
+                List<String> timestamps = JsonPath.read(
+                    result.getResponse().getContentAsString(), "$[*].timestamp");
+                assertThat(timestamps).isSortedAccordingTo(Comparator.reverseOrder());
+            });
+    }
+
+    @Test
+    void workOrderUpdateReturnsSavedStateWithoutReadBack() throws Exception {
+        Long id = workOrderRepository.findByOrderNumber("QC-1").orElseThrow().getId();
+        statistics.clear();
+        mockMvc.perform(put("/api/work-orders/" + id).with(authentication(manager))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"productName\": \"변경된 제품\"}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.productName").value("변경된 제품"))
+            .andExpect(jsonPath("$.assignedToName").value("작업자1"));
+        // One joined SELECT for the row and its assignee, one UPDATE
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+    
+    private void assertStatements(String url, long expected) throws Exception {
+        statistics.clear();
+        mockMvc.perform(get(url).with(authentication(manager)))
+            .andExpect(status().isOk());
+        assertThat(statistics.getPrepareStatementCount())
+            .as("JDBC statements for GET %s", url)
+            .isEqualTo(expected);
+    }
+}
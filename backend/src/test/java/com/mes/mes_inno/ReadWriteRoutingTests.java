@@ -0,0 +1,218 @@
+package com.mes.mes_inno;
+
+import com.mes.adapter.in.web.security.CustomUserDetailsService;
+import com.mes.adapter.out.persistence.entity.User;
+import com.mes.adapter.out.persistence.repository.UserRepository;
+import com.mes.application.port.in.UserUseCase;
+import com.mes.application.port.in.WorkOrderUseCase;
+import com.mes.config.datasource.ReadWriteRoutingDataSource;
+import com.mes.config.datasource.ReplicaLagMonitor;
+import com.mes.domain.model.WorkOrder;
+import com.jayway.jsonpath.JsonPath;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Two embedded H2 databases stand in for primary and replica; "replication" is an H2 SCRIPT of
+ * the primary replayed into the replica, so the tests control exactly how far behind it is.
+ */
+@SpringBootTest(properties = {
+    "mes.datasource.replica.enabled=true",
+    "mes.datasource.replica.url=jdbc:h2:mem:mes_replica_${random.uuid};MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+    "mes.datasource.replica.max-lag=PT0.2S",
+    "mes.datasource.replica.heartbeat-interval=PT1H",
+    "mes.datasource.replica.sticky-window=PT1M"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReadWriteRoutingTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private WorkOrderUseCase workOrderUseCase;
+
+    @Autowired
+    private UserUseCase userUseCase;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ReplicaLagMonitor lagMonitor;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @BeforeEach
+    void catchUpReplica() throws Exception {
+        lagMonitor.check();
+        replicate();
+        lagMonitor.check();
+        assertThat(lagMonitor.isReplicaUsable()).isTrue();
+    }
+
+    @Test
+    void readOnlyTransactionsReadTheReplicaAndWritesGoToThePrimary() throws Exception {
+        WorkOrder replicated = createWorkOrder();
+        replicate();
+        WorkOrder unreplicated = createWorkOrder();
+
+        assertThat(orderNumbers(workOrderUseCase.findAllWorkOrders()))
+            .contains(replicated.getOrderNumber())
+            .doesNotContain(unreplicated.getOrderNumber());
+        assertThat(workOrderUseCase.findWorkOrderById(unreplicated.getId())).isEmpty();
+
+        assertThat(ReadWriteRoutingDataSource.onPrimary(() -> workOrderUseCase.findWorkOrderById(unreplicated.getId())))
+            .isPresent();
+        assertThat(new JdbcTemplate(primaryDataSource).queryForObject(
+            "SELECT COUNT(*) FROM work_orders WHERE id = ?", Long.class, unreplicated.getId())).isEqualTo(1);
+    }
+
+    @Test
+    void laggingReplicaIsBypassed() throws Exception {
+        WorkOrder unreplicated = createWorkOrder();
+        Thread.sleep(300);
+        lagMonitor.check();
+        Thread.sleep(300);
+        lagMonitor.check();
+
+        assertThat(lagMonitor.isReplicaUsable()).isFalse();
+        assertThat(workOrderUseCase.findWorkOrderById(unreplicated.getId())).isPresent();
+
+        mockMvc.perform(get("/api/admin/datasources").with(authentication(user("admin@mes.com", "ROLE_ADMIN"))))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.replicaRouting").value(true))
+            .andExpect(jsonPath("$.replica.usable").value(false))
+            .andExpect(jsonPath("$.lagFallbacks").isNumber());
+    }
+
+    @Test
+    void writerReadsItsOwnWritesFromThePrimary() throws Exception {
+        String orderNumber = "RW-" + UUID.randomUUID();
+        String response = mockMvc.perform(post("/api/work-orders").with(authentication(user("writer@mes.com", "ROLE_MANAGER")))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"orderNumber\": \"" + orderNumber + "\", \"productName\": \"라우팅 제품\", "
+                    + "\"quantity\": 10, \"dueDate\": \"" + LocalDateTime.now().plusDays(1).withNano(0) + "\"}"))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+        long id = ((Number) JsonPath.read(response, "$.id")).longValue();
+
+        mockMvc.perform(get("/api/work-orders/" + id).with(authentication(user("writer@mes.com", "ROLE_MANAGER"))))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.orderNumber").value(orderNumber));
+        mockMvc.perform(get("/api/work-orders/" + id).with(authentication(user("reader@mes.com", "ROLE_MANAGER"))))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void writeAfterAReadOnlyCheckInTheSameRequestCommitsOnThePrimary() throws Exception {
+        JdbcTemplate primary = new JdbcTemplate(primaryDataSource);
+        long workerId = primary.queryForObject("SELECT id FROM users WHERE email = 'worker@mes.com'", Long.class);
+        WorkOrder order = createWorkOrder(workerId);
+        replicate();
+
+        // The worker's assignment check reads the replica before the UPDATE in the same request
+        mockMvc.perform(put("/api/work-orders/" + order.getId() + "/start")
+                .with(authentication(user(workerId, "worker@mes.com", "ROLE_WORKER"))))
+            .andExpect(status().isOk());
+
+        assertThat(primary.queryForObject("SELECT status FROM work_orders WHERE id = ?", String.class, order.getId()))
+            .isEqualTo("IN_PROGRESS");
+        assertThat(new JdbcTemplate(replicaDataSource).queryForObject(
+            "SELECT status FROM work_orders WHERE id = ?", String.class, order.getId())).isEqualTo("PENDING");
+    }
+
+    @Test
+    void replicaReadsDoNotRefillTheSecondLevelCache() {
+        JdbcTemplate primary = new JdbcTemplate(primaryDataSource);
+        long workerId = primary.queryForObject("SELECT id FROM users WHERE email = 'worker@mes.com'", Long.class);
+        String renamed = "이름 변경 " + UUID.randomUUID();
+        // Committed on the primary only; the change evicted the cached row
+        primary.update("UPDATE users SET name = ? WHERE id = ?", renamed, workerId);
+        entityManagerFactory.getCache().evict(User.class, workerId);
+
+        assertThat(userUseCase.findUserById(workerId).orElseThrow().getName()).isNotEqualTo(renamed);
+        assertThat(entityManagerFactory.getCache().contains(User.class, workerId)).isFalse();
+
+        assertThat(ReadWriteRoutingDataSource.onPrimary(() -> userRepository.findById(workerId)).orElseThrow().getName())
+            .isEqualTo(renamed);
+    }
+
+    private void replicate() throws Exception {
+        Path script = Files.createTempFile("mes-replica", ".sql");
+        try {
+            String file = script.toAbsolutePath().toString().replace('\\', '/');
+            new JdbcTemplate(primaryDataSource).execute("SCRIPT TO '" + file + "'");
+            JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+            replica.execute("DROP ALL OBJECTS");
+            replica.execute("RUNSCRIPT FROM '" + file + "'");
+        } finally {
+            Files.deleteIfExists(script);
+        }
+    }
+
+    private WorkOrder createWorkOrder() {
+        return createWorkOrder(null);
+    }
+
+    private WorkOrder createWorkOrder(Long assignedToId) {
+        WorkOrderUseCase.CreateWorkOrderCommand command = new WorkOrderUseCase.CreateWorkOrderCommand();
+        command.setAssignedToId(assignedToId);
+        command.setOrderNumber("RW-" + UUID.randomUUID());
+        command.setProductName("라우팅 제품");
+        command.setQuantity(10);
+        command.setDueDate(LocalDateTime.now().plusDays(1));
+        return workOrderUseCase.createWorkOrder(command);
+    }
+
+    private static List<String> orderNumbers(List<WorkOrder> workOrders) {
+        return workOrders.stream().map(WorkOrder::getOrderNumber).collect(Collectors.toList());
+    }
+
+    private static UsernamePasswordAuthenticationToken user(String email, String role) {
+        return user(1L, email, role);
+    }
+
+    private static UsernamePasswordAuthenticationToken user(long id, String email, String role) {
+        CustomUserDetailsService.CustomUserDetails principal = new CustomUserDetailsService.CustomUserDetails(
+            id, email, "", "라우팅 사용자", List.of(new SimpleGrantedAuthority(role)), true);
+        return new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+}
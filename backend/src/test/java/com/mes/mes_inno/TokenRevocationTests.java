@@ -0,0 +1,141 @@
+package com.mes.mes_inno;
+
+import com.mes.adapter.in.web.security.JwtTokenProvider;
+import com.mes.adapter.in.web.security.TokenRevocationList;
+import com.mes.adapter.out.persistence.entity.Role;
+import com.mes.adapter.out.persistence.entity.User;
+import com.mes.adapter.out.persistence.repository.RevokedTokenRepository;
+import com.mes.adapter.out.persistence.repository.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Claims;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Logged out and rotated tokens must stop working immediately, including tokens whose
+ * principal is already cached, and revocations written by another node must be picked up.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TokenRevocationTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider tokenProvider;
+
+    @Autowired
+    private TokenRevocationList revocations;
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void logoutRevokesCachedAccessTokenWithoutPerRequestQueries() throws Exception {
+        String email = saveWorker();
+        String accessToken = tokenProvider.generateTokenFromUsername(email);
+        String refreshToken = tokenProvider.generateRefreshToken(email);
+        stats(accessToken).andExpect(status().isOk());
+
+        // Cached principal plus the in-memory revocation check: no queries
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        stats(accessToken).andExpect(status().isOk());
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        mockMvc.perform(post("/api/auth/logout")
+                .header("Authorization", "Bearer " + accessToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"refreshToken\":\"" + refreshToken + "\"}"))
+            .andExpect(status().isOk());
+
+        stats(accessToken).andExpect(status().isUnauthorized());
+        refresh(refreshToken).andExpect(status().isUnauthorized());
+        assertThat(revokedTokenRepository.count()).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    void refreshTokenWorksOnce() throws Exception {
+        String email = saveWorker();
+        String refreshToken = tokenProvider.generateRefreshToken(email);
+
+        String body = refresh(refreshToken).andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        JsonNode rotated = objectMapper.readTree(body);
+
+        refresh(refreshToken).andExpect(status().isUnauthorized());
+        refresh(rotated.get("refreshToken").asText()).andExpect(status().isOk());
+        stats(rotated.get("token").asText()).andExpect(status().isOk());
+    }
+
+    @Test
+    void revocationWrittenByAnotherNodeIsPickedUpOnSync() throws Exception {
+        String email = saveWorker();
+        String accessToken = tokenProvider.generateTokenFromUsername(email);
+        stats(accessToken).andExpect(status().isOk());
+
+        Claims claims = tokenProvider.parseClaims(accessToken);
+        revokedTokenRepository.insert(tokenProvider.tokenId(accessToken, claims),
+            LocalDateTime.ofInstant(claims.getExpiration().toInstant(), ZoneId.systemDefault()),
+            LocalDateTime.now());
+        stats(accessToken).andExpect(status().isOk());
+
+        revocations.sync();
+        stats(accessToken).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void logoutWithoutTokensStillSucceeds() throws Exception {
+        mockMvc.perform(post("/api/auth/logout")).andExpect(status().isOk());
+    }
+
+    private ResultActions stats(String accessToken) throws Exception {
+        return mockMvc.perform(get("/api/dashboard/stats").header("Authorization", "Bearer " + accessToken));
+    }
+
+    private ResultActions refresh(String refreshToken) throws Exception {
+        return mockMvc.perform(post("/api/auth/refresh")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"refreshToken\":\"" + refreshToken + "\"}"));
+    }
+
+    private String saveWorker() {
+        User worker = new User();
+        worker.setEmail("revoke-" + UUID.randomUUID() + "@mes.com");
+        worker.setName("토큰 작업자");
+        worker.setRole(Role.WORKER);
+        worker.setPassword("{noop}password");
+        worker.setIsActive(true);
+        return userRepository.save(worker).getEmail();
+    }
+}
@@ -0,0 +1,112 @@
+package com.mes.mes_inno;
+
+import com.mes.adapter.in.web.security.CustomUserDetailsService;
+import com.mes.adapter.out.persistence.entity.Role;
+import com.mes.adapter.out.persistence.entity.User;
+import com.mes.adapter.out.persistence.repository.UserRepository;
+import com.mes.application.port.in.UserUseCase;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class UserSecondLevelCacheTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserUseCase userUseCase;
+
+    private Statistics statistics;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        user = new User();
+        user.setEmail("l2-" + UUID.randomUUID() + "@mes.com");
+        user.setName("캐시 사용자");
+        user.setRole(Role.WORKER);
+        user.setPassword("{noop}password");
+        user = userRepository.save(user);
+    }
+
+    @Test
+    void repeatedLookupsByIdAndEmailSkipTheDatabase() {
+        userRepository.findById(user.getId()).orElseThrow();
+        userRepository.findByEmail(user.getEmail()).orElseThrow();
+        userRepository.existsByEmail(user.getEmail());
+
+        statistics.clear();
+        assertThat(userRepository.findById(user.getId())).isPresent();
+        assertThat(userRepository.findByEmail(user.getEmail())).isPresent();
+        assertThat(userRepository.existsByEmail(user.getEmail())).isTrue();
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getCacheRegionStatistics(User.CACHE_REGION).getHitCount()).isPositive();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(2);
+    }
+
+    @Test
+    void userServiceChangesAreVisibleThroughTheCaches() {
+        userRepository.findById(user.getId()).orElseThrow();
+        userRepository.findByEmail(user.getEmail()).orElseThrow();
+
+        UserUseCase.UpdateUserCommand command = new UserUseCase.UpdateUserCommand();
+        command.setName("변경된 이름");
+        userUseCase.updateUser(user.getId(), command);
+
+        assertThat(userRepository.findById(user.getId()).orElseThrow().getName()).isEqualTo("변경된 이름");
+        assertThat(userRepository.findByEmail(user.getEmail()).orElseThrow().getName()).isEqualTo("변경된 이름");
+
+        userUseCase.deleteUser(user.getId());
+
+        assertThat(userRepository.findById(user.getId())).isEmpty();
+        assertThat(userRepository.findByEmail(user.getEmail())).isEmpty();
+        assertThat(userRepository.existsByEmail(user.getEmail())).isFalse();
+    }
+
+    @Test
+    void adminEndpointReportsRegionStatistics() throws Exception {
+        userRepository.findById(user.getId()).orElseThrow();
+        userRepository.findById(user.getId()).orElseThrow();
+
+        CustomUserDetailsService.CustomUserDetails principal = new CustomUserDetailsService.CustomUserDetails(
+            1L, "admin@mes.com", "", "관리자", List.of(new SimpleGrantedAuthority("ROLE_ADMIN")), true);
+        UsernamePasswordAuthenticationToken admin =
+            new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+
+        mockMvc.perform(get("/api/admin/caches").with(authentication(admin)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.secondLevelRegions.users.hitCount").isNumber())
+            .andExpect(jsonPath("$.secondLevelRegions['user-queries']").exists())
+            .andExpect(jsonPath("$.queryCache.hitCount").isNumber());
+    }
+}
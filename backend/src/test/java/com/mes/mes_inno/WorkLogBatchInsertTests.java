@@ -0,0 +1,218 @@
+package com.mes.mes_inno;
+
+import com.jayway.jsonpath.JsonPath;
+import com.mes.adapter.in.web.security.CustomUserDetailsService;
+import com.mes.adapter.out.persistence.PooledIdAligner;
+import com.mes.adapter.out.persistence.entity.PooledIds;
+import com.mes.adapter.out.persistence.entity.Role;
+import com.mes.adapter.out.persistence.entity.User;
+import com.mes.adapter.out.persistence.entity.WorkOrder;
+import com.mes.adapter.out.persistence.repository.UserRepository;
+import com.mes.adapter.out.persistence.repository.WorkLogRepository;
+import com.mes.adapter.out.persistence.repository.WorkOrderRepository;
+import com.mes.application.port.in.WorkLogUseCase;
+import com.mes.domain.model.WorkLog;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Compares the one-transaction-per-log write path with the batched path. The rows/sec figures
+ * are logged for comparison only: H2 runs in process, so the round trips that dominate against
+ * MySQL are nearly free here. The statement counts are what the assertions pin down.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class WorkLogBatchInsertTests {
+
+    private static final Logger log = LoggerFactory.getLogger(WorkLogBatchInsertTests.class);
+
+    private static final int ROWS = 500;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private WorkLogUseCase workLogUseCase;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WorkOrderRepository workOrderRepository;
+
+    @Autowired
+    private WorkLogRepository workLogRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+    private Long workerId;
+    private Long workOrderId;
+    private UsernamePasswordAuthenticationToken worker;
+
+    @BeforeAll
+    void seed() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        User user = new User();
+        user.setEmail("batch-worker@mes.com");
+        user.setName("배치작업자");
+        user.setRole(Role.WORKER);
+        user.setPassword("{noop}password");
+        user = userRepository.save(user);
+        workerId = user.getId();
+
+        WorkOrder order = new WorkOrder();
+        order.setOrderNumber("BATCH-1");
+        order.setProductName("배치 제품");
+        order.setQuantity(100);
+        order.setDueDate(LocalDateTime.now().plusDays(7));
+        workOrderId = workOrderRepository.save(order).getId();
+
+        CustomUserDetailsService.CustomUserDetails principal = new CustomUserDetailsService.CustomUserDetails(
+            user.getId(), user.getEmail(), user.getPassword(), user.getName(),
+            List.of(new SimpleGrantedAuthority("ROLE_WORKER")), true);
+        worker = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+
+    @Test
+    void batchedInsertsUseFarFewerStatementsThanOnePerTransaction() {
+        statistics.clear();
+        long start = System.nanoTime();
+        for (int i = 0; i < ROWS; i++) {
+            workLogUseCase.createWorkLog(command(i));
+        }
+        long singleNanos = System.nanoTime() - start;
+        long singleStatements = statistics.getPrepareStatementCount();
+
+        List<WorkLogUseCase.CreateWorkLogCommand> commands = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            commands.add(command(i));
+        }
+        statistics.clear();
+        start = System.nanoTime();
+        List<WorkLog> saved = workLogUseCase.createWorkLogs(commands);
+        long batchNanos = System.nanoTime() - start;
+        long batchStatements = statistics.getPrepareStatementCount();
+
+        log.info("work_logs insert: one per transaction {} rows/s ({} statements), batched {} rows/s ({} statements)",
+            rowsPerSecond(singleNanos), singleStatements, rowsPerSecond(batchNanos), batchStatements);
+
+        assertThat(saved).hasSize(ROWS);
+        assertThat(new HashSet<>(saved.stream().map(WorkLog::getId).toList())).hasSize(ROWS);
+        // Per row: existence check + INSERT. Batched: one IN check, id block reservations, INSERT batches.
+        assertThat(singleStatements).isGreaterThanOrEqualTo(2L * ROWS);
+        assertThat(batchStatements).isLessThan(ROWS / 10);
+    }
+
+    @Test
+    void batchIsRejectedWholeWhenAnyWorkOrderIsMissing() {
+        long before = workLogRepository.count();
+        List<WorkLogUseCase.CreateWorkLogCommand> commands = List.of(command(1), command(2));
+        commands.get(1).setWorkOrderId(Long.MAX_VALUE);
+
+        assertThatThrownBy(() -> workLogUseCase.createWorkLogs(commands))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining(String.valueOf(Long.MAX_VALUE));
+        assertThat(workLogRepository.count()).isEqualTo(before);
+    }
+
+    @Test
+    void batchEndpointReturnsAssignedIds() throws Exception {
+        String body = "{\"logs\": ["
+            + "{\"workOrderId\": " + workOrderId + ", \"action\": \"UPDATE_PROGRESS\", \"progress\": 10},"
+            + "{\"workOrderId\": " + workOrderId + ", \"action\": \"UPDATE_PROGRESS\", \"progress\": 20}"
+            + "]}";
+        mockMvc.perform(post("/api/work-logs/batch").with(authentication(worker))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.created").value(2))
+            .andExpect(result -> {
+                List<Integer> ids = JsonPath.read(result.getResponse().getContentAsString(), "$.ids");
+                assertThat(workLogRepository.findAllById(ids.stream().map(Long::valueOf).toList()))
+                    .allSatisfy(saved -> assertThat(saved.getWorker().getId()).isEqualTo(workerId));
+            });
+    }
+
+    @Test
+    void batchEndpointValidatesEachLog() throws Exception {
+        mockMvc.perform(post("/api/work-logs/batch").with(authentication(worker))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"logs\": [{\"workOrderId\": " + workOrderId + ", \"progress\": 150}]}"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void alignerFallsBackToTheGuardedUpdateWhenAnotherInstanceInsertedFirst() {
+        String select = "SELECT next_val FROM id_sequences WHERE sequence_name = ?";
+        Long original = jdbcTemplate.queryForObject(select, Long.class, "issues");
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM issues", Long.class);
+        try {
+            jdbcTemplate.update("UPDATE id_sequences SET next_val = 0 WHERE sequence_name = ?", "issues");
+
+            // This instance saw no row, but another one has inserted it by the time it tries to
+            JdbcTemplate racing = spy(jdbcTemplate);
+            doReturn(List.of()).when(racing).queryForList(contains("id_sequences"), eq(Long.class), any());
+
+            new PooledIdAligner(racing, entityManagerFactory).align();
+
+            assertThat(jdbcTemplate.queryForObject(select, Long.class, "issues"))
+                .isEqualTo(maxId + PooledIds.ALLOCATION_SIZE);
+        } finally {
+            // The running generator may already hold blocks past the aligned value
+            jdbcTemplate.update("UPDATE id_sequences SET next_val = ? WHERE sequence_name = ?", original, "issues");
+        }
+    }
+
+    private WorkLogUseCase.CreateWorkLogCommand command(int i) {
+        WorkLogUseCase.CreateWorkLogCommand command = new WorkLogUseCase.CreateWorkLogCommand();
+        command.setWorkOrderId(workOrderId);
+        command.setWorkerId(workerId);
+        command.setAction("UPDATE_PROGRESS");
+        command.setProgress(i % 101);
+        return command;
+    }
+
+    private static long rowsPerSecond(long nanos) {
+        return Math.round(ROWS / (nanos / 1_000_000_000.0));
+    }
+}
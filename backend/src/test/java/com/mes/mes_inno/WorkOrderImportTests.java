@@ -0,0 +1,222 @@
+package com.mes.mes_inno;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import com.mes.adapter.in.web.bulk.WorkOrderImporter;
+import com.mes.adapter.in.web.security.CustomUserDetailsService;
+import com.mes.adapter.out.persistence.repository.WorkOrderRepository;
+import com.mes.application.port.in.WorkOrderUseCase;
+import com.mes.common.dto.workorder.WorkOrderImportReportDto;
+import com.mes.common.dto.workorder.WorkOrderImportReportDto.RowResult;
+import com.mes.domain.model.WorkOrder;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.ValidatorFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Bulk import through the HTTP endpoint. The INSERTs go through JdbcTemplate, outside
+ * Hibernate's statement statistics, so the count pinned here is the per-chunk lookups.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class WorkOrderImportTests {
+
+    private static final Logger log = LoggerFactory.getLogger(WorkOrderImportTests.class);
+
+    private static final int ROWS = 5000;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private WorkOrderUseCase workOrderUseCase;
+
+    @Autowired
+    private WorkOrderRepository workOrderRepository;
+
+    @Autowired
+    private ValidatorFactory validatorFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Statistics statistics;
+    private UsernamePasswordAuthenticationToken manager;
+    private String prefix;
+    private String dueDate;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        CustomUserDetailsService.CustomUserDetails principal = new CustomUserDetailsService.CustomUserDetails(
+            1L, "manager@mes.com", "", "관리자", List.of(new SimpleGrantedAuthority("ROLE_MANAGER")), true);
+        manager = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+        prefix = "IMP-" + UUID.randomUUID().toString().substring(0, 8) + "-";
+        dueDate = LocalDateTime.now().plusDays(10).truncatedTo(ChronoUnit.SECONDS).toString();
+    }
+
+    @Test
+    void csvImportCreatesValidRowsInChunksAndReportsTheRest() throws Exception {
+        WorkOrderUseCase.CreateWorkOrderCommand existing = new WorkOrderUseCase.CreateWorkOrderCommand();
+        existing.setOrderNumber(prefix + "2");
+        existing.setProductName("기존 제품");
+        existing.setQuantity(1);
+        existing.setDueDate(LocalDateTime.now().plusDays(1));
+        workOrderUseCase.createWorkOrder(existing);
+
+        StringBuilder csv = new StringBuilder("orderNumber,productName,quantity,dueDate,priority,instructions,assignedToId\r\n");
+        for (int i = 1; i <= ROWS; i++) {
+            csv.append(prefix).append(i).append(",제품 ").append(i % 7).append(',').append(10 + i % 90)
+                .append(',').append(dueDate).append(",HIGH,,\r\n");
+        }
+        csv.append(prefix).append("1,중복 행,5,").append(dueDate).append(",,,\r\n");
+        csv.append(prefix).append("bad-qty,제품,abc,").append(dueDate).append(",,,\r\n");
+        csv.append(prefix).append("no-name,,5,").append(dueDate).append(",,,\r\n");
+        csv.append(prefix).append("bad-user,제품,5,").append(dueDate).append(",,,999999\r\n");
+        csv.append(prefix).append("quoted,\"제품, 특수\",5,").append(dueDate).append(",LOW,\"1행\n\"\"2행\"\"\",\r\n");
+
+        statistics.clear();
+        long start = System.nanoTime();
+        String body = mockMvc.perform(post("/api/work-orders/import").with(authentication(manager))
+                .contentType("text/csv")
+                .content(csv.toString().getBytes(StandardCharsets.UTF_8)))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        long nanos = System.nanoTime() - start;
+        log.info("work order import: {} rows in {} ms ({} rows/s)",
+            ROWS + 5, nanos / 1_000_000, (long) ((ROWS + 5) / (nanos / 1e9)));
+
+        assertThat((Integer) JsonPath.read(body, "$.total")).isEqualTo(ROWS + 5);
+        assertThat((Integer) JsonPath.read(body, "$.created")).isEqualTo(ROWS);
+        assertThat((Integer) JsonPath.read(body, "$.rejected")).isEqualTo(5);
+        List<String> errors = JsonPath.read(body, "$.results[*].error");
+        assertThat(errors.get(1)).isEqualTo("Order number already exists: " + prefix + "2");
+        assertThat(errors.subList(ROWS, ROWS + 5)).containsExactly(
+            "Order number already exists: " + prefix + "1",
+            "Invalid value for quantity",
+            "Product name is required",
+            "User not found with id: 999999",
+            null);
+
+        // At most two IN lookups per chunk of 1000; the assignee lookup is skipped when no row names one
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2L * (ROWS / 1000 + 1));
+
+        Number quotedId = JsonPath.read(body, "$.results[" + (ROWS + 4) + "].id");
+        com.mes.adapter.out.persistence.entity.WorkOrder quoted = workOrderRepository.findById(quotedId.longValue()).orElseThrow();
+        assertThat(quoted.getProductName()).isEqualTo("제품, 특수");
+        assertThat(quoted.getInstructions()).isEqualTo("1행\n\"2행\"");
+        assertThat(quoted.getVersion()).isZero();
+
+        // Sending the same file again creates nothing
+        mockMvc.perform(post("/api/work-orders/import").with(authentication(manager))
+                .contentType("text/csv")
+                .content(csv.toString().getBytes(StandardCharsets.UTF_8)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.created").value(0));
+    }
+
+    @Test
+    void jsonImportReportsBadElementsAndStopsAtMalformedInput() throws Exception {
+        String json = "[" +
+            "{\"orderNumber\": \"" + prefix + "a\", \"productName\": \"제품\", \"quantity\": 3, \"dueDate\": \"" + dueDate + "\"}," +
+            "42," +
+            "{\"orderNumber\": \"" + prefix + "b\", \"productName\": \"제품\", \"quantity\": \"많이\", \"dueDate\": \"" + dueDate + "\"}," +
+            "{\"orderNumber\": \"" + prefix + "c\", \"productName\": \"제품\", \"quantity\": 3, \"dueDate\": \"" + dueDate + "\", \"priority\": \"ASAP\"}," +
+            "{\"orderNumber\": \"" + prefix + "d\", \"productName\": \"제품\", \"quantity\": 3, \"dueDate\": \"" + dueDate + "\"}," +
+            "{\"orderNumber\": ";
+
+        mockMvc.perform(post("/api/work-orders/import").with(authentication(manager))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(json))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.created").value(2))
+            .andExpect(jsonPath("$.rejected").value(3))
+            .andExpect(jsonPath("$.results[1].error").value("Expected a JSON object"))
+            .andExpect(jsonPath("$.results[2].error").value("Invalid value for quantity"))
+            .andExpect(jsonPath("$.results[3].error").value("Invalid priority: ASAP"))
+            .andExpect(jsonPath("$.results[4].orderNumber").value(prefix + "d"))
+            .andExpect(jsonPath("$.error").isString());
+
+        assertThat(workOrderRepository.findByOrderNumber(prefix + "d")).isPresent();
+    }
+
+    @Test
+    void aChunkTheRetryCannotSaveIsReportedAsRejected() throws Exception {
+        WorkOrderUseCase useCase = mock(WorkOrderUseCase.class);
+        when(useCase.importWorkOrders(anyList()))
+            .thenAnswer(invocation -> {
+                List<WorkOrderUseCase.CreateWorkOrderCommand> commands = invocation.getArgument(0);
+                return commands.stream().map(command -> {
+                    WorkOrder order = new WorkOrder();
+                    order.setId(1L);
+                    order.setOrderNumber(command.getOrderNumber());
+                    return WorkOrderUseCase.ImportResult.created(order);
+                }).toList();
+            })
+            .thenThrow(new DataIntegrityViolationException("duplicate key"));
+        WorkOrderImporter importer = new WorkOrderImporter(useCase, validatorFactory, objectMapper, 2);
+
+        StringBuilder csv = new StringBuilder("orderNumber,productName,quantity,dueDate\r\n");
+        for (int i = 1; i <= 4; i++) {
+            csv.append(prefix).append(i).append(",제품,5,").append(dueDate).append("\r\n");
+        }
+        WorkOrderImportReportDto report = importer.importCsv(
+            new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)));
+
+        // The second chunk fails on its first try and again on the retry
+        verify(useCase, times(3)).importWorkOrders(anyList());
+        assertThat(report.getTotal()).isEqualTo(4);
+        assertThat(report.getCreated()).isEqualTo(2);
+        assertThat(report.getResults()).extracting(RowResult::getRow, RowResult::getOrderNumber, RowResult::getStatus, RowResult::getError)
+            .containsExactly(
+                tuple(1, prefix + "1", RowResult.CREATED, null),
+                tuple(2, prefix + "2", RowResult.CREATED, null),
+                tuple(3, prefix + "3", RowResult.REJECTED, "Rejected by a database constraint"),
+                tuple(4, prefix + "4", RowResult.REJECTED, "Rejected by a database constraint"));
+    }
+
+    @Test
+    void unknownCsvColumnRejectsTheWholeRequest() throws Exception {
+        mockMvc.perform(post("/api/work-orders/import").with(authentication(manager))
+                .contentType("text/csv")
+                .content("orderNumber,productNmae\r\nX-1,제품\r\n"))
+            .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,185 @@
+package com.mes.mes_inno;
+
+import com.mes.adapter.in.web.security.CustomUserDetailsService;
+import com.mes.adapter.out.persistence.entity.enums.WorkStatus;
+import com.mes.adapter.out.persistence.repository.WorkOrderRepository;
+import com.mes.application.port.in.WorkOrderUseCase;
+import com.mes.common.exception.GlobalExceptionHandler;
+import com.mes.domain.exception.InvalidStateTransitionException;
+import com.mes.domain.model.WorkOrder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.method.annotation.ExceptionHandlerMethodResolver;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class WorkOrderTransitionTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private WorkOrderUseCase workOrderUseCase;
+
+    @Autowired
+    private WorkOrderRepository workOrderRepository;
+
+    private Statistics statistics;
+    private UsernamePasswordAuthenticationToken manager;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        CustomUserDetailsService.CustomUserDetails principal = new CustomUserDetailsService.CustomUserDetails(
+            1L, "manager@mes.com", "", "관리자", List.of(new SimpleGrantedAuthority("ROLE_MANAGER")), true);
+        manager = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+
+    @Test
+    void startIsOneGuardedUpdatePlusTheEventRead() throws Exception {
+        Long id = createWorkOrder();
+
+        statistics.clear();
+        mockMvc.perform(put("/api/work-orders/" + id + "/start").with(authentication(manager)))
+            .andExpect(status().isOk());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        mockMvc.perform(put("/api/work-orders/" + id + "/start").with(authentication(manager)))
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.message").value("Can only start work from PENDING status"));
+    }
+
+    @Test
+    void transitionsOnAMissingOrderAreNotFound() throws Exception {
+        String missing = "/api/work-orders/" + Long.MAX_VALUE;
+
+        mockMvc.perform(put(missing + "/start").with(authentication(manager)))
+            .andExpect(status().isNotFound());
+        mockMvc.perform(put(missing + "/complete").with(authentication(manager))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"actualQuantity\": 1}"))
+            .andExpect(status().isNotFound());
+        mockMvc.perform(put(missing + "/progress").with(authentication(manager))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"progress\": 10}"))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void completionKeepsActualQuantityAndNotes() throws Exception {
+        Long id = createWorkOrder();
+        workOrderUseCase.startWork(id);
+
+        mockMvc.perform(put("/api/work-orders/" + id + "/complete").with(authentication(manager))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"actualQuantity\": 98, \"notes\": \"완료 메모\"}"))
+            .andExpect(status().isOk());
+
+        com.mes.adapter.out.persistence.entity.WorkOrder row = workOrderRepository.findById(id).orElseThrow();
+        assertThat(row.getStatus()).isEqualTo(WorkStatus.COMPLETED);
+        assertThat(row.getProgress()).isEqualTo(100);
+        assertThat(row.getActualQuantity()).isEqualTo(98);
+        assertThat(row.getNotes()).isEqualTo("완료 메모");
+    }
+
+    @Test
+    void concurrentStartsLetExactlyOneWin() throws Exception {
+        Long id = createWorkOrder();
+        int operators = 8;
+
+        ExecutorService executor = Executors.newFixedThreadPool(operators);
+        try {
+            List<Callable<Boolean>> attempts = new ArrayList<>();
+            for (int i = 0; i < operators; i++) {
+                attempts.add(() -> {
+                    try {
+                        workOrderUseCase.startWork(id);
+                        return true;
+                    } catch (InvalidStateTransitionException e) {
+                        return false;
+                    }
+                });
+            }
+            long wins = 0;
+            for (Future<Boolean> result : executor.invokeAll(attempts)) {
+                if (result.get()) {
+                    wins++;
+                }
+            }
+            assertThat(wins).isEqualTo(1);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void updateWithStaleVersionIsRejected() throws Exception {
+        Long id = createWorkOrder();
+        long version = workOrderRepository.findById(id).orElseThrow().getVersion();
+        workOrderUseCase.updateProgress(id, 10);
+
+        mockMvc.perform(put("/api/work-orders/" + id).with(authentication(manager))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"productName\": \"덮어쓰기\", \"version\": " + version + "}"))
+            .andExpect(status().isConflict());
+
+        mockMvc.perform(put("/api/work-orders/" + id).with(authentication(manager))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"productName\": \"최신 기준 수정\", \"version\": " + (version + 1) + "}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.progress").value(10))
+            .andExpect(jsonPath("$.version").value(version + 2));
+    }
+
+    @Test
+    void onlyRejectedTransitionsAreConflicts() {
+        ExceptionHandlerMethodResolver handlers = new ExceptionHandlerMethodResolver(GlobalExceptionHandler.class);
+
+        assertThat(handlers.resolveMethod(new InvalidStateTransitionException("Can only start work from PENDING status")).getName())
+            .isEqualTo("handleConflictException");
+        // Infrastructure failures wrapped in IllegalStateException stay 500s without their cause text
+        assertThat(handlers.resolveMethod(new IllegalStateException(new IOException("connection reset"))).getName())
+            .isEqualTo("handleGlobalException");
+    }
+
+    private Long createWorkOrder() {
+        WorkOrderUseCase.CreateWorkOrderCommand command = new WorkOrderUseCase.CreateWorkOrderCommand();
+        command.setOrderNumber("TR-" + UUID.randomUUID());
+        command.setProductName("전이 제품");
+        command.setQuantity(100);
+        command.setDueDate(LocalDateTime.now().plusDays(3));
+        WorkOrder created = workOrderUseCase.createWorkOrder(command);
+        return created.getId();
+    }
+}
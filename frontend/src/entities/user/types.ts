@@ -30,6 +30,7 @@ export interface RefreshTokenRequest {
 
 export interface LogoutRequest {
   email: string;
+  refreshToken?: string;
 }
 
 export interface CreateUserRequest {
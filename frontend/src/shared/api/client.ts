@@ -27,6 +27,25 @@ apiClient.interceptors.request.use(
   }
 );
 
+// 리프레시 토큰은 한 번만 쓸 수 있으므로 동시에 401을 받은 요청들이 같은 갱신 결과를 공유
+let refreshing: Promise<string> | null = null;
+
+const refreshAccessToken = (refreshToken: string): Promise<string> => {
+  if (!refreshing) {
+    refreshing = axios
+      .post(`${API_BASE_URL}/auth/refresh`, { refreshToken })
+      .then((response) => {
+        const { accessToken: newAccessToken, refreshToken: newRefreshToken } = response.data;
+        useAuthStore.getState().setTokens(newAccessToken, newRefreshToken);
+        return newAccessToken;
+      })
+      .finally(() => {
+        refreshing = null;
+      });
+  }
+  return refreshing;
+};
+
 // Response 인터셉터 - 토큰 만료 처리
 apiClient.interceptors.response.use(
   (response: AxiosResponse) => {
@@ -41,12 +60,7 @@ apiClient.interceptors.response.use(
       try {
         const { refreshToken } = useAuthStore.getState();
         if (refreshToken) {
-          const response = await axios.post(`${API_BASE_URL}/auth/refresh`, {
-            refreshToken,
-          });
-
-          const { accessToken: newAccessToken, refreshToken: newRefreshToken } = response.data;
-          useAuthStore.getState().setTokens(newAccessToken, newRefreshToken);
+          const newAccessToken = await refreshAccessToken(refreshToken);
 
           originalRequest.headers.Authorization = `Bearer ${newAccessToken}`;
           return apiClient(originalRequest);
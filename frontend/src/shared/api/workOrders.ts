@@ -8,12 +8,12 @@ import {
   WorkLog,
   CreateWorkLogRequest,
 } from "@/entities/production";
-import { WorkOrderQueryParams, WorkLogQueryParams } from "@/shared/types";
+import { CursorPage, WorkOrderQueryParams, WorkLogQueryParams } from "@/shared/types";
 
 export const workOrdersApi = {
   // 모든 작업 지시서 조회
-  getAll: async (params?: WorkOrderQueryParams): Promise<{ data: WorkOrder[] }> => {
-    const response = await apiClient.get<{ data: WorkOrder[] }>("/work-orders", {
+  getAll: async (params?: WorkOrderQueryParams): Promise<CursorPage<WorkOrder>> => {
+    const response = await apiClient.get<CursorPage<WorkOrder>>("/work-orders", {
       params,
     });
     return response.data;
@@ -84,8 +84,10 @@ export const workOrdersApi = {
 
 export const workLogsApi = {
   // 모든 작업 로그 조회
-  getAll: async (params?: WorkLogQueryParams): Promise<WorkLog[]> => {
-    const response = await apiClient.get<WorkLog[]>("/work-logs", { params });
+  getAll: async (params?: WorkLogQueryParams): Promise<CursorPage<WorkLog>> => {
+    const response = await apiClient.get<CursorPage<WorkLog>>("/work-logs", {
+      params,
+    });
     return response.data;
   },
 
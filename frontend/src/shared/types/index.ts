@@ -60,6 +60,14 @@ export interface PaginatedResponse<T> {
   totalPages: number;
 }
 
+// 키셋 커서 페이지 (GET /work-orders, GET /work-logs)
+export interface CursorPage<T> {
+  data: T[];
+  nextCursor: string | null;
+  hasNext: boolean;
+  size: number;
+}
+
 // Error Response Type
 export interface ErrorResponse {
   status: number;
@@ -73,6 +81,8 @@ export interface WorkOrderQueryParams {
   status?: string;
   priority?: string;
   assignedTo?: number;
+  cursor?: string;
+  size?: number;
 }
 
 export interface WorkLogQueryParams {
@@ -81,6 +91,8 @@ export interface WorkLogQueryParams {
   action?: string;
   startDate?: string;
   endDate?: string;
+  cursor?: string;
+  size?: number;
 }
 
 export interface IssueQueryParams {
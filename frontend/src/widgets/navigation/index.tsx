@@ -19,7 +19,10 @@ const Navigation: React.FC = () => {
   const logout = useLogout();
   const handleLogout = async () => {
     try {
-      await logout.mutateAsync({ email: user?.email || "" });
+      await logout.mutateAsync({
+        email: user?.email || "",
+        refreshToken: useAuthStore.getState().refreshToken ?? undefined,
+      });
     } catch (error) {
       console.error("Logout error:", error);
     }